@@ -16,7 +16,7 @@ import pl.polsl.maj.view.IView;
  * </p>
  *
  * @author piotr.maj
- * @version 1.0.2
+ * @version 1.0.3
  */
 @AllArgsConstructor
 public class MatrixController {
@@ -160,7 +160,11 @@ public class MatrixController {
                     view.showMessage("Trace: ".concat(String.valueOf(trace)));
                 }
                 case "6" -> {
-                    matrixA = calc.transpose(matrixA);
+                    if (matrixA.isSquare()) {
+                        calc.transposeInPlace(matrixA);
+                    } else {
+                        matrixA = calc.transpose(matrixA);
+                    }
                     view.showMatrix(matrixA.toString());
                 }
 
@@ -174,20 +178,27 @@ public class MatrixController {
                 case "5" -> {
                     IMatrix matrixB = new BaseMatrix();
                     this.initMatrix(matrixB);
-                    matrixA = calc.substract(matrixA, matrixB);
+                    calc.substractInto(matrixA, matrixB, matrixA);
                     view.showMatrix(matrixA.toString());
                 }
 
                 case "4" -> {
                     IMatrix matrixB = new BaseMatrix();
                     this.initMatrix(matrixB);
-                    matrixA = calc.add(matrixA, matrixB);
+                    calc.addInto(matrixA, matrixB, matrixA);
+                    view.showMatrix(matrixA.toString());
+                }
+
+                case "9" -> {
+                    IMatrix matrixB = new BaseMatrix();
+                    this.initMatrix(matrixB);
+                    matrixA = calc.solve(matrixA, matrixB);
                     view.showMatrix(matrixA.toString());
                 }
 
                 case "2" -> {
                     double scalar = view.getScalar();
-                    matrixA = calc.multiplyByScalar(matrixA, scalar);
+                    calc.scaleInPlace(matrixA, scalar);
                     view.showMatrix(matrixA.toString());
                 }
 
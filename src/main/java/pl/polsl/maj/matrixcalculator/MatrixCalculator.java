@@ -5,16 +5,14 @@ import pl.polsl.maj.controller.MatrixController;
 import pl.polsl.maj.model.IMatrix;
 import pl.polsl.maj.model.BaseMatrix;
 import pl.polsl.maj.model.ArrayListMatrix;
+import pl.polsl.maj.model.DenseMatrix;
 
 import pl.polsl.maj.model.operations.MatrixOperations;
-import pl.polsl.maj.model.operations.simpleoperations.SimpleAdd;
-import pl.polsl.maj.model.operations.simpleoperations.SimpleDeterminant;
-import pl.polsl.maj.model.operations.simpleoperations.SimpleInverse;
-import pl.polsl.maj.model.operations.simpleoperations.SimpleMultiply;
-import pl.polsl.maj.model.operations.simpleoperations.SimpleMultiplyByScalar;
-import pl.polsl.maj.model.operations.simpleoperations.SimpleSubstract;
-import pl.polsl.maj.model.operations.simpleoperations.SimpleTrace;
-import pl.polsl.maj.model.operations.simpleoperations.SimpleTranspose;
+import pl.polsl.maj.model.operations.fastoperations.LUDeterminant;
+import pl.polsl.maj.model.operations.fastoperations.LUInverse;
+import pl.polsl.maj.model.operations.fastoperations.LUSolve;
+import pl.polsl.maj.model.operations.fastoperations.ParallelMultiply;
+import pl.polsl.maj.model.operations.vectoroperations.VectorSupport;
 
 import pl.polsl.maj.view.ConsoleView;
 import pl.polsl.maj.view.SwingView;
@@ -52,17 +50,19 @@ public class MatrixCalculator {
         IView view = new SwingView();
 
 //        IMatrix model = new BaseMatrix();
-        IMatrix model = new ArrayListMatrix();
+//        IMatrix model = new ArrayListMatrix();
+        IMatrix model = new DenseMatrix();
 
         MatrixOperations calc = new MatrixOperations(
-            new SimpleDeterminant(),
-            new SimpleMultiplyByScalar(),
-            new SimpleMultiply(),
-            new SimpleAdd(),
-            new SimpleSubstract(),
-            new SimpleTranspose(),
-            new SimpleInverse(),
-            new SimpleTrace()
+            new LUDeterminant(),
+            VectorSupport.multiplyByScalar(),
+            new ParallelMultiply(),
+            VectorSupport.add(),
+            VectorSupport.substract(),
+            VectorSupport.transpose(),
+            new LUInverse(),
+            VectorSupport.trace(),
+            new LUSolve()
         );
 
         MatrixController controller = new MatrixController(view, model, calc);
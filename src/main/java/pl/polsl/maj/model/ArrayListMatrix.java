@@ -113,6 +113,57 @@ public class ArrayListMatrix implements IMatrix {
         this.data.get(r).set(c, value);
     }
 
+    @Override
+    public void getRow(int r, double[] dst) throws MatrixException {
+        if (r < 0 || r >= rows) throw new MatrixException("Row index out of bounds");
+        if (dst == null || dst.length < cols) throw new MatrixException("Destination array too short");
+        int c = 0;
+        for (Double value : this.data.get(r)) {
+            dst[c++] = value;
+        }
+    }
+
+    @Override
+    public void getColumn(int c, double[] dst) throws MatrixException {
+        if (c < 0 || c >= cols) throw new MatrixException("Column index out of bounds");
+        if (dst == null || dst.length < rows) throw new MatrixException("Destination array too short");
+        int r = 0;
+        for (java.util.List<Double> row : this.data) {
+            dst[r++] = row.get(c);
+        }
+    }
+
+    @Override
+    public void setRow(int r, double[] src) throws MatrixException {
+        if (r < 0 || r >= rows) throw new MatrixException("Row index out of bounds");
+        if (src == null || src.length < cols) throw new MatrixException("Source array too short");
+        java.util.List<Double> row = new java.util.ArrayList<>(cols);
+        for (int c = 0; c < cols; ++c) {
+            row.add(src[c]);
+        }
+        this.data.set(r, row);
+    }
+
+    @Override
+    public void copyTo(double[] dst, int offset) throws MatrixException {
+        if (dst == null || offset < 0 || dst.length - offset < rows * cols) {
+            throw new MatrixException("Destination array too short");
+        }
+        int idx = offset;
+        for (java.util.List<Double> row : this.data) {
+            for (Double value : row) {
+                dst[idx++] = value;
+            }
+        }
+    }
+
+    @Override
+    public void fill(double value) {
+        for (java.util.List<Double> row : this.data) {
+            Collections.fill(row, value);
+        }
+    }
+
     @Override
     public void init(int rows, int cols) throws MatrixException {
         if(rows <= 0 || cols <= 0) {
@@ -181,6 +232,31 @@ public class ArrayListMatrix implements IMatrix {
         return m;
     }
 
+    @Override
+    public void init(PrimitiveMatrixData md) throws MatrixException {
+        if (md == null || !md.isValid()) throw new MatrixException("Invalid matrix data");
+        java.nio.DoubleBuffer values = md.data();
+        java.util.List<java.util.List<Double>> list = new java.util.ArrayList<>(md.rows());
+        int idx = 0;
+        for (int i = 0; i < md.rows(); i++) {
+            java.util.List<Double> inner = new java.util.ArrayList<>(md.cols());
+            for (int j = 0; j < md.cols(); j++) {
+                inner.add(values.get(idx++));
+            }
+            list.add(inner);
+        }
+        this.rows = md.rows();
+        this.cols = md.cols();
+        this.data = list;
+    }
+
+    @Override
+    public IMatrix createSameType(PrimitiveMatrixData md) throws MatrixException {
+        ArrayListMatrix m = new ArrayListMatrix();
+        m.init(md);
+        return m;
+    }
+
     @Override
     public boolean isEqualSize(IMatrix other) {
         return this.rows == other.getRows() && this.cols == other.getCols();
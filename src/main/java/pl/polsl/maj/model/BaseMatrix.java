@@ -121,6 +121,25 @@ public class BaseMatrix implements IMatrix {
         }
     }
     
+    /**
+     * Initialize the matrix from primitive data, copying each row with one
+     * bulk buffer read.
+     *
+     * @param md record containing rows, cols and row-major values
+     * @throws MatrixException when provided data is invalid
+     */
+    @Override
+    public void init(PrimitiveMatrixData md) throws MatrixException {
+        if (md == null || !md.isValid()) throw new MatrixException("Invalid matrix data");
+        double[][] values = new double[md.rows()][md.cols()];
+        for (int i = 0; i < md.rows(); ++i) {
+            md.data().get(i * md.cols(), values[i]);
+        }
+        this.rows = md.rows();
+        this.cols = md.cols();
+        this.data = values;
+    }
+
     /**
      * Get value at (r,c).
      *
@@ -153,6 +172,46 @@ public class BaseMatrix implements IMatrix {
         data[r][c] = value;
     }
 
+    @Override
+    public void getRow(int r, double[] dst) throws MatrixException {
+        if (r < 0 || r >= rows) throw new MatrixException("Row index out of bounds");
+        if (dst == null || dst.length < cols) throw new MatrixException("Destination array too short");
+        System.arraycopy(data[r], 0, dst, 0, cols);
+    }
+
+    @Override
+    public void getColumn(int c, double[] dst) throws MatrixException {
+        if (c < 0 || c >= cols) throw new MatrixException("Column index out of bounds");
+        if (dst == null || dst.length < rows) throw new MatrixException("Destination array too short");
+        for (int i = 0; i < rows; ++i) {
+            dst[i] = data[i][c];
+        }
+    }
+
+    @Override
+    public void setRow(int r, double[] src) throws MatrixException {
+        if (r < 0 || r >= rows) throw new MatrixException("Row index out of bounds");
+        if (src == null || src.length < cols) throw new MatrixException("Source array too short");
+        System.arraycopy(src, 0, data[r], 0, cols);
+    }
+
+    @Override
+    public void copyTo(double[] dst, int offset) throws MatrixException {
+        if (dst == null || offset < 0 || dst.length - offset < rows * cols) {
+            throw new MatrixException("Destination array too short");
+        }
+        for (int i = 0; i < rows; ++i) {
+            System.arraycopy(data[i], 0, dst, offset + i * cols, cols);
+        }
+    }
+
+    @Override
+    public void fill(double value) {
+        for (int i = 0; i < rows; ++i) {
+            java.util.Arrays.fill(data[i], value);
+        }
+    }
+
     @Override
     public int getRows() {
         return rows;
@@ -178,6 +237,13 @@ public class BaseMatrix implements IMatrix {
         return new BaseMatrix(data);
     }
 
+    @Override
+    public IMatrix createSameType(PrimitiveMatrixData data) throws MatrixException {
+        BaseMatrix m = new BaseMatrix();
+        m.init(data);
+        return m;
+    }
+
     @Override
     public boolean isEqualSize(IMatrix other) {
         return this.rows == other.getRows() && this.cols == other.getCols();
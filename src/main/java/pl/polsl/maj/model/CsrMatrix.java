@@ -0,0 +1,545 @@
+package pl.polsl.maj.model;
+
+import java.util.Arrays;
+import pl.polsl.maj.exceptions.MatrixException;
+
+/**
+ * Sparse implementation of {@link IMatrix} in compressed sparse row (CSR)
+ * format.
+ * <p>
+ * Only non-zero values are stored: {@code values[p]} lies in column
+ * {@code columnIndices[p]}, and the entries of row {@code r} occupy positions
+ * {@code rowPointers[r]} to {@code rowPointers[r + 1] - 1}, sorted by column.
+ * Memory is O(rows + nnz) instead of O(rows * cols). Random reads cost a
+ * binary search within a row; inserting a new non-zero through
+ * {@link #set(int, int, double)} shifts the arrays and is O(nnz), so large
+ * matrices should be assembled with a {@link Builder}.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.1
+ */
+public class CsrMatrix implements IMatrix {
+    /** Number of rows in the matrix. */
+    private int rows;
+    /** Number of columns in the matrix. */
+    private int cols;
+    /** Start of every row in {@link #columnIndices} / {@link #values} (rows + 1 entries). */
+    private int[] rowPointers;
+    /** Column of every stored value. */
+    private int[] columnIndices;
+    /** Stored non-zero values. */
+    private double[] values;
+    /** Number of stored values (may be less than the array capacity). */
+    private int nnz;
+
+    /**
+     * Create an empty matrix (0x0).
+     */
+    public CsrMatrix() {
+        this.rows = 0;
+        this.cols = 0;
+        this.rowPointers = new int[1];
+        this.columnIndices = new int[0];
+        this.values = new double[0];
+        this.nnz = 0;
+    }
+
+    /**
+     * Create an all-zero matrix with given dimensions.
+     *
+     * @param rows number of rows (must be > 0)
+     * @param cols number of columns (must be > 0)
+     * @throws MatrixException when dimensions are invalid
+     */
+    public CsrMatrix(int rows, int cols) throws MatrixException {
+        init(rows, cols);
+    }
+
+    /**
+     * Create a matrix from a 2D array, storing only its non-zero values.
+     *
+     * @param data 2D array with matrix values
+     * @throws MatrixException when data is null, empty or not rectangular
+     */
+    public CsrMatrix(double[][] data) throws MatrixException {
+        init(data);
+    }
+
+    /**
+     * Create a matrix which adopts the given CSR arrays without copying.
+     * Column indices within every row must be strictly increasing.
+     *
+     * @param rows number of rows
+     * @param cols number of columns
+     * @param rowPointers row start offsets ({@code rows + 1} entries)
+     * @param columnIndices column of every value
+     * @param values stored values
+     * @return matrix backed by the given arrays
+     * @throws MatrixException when the arrays are inconsistent
+     */
+    public static CsrMatrix fromArrays(int rows, int cols, int[] rowPointers, int[] columnIndices,
+                                       double[] values) throws MatrixException {
+        if (rows <= 0 || cols <= 0) {
+            throw new MatrixException("Invalid number of rows or columns");
+        }
+        if (rowPointers == null || rowPointers.length != rows + 1 || rowPointers[0] != 0
+                || columnIndices == null || values == null
+                || columnIndices.length < rowPointers[rows] || values.length < rowPointers[rows]) {
+            throw new MatrixException("Invalid sparse matrix data");
+        }
+
+        CsrMatrix m = new CsrMatrix();
+        m.rows = rows;
+        m.cols = cols;
+        m.rowPointers = rowPointers;
+        m.columnIndices = columnIndices;
+        m.values = values;
+        m.nnz = rowPointers[rows];
+        return m;
+    }
+
+    /**
+     * Coordinate-list (COO) builder for {@link CsrMatrix}.
+     * <p>
+     * Entries may be added in any order; duplicates are summed and entries
+     * which end up zero are dropped when {@link #build()} converts the list
+     * to CSR in O(nnz + rows) time plus sorting within rows.
+     * </p>
+     */
+    public static final class Builder {
+        private final int rows;
+        private final int cols;
+        private int[] entryRows = new int[16];
+        private int[] entryCols = new int[16];
+        private double[] entryValues = new double[16];
+        private int size;
+
+        /**
+         * Create a builder for a matrix with given dimensions.
+         *
+         * @param rows number of rows (must be > 0)
+         * @param cols number of columns (must be > 0)
+         * @throws MatrixException when dimensions are invalid
+         */
+        public Builder(int rows, int cols) throws MatrixException {
+            if (rows <= 0 || cols <= 0) {
+                throw new MatrixException("Invalid number of rows or columns");
+            }
+            this.rows = rows;
+            this.cols = cols;
+        }
+
+        /**
+         * Add a value at (r,c). Values added twice for the same position are
+         * summed.
+         *
+         * @param r row index
+         * @param c column index
+         * @param value value to add
+         * @return this builder
+         * @throws MatrixException when indices are out of bounds
+         */
+        public Builder add(int r, int c, double value) throws MatrixException {
+            if (r < 0 || c < 0 || r >= rows || c >= cols) {
+                throw new MatrixException("Row or column index out of bounds");
+            }
+            if (value == 0.0) {
+                return this;
+            }
+            if (size == entryRows.length) {
+                int capacity = size * 2;
+                entryRows = Arrays.copyOf(entryRows, capacity);
+                entryCols = Arrays.copyOf(entryCols, capacity);
+                entryValues = Arrays.copyOf(entryValues, capacity);
+            }
+            entryRows[size] = r;
+            entryCols[size] = c;
+            entryValues[size] = value;
+            ++size;
+            return this;
+        }
+
+        /**
+         * Convert the collected entries to a CSR matrix.
+         *
+         * @return new sparse matrix
+         * @throws MatrixException when the matrix cannot be created
+         */
+        public CsrMatrix build() throws MatrixException {
+            // counting sort by row
+            int[] ptr = new int[rows + 1];
+            for (int i = 0; i < size; ++i) {
+                ptr[entryRows[i] + 1]++;
+            }
+            for (int r = 0; r < rows; ++r) {
+                ptr[r + 1] += ptr[r];
+            }
+            int[] next = Arrays.copyOf(ptr, rows);
+            int[] colIdx = new int[size];
+            double[] vals = new double[size];
+            for (int i = 0; i < size; ++i) {
+                int pos = next[entryRows[i]]++;
+                colIdx[pos] = entryCols[i];
+                vals[pos] = entryValues[i];
+            }
+
+            // sort every row by column and merge duplicates
+            int[] outPtr = new int[rows + 1];
+            int out = 0;
+            for (int r = 0; r < rows; ++r) {
+                int from = ptr[r];
+                int to = ptr[r + 1];
+                sortRow(colIdx, vals, from, to);
+                int p = from;
+                while (p < to) {
+                    int c = colIdx[p];
+                    double sum = 0.0;
+                    while (p < to && colIdx[p] == c) {
+                        sum += vals[p++];
+                    }
+                    if (sum != 0.0) {
+                        colIdx[out] = c;
+                        vals[out] = sum;
+                        ++out;
+                    }
+                }
+                outPtr[r + 1] = out;
+            }
+
+            return fromArrays(rows, cols, outPtr, colIdx, vals);
+        }
+
+        /** Insertion sort of one row segment by column (rows are short). */
+        private static void sortRow(int[] colIdx, double[] vals, int from, int to) {
+            for (int i = from + 1; i < to; ++i) {
+                int c = colIdx[i];
+                double v = vals[i];
+                int j = i - 1;
+                while (j >= from && colIdx[j] > c) {
+                    colIdx[j + 1] = colIdx[j];
+                    vals[j + 1] = vals[j];
+                    --j;
+                }
+                colIdx[j + 1] = c;
+                vals[j + 1] = v;
+            }
+        }
+    }
+
+    /**
+     * Replace the contents with a copy of another sparse matrix of the same
+     * size in O(rows + nnz), without going through dense rows.
+     *
+     * @param other matrix whose values are copied
+     * @throws MatrixException when the matrices differ in size
+     */
+    public void assign(CsrMatrix other) throws MatrixException {
+        if (other == null || !isEqualSize(other)) {
+            throw new MatrixException("Matrices must be equal in size");
+        }
+        if (other == this) {
+            return;
+        }
+
+        this.rowPointers = other.rowPointers.clone();
+        this.columnIndices = Arrays.copyOf(other.columnIndices, other.nnz);
+        this.values = Arrays.copyOf(other.values, other.nnz);
+        this.nnz = other.nnz;
+    }
+
+    /**
+     * Return the number of stored values.
+     *
+     * @return number of non-zero entries
+     */
+    public int nnz() {
+        return nnz;
+    }
+
+    /**
+     * Expose the row start offsets (no copy). Intended for sparse kernels;
+     * the array must not be modified.
+     *
+     * @return row pointer array ({@code rows + 1} entries)
+     */
+    public int[] rowPointers() {
+        return rowPointers;
+    }
+
+    /**
+     * Expose the column indices (no copy). Intended for sparse kernels;
+     * the array must not be modified. Only the first {@link #nnz()} entries
+     * are meaningful.
+     *
+     * @return column index array
+     */
+    public int[] columnIndices() {
+        return columnIndices;
+    }
+
+    /**
+     * Expose the stored values (no copy). Writes to the array change the
+     * matrix, which lets in-place kernels update values without touching the
+     * sparsity pattern. Only the first {@link #nnz()} entries are meaningful.
+     *
+     * @return value array
+     */
+    public double[] values() {
+        return values;
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getCols() {
+        return cols;
+    }
+
+    @Override
+    public boolean isSquare() {
+        return rows == cols;
+    }
+
+    @Override
+    public double get(int r, int c) throws MatrixException {
+        if (r < 0 || c < 0 || c >= cols || r >= rows) {
+            throw new MatrixException("Row or column index out of bounds");
+        }
+        int pos = find(r, c);
+        return pos >= 0 ? values[pos] : 0.0;
+    }
+
+    @Override
+    public void set(int r, int c, double value) throws MatrixException {
+        if (r < 0 || c < 0 || c >= cols || r >= rows) {
+            throw new MatrixException("Row or column index out of bounds");
+        }
+        int pos = find(r, c);
+        if (pos >= 0) {
+            values[pos] = value;
+            return;
+        }
+        if (value == 0.0) {
+            return;
+        }
+
+        int insert = -pos - 1;
+        if (nnz == values.length) {
+            int capacity = Math.max(8, nnz * 2);
+            columnIndices = Arrays.copyOf(columnIndices, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        System.arraycopy(columnIndices, insert, columnIndices, insert + 1, nnz - insert);
+        System.arraycopy(values, insert, values, insert + 1, nnz - insert);
+        columnIndices[insert] = c;
+        values[insert] = value;
+        ++nnz;
+        for (int i = r + 1; i <= rows; ++i) {
+            rowPointers[i]++;
+        }
+    }
+
+    /**
+     * Locate (r,c) in the storage.
+     *
+     * @return position of the value, or {@code -(insertion point) - 1} when absent
+     */
+    private int find(int r, int c) {
+        int lo = rowPointers[r];
+        int hi = rowPointers[r + 1] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int mc = columnIndices[mid];
+            if (mc < c) {
+                lo = mid + 1;
+            } else if (mc > c) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -lo - 1;
+    }
+
+    @Override
+    public void getRow(int r, double[] dst) throws MatrixException {
+        if (r < 0 || r >= rows) throw new MatrixException("Row index out of bounds");
+        if (dst == null || dst.length < cols) throw new MatrixException("Destination array too short");
+        Arrays.fill(dst, 0, cols, 0.0);
+        for (int p = rowPointers[r]; p < rowPointers[r + 1]; ++p) {
+            dst[columnIndices[p]] = values[p];
+        }
+    }
+
+    @Override
+    public void setRow(int r, double[] src) throws MatrixException {
+        if (r < 0 || r >= rows) throw new MatrixException("Row index out of bounds");
+        if (src == null || src.length < cols) throw new MatrixException("Source array too short");
+
+        int count = 0;
+        for (int c = 0; c < cols; ++c) {
+            if (src[c] != 0.0) ++count;
+        }
+
+        int from = rowPointers[r];
+        int to = rowPointers[r + 1];
+        int delta = count - (to - from);
+        if (nnz + delta > values.length) {
+            int capacity = Math.max(nnz + delta, nnz * 2);
+            columnIndices = Arrays.copyOf(columnIndices, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        System.arraycopy(columnIndices, to, columnIndices, to + delta, nnz - to);
+        System.arraycopy(values, to, values, to + delta, nnz - to);
+
+        int p = from;
+        for (int c = 0; c < cols; ++c) {
+            if (src[c] != 0.0) {
+                columnIndices[p] = c;
+                values[p] = src[c];
+                ++p;
+            }
+        }
+        nnz += delta;
+        for (int i = r + 1; i <= rows; ++i) {
+            rowPointers[i] += delta;
+        }
+    }
+
+    @Override
+    public void copyTo(double[] dst, int offset) throws MatrixException {
+        if (dst == null || offset < 0 || dst.length - offset < rows * cols) {
+            throw new MatrixException("Destination array too short");
+        }
+        Arrays.fill(dst, offset, offset + rows * cols, 0.0);
+        for (int r = 0; r < rows; ++r) {
+            int base = offset + r * cols;
+            for (int p = rowPointers[r]; p < rowPointers[r + 1]; ++p) {
+                dst[base + columnIndices[p]] = values[p];
+            }
+        }
+    }
+
+    @Override
+    public void fill(double value) {
+        if (value == 0.0) {
+            Arrays.fill(rowPointers, 0);
+            nnz = 0;
+            return;
+        }
+
+        int total = rows * cols;
+        columnIndices = new int[total];
+        values = new double[total];
+        for (int r = 0; r < rows; ++r) {
+            rowPointers[r + 1] = (r + 1) * cols;
+            for (int c = 0; c < cols; ++c) {
+                columnIndices[r * cols + c] = c;
+            }
+        }
+        Arrays.fill(values, value);
+        nnz = total;
+    }
+
+    @Override
+    public void init(int rows, int cols) throws MatrixException {
+        if (rows <= 0 || cols <= 0) {
+            throw new MatrixException("Invalid number of rows or columns");
+        }
+
+        this.rows = rows;
+        this.cols = cols;
+        this.rowPointers = new int[rows + 1];
+        this.columnIndices = new int[0];
+        this.values = new double[0];
+        this.nnz = 0;
+    }
+
+    @Override
+    public void init(double[][] data) throws MatrixException {
+        if (data == null || data.length == 0 || data[0] == null || data[0].length == 0) {
+            throw new MatrixException("Invalid matrix data");
+        }
+
+        int r = data.length;
+        int c = data[0].length;
+        Builder builder = new Builder(r, c);
+        for (int i = 0; i < r; ++i) {
+            if (data[i] == null || data[i].length != c) {
+                throw new MatrixException("Invalid matrix data: inconsistent row lengths");
+            }
+            for (int j = 0; j < c; ++j) {
+                builder.add(i, j, data[i][j]);
+            }
+        }
+        adopt(builder.build());
+    }
+
+    @Override
+    public void init(PrimitiveMatrixData md) throws MatrixException {
+        if (md == null || !md.isValid()) throw new MatrixException("Invalid matrix data");
+        Builder builder = new Builder(md.rows(), md.cols());
+        int idx = 0;
+        for (int i = 0; i < md.rows(); ++i) {
+            for (int j = 0; j < md.cols(); ++j) {
+                builder.add(i, j, md.data().get(idx++));
+            }
+        }
+        adopt(builder.build());
+    }
+
+    /** Take over the storage of another matrix. */
+    private void adopt(CsrMatrix other) {
+        this.rows = other.rows;
+        this.cols = other.cols;
+        this.rowPointers = other.rowPointers;
+        this.columnIndices = other.columnIndices;
+        this.values = other.values;
+        this.nnz = other.nnz;
+    }
+
+    @Override
+    public IMatrix createSameType(int rows, int cols) throws MatrixException {
+        return new CsrMatrix(rows, cols);
+    }
+
+    @Override
+    public IMatrix createSameType(double[][] data) throws MatrixException {
+        return new CsrMatrix(data);
+    }
+
+    @Override
+    public IMatrix createSameType(PrimitiveMatrixData data) throws MatrixException {
+        CsrMatrix m = new CsrMatrix();
+        m.init(data);
+        return m;
+    }
+
+    @Override
+    public boolean isEqualSize(IMatrix other) {
+        return this.rows == other.getRows() && this.cols == other.getCols();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder str = new StringBuilder();
+        str.append(rows).append(" ").append(cols);
+
+        double[] row = new double[cols];
+        for (int i = 0; i < rows; ++i) {
+            Arrays.fill(row, 0.0);
+            for (int p = rowPointers[i]; p < rowPointers[i + 1]; ++p) {
+                row[columnIndices[p]] = values[p];
+            }
+            for (int j = 0; j < cols; ++j) {
+                str.append(" ").append(row[j]);
+            }
+        }
+
+        return str.toString();
+    }
+}
@@ -0,0 +1,324 @@
+package pl.polsl.maj.model;
+
+import pl.polsl.maj.exceptions.MatrixException;
+
+/**
+ * Contiguous implementation of {@link IMatrix} which stores all elements in a
+ * single flat {@code double[]} array in row-major order.
+ * <p>
+ * Element {@code (r, c)} lives at index {@code r * cols + c}, i.e. the row
+ * stride equals the number of columns. Compared to {@link BaseMatrix} there
+ * is no per-row array object and no pointer chasing when moving between
+ * rows, and compared to {@link ArrayListMatrix} no value is boxed. This makes
+ * it the preferred storage for large matrices.
+ * </p>
+ * <p>
+ * Numerical kernels do not go through the checked
+ * {@link #get(int, int)} / {@link #set(int, int, double)} accessors; they
+ * obtain the backing array once through
+ * {@link MatrixArrays#rowMajorStorage(IMatrix)} and index it directly.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.1
+ */
+public class DenseMatrix implements IMatrix {
+    /** Underlying row-major storage (rows * cols values). May be {@code null}
+     *  for an empty matrix. */
+    private double[] data;
+    /** Number of rows in the matrix. */
+    private int rows;
+    /** Number of columns in the matrix (also the row stride). */
+    private int cols;
+
+    /**
+     * Create an empty matrix (0x0). The internal storage is {@code null} until
+     * {@link #init(int, int)} or {@link #init(double[][])} is called.
+     */
+    public DenseMatrix() {
+        this.rows = 0;
+        this.cols = 0;
+        this.data = null;
+    }
+
+    /**
+     * Create a matrix with given dimensions initialized with zeros.
+     *
+     * @param rows number of rows (must be > 0)
+     * @param cols number of columns (must be > 0)
+     * @throws MatrixException when dimensions are invalid
+     */
+    public DenseMatrix(int rows, int cols) throws MatrixException {
+        init(rows, cols);
+    }
+
+    /**
+     * Create a matrix initialized from a 2D array. The provided array must
+     * be rectangular (all rows same length) and not empty.
+     *
+     * @param data 2D array with matrix values
+     * @throws MatrixException when data is null, empty or not rectangular
+     */
+    public DenseMatrix(double[][] data) throws MatrixException {
+        init(data);
+    }
+
+    /**
+     * Create a matrix which adopts the given row-major array as its storage
+     * without copying it. The caller must not use the array afterwards.
+     *
+     * @param rows number of rows
+     * @param cols number of columns
+     * @param data row-major values, length must equal {@code rows * cols}
+     * @return matrix backed by {@code data}
+     * @throws MatrixException when dimensions do not match the array length
+     */
+    static DenseMatrix wrap(int rows, int cols, double[] data) throws MatrixException {
+        if (rows <= 0 || cols <= 0) {
+            throw new MatrixException("Invalid number of rows or columns");
+        }
+        if (data == null || data.length != rows * cols) {
+            throw new MatrixException("Invalid matrix data size");
+        }
+
+        DenseMatrix m = new DenseMatrix();
+        m.rows = rows;
+        m.cols = cols;
+        m.data = data;
+        return m;
+    }
+
+    /**
+     * Initialize the matrix with the given dimensions (zeros).
+     *
+     * @param rows number of rows
+     * @param cols number of columns
+     * @throws MatrixException when dimensions are invalid
+     */
+    @Override
+    public void init(int rows, int cols) throws MatrixException {
+        if (rows <= 0 || cols <= 0) {
+            throw new MatrixException("Invalid number of rows or columns");
+        }
+
+        this.rows = rows;
+        this.cols = cols;
+        this.data = new double[rows * cols];
+    }
+
+    /**
+     * Initialize the matrix from a 2D array.
+     *
+     * @param data 2D array with values
+     * @throws MatrixException when data is invalid
+     */
+    @Override
+    public void init(double[][] data) throws MatrixException {
+        if (data == null || data.length == 0 || data[0] == null || data[0].length == 0) {
+            throw new MatrixException("Invalid matrix data");
+        }
+
+        int r = data.length;
+        int c = data[0].length;
+        double[] flat = new double[r * c];
+
+        for (int i = 0; i < r; ++i) {
+            if (data[i] == null || data[i].length != c) {
+                throw new MatrixException("Invalid matrix data: inconsistent row lengths");
+            }
+
+            System.arraycopy(data[i], 0, flat, i * c, c);
+        }
+
+        this.rows = r;
+        this.cols = c;
+        this.data = flat;
+    }
+
+    @Override
+    public void init(MatrixData md) throws MatrixException {
+        if (md == null) throw new MatrixException("Invalid matrix data");
+        if (md.data() == null || md.data().size() != md.rows() * md.cols()) {
+            throw new MatrixException("Invalid matrix data size");
+        }
+
+        init(md.rows(), md.cols());
+        int idx = 0;
+        for (Double value : md.data()) {
+            this.data[idx++] = value;
+        }
+    }
+
+    /**
+     * Initialize the matrix from primitive data with a single bulk copy.
+     *
+     * @param md record containing rows, cols and row-major values
+     * @throws MatrixException when provided data is invalid
+     */
+    @Override
+    public void init(PrimitiveMatrixData md) throws MatrixException {
+        if (md == null || !md.isValid()) throw new MatrixException("Invalid matrix data");
+        double[] values = new double[md.rows() * md.cols()];
+        md.data().get(0, values);
+        this.rows = md.rows();
+        this.cols = md.cols();
+        this.data = values;
+    }
+
+    /**
+     * Get value at (r,c).
+     *
+     * @param r row index
+     * @param c column index
+     * @return value at given position
+     * @throws MatrixException when indices are out of bounds
+     */
+    @Override
+    public double get(int r, int c) throws MatrixException {
+        if (r < 0 || c < 0 || c >= cols || r >= rows) {
+            throw new MatrixException("Row or column index out of bounds");
+        }
+        return data[r * cols + c];
+    }
+
+    /**
+     * Set value at (r,c).
+     *
+     * @param r row index
+     * @param c column index
+     * @param value value to set
+     * @throws MatrixException when indices are out of bounds
+     */
+    @Override
+    public void set(int r, int c, double value) throws MatrixException {
+        if (r < 0 || c < 0 || c >= cols || r >= rows) {
+            throw new MatrixException("Row or column index out of bounds");
+        }
+        data[r * cols + c] = value;
+    }
+
+    @Override
+    public void getRow(int r, double[] dst) throws MatrixException {
+        if (r < 0 || r >= rows) throw new MatrixException("Row index out of bounds");
+        if (dst == null || dst.length < cols) throw new MatrixException("Destination array too short");
+        System.arraycopy(data, r * cols, dst, 0, cols);
+    }
+
+    @Override
+    public void getColumn(int c, double[] dst) throws MatrixException {
+        if (c < 0 || c >= cols) throw new MatrixException("Column index out of bounds");
+        if (dst == null || dst.length < rows) throw new MatrixException("Destination array too short");
+        for (int i = 0, idx = c; i < rows; ++i, idx += cols) {
+            dst[i] = data[idx];
+        }
+    }
+
+    @Override
+    public void setRow(int r, double[] src) throws MatrixException {
+        if (r < 0 || r >= rows) throw new MatrixException("Row index out of bounds");
+        if (src == null || src.length < cols) throw new MatrixException("Source array too short");
+        System.arraycopy(src, 0, data, r * cols, cols);
+    }
+
+    @Override
+    public void copyTo(double[] dst, int offset) throws MatrixException {
+        if (dst == null || offset < 0 || dst.length - offset < rows * cols) {
+            throw new MatrixException("Destination array too short");
+        }
+        if (data != null) {
+            System.arraycopy(data, 0, dst, offset, rows * cols);
+        }
+    }
+
+    @Override
+    public void fill(double value) {
+        if (data != null) {
+            java.util.Arrays.fill(data, value);
+        }
+    }
+
+    /**
+     * Expose the backing row-major array (no copy).
+     *
+     * @return backing storage, {@code null} for an empty matrix
+     */
+    double[] elements() {
+        return data;
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getCols() {
+        return cols;
+    }
+
+    @Override
+    public boolean isSquare() {
+        return cols == rows;
+    }
+
+    @Override
+    public IMatrix createSameType(int rows, int cols) throws MatrixException {
+        return new DenseMatrix(rows, cols);
+    }
+
+    @Override
+    public IMatrix createSameType(double[][] data) throws MatrixException {
+        return new DenseMatrix(data);
+    }
+
+    @Override
+    public IMatrix createSameType(MatrixData md) throws MatrixException {
+        DenseMatrix m = new DenseMatrix();
+        m.init(md);
+        return m;
+    }
+
+    @Override
+    public MatrixData getMatrixData() {
+        java.util.List<Double> list = new java.util.ArrayList<>(rows * cols);
+        for (int i = 0; i < rows * cols; ++i) {
+            list.add(data[i]);
+        }
+        return new MatrixData(rows, cols, list);
+    }
+
+    @Override
+    public IMatrix createSameType(PrimitiveMatrixData md) throws MatrixException {
+        DenseMatrix m = new DenseMatrix();
+        m.init(md);
+        return m;
+    }
+
+    /**
+     * Return a read-only view of the backing array. No values are copied,
+     * so the view reflects later changes to this matrix.
+     *
+     * @return primitive matrix data sharing storage with this matrix
+     */
+    @Override
+    public PrimitiveMatrixData getPrimitiveMatrixData() {
+        return PrimitiveMatrixData.wrap(rows, cols, data == null ? new double[0] : data);
+    }
+
+    @Override
+    public boolean isEqualSize(IMatrix other) {
+        return this.rows == other.getRows() && this.cols == other.getCols();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder str = new StringBuilder();
+        str.append(rows).append(" ").append(cols);
+
+        for (int i = 0; i < rows * cols; ++i) {
+            str.append(" ").append(data[i]);
+        }
+
+        return str.toString();
+    }
+}
@@ -56,6 +56,91 @@ public interface IMatrix  {
      */
     public void set(int r, int c, double value) throws MatrixException;    
 
+    /**
+     * Copy a whole row into {@code dst}. Default implementation reads
+     * elements via {@link #get(int,int)}; implementations should override it
+     * with a bulk copy.
+     *
+     * @param r row index (0-based)
+     * @param dst destination array with at least {@code getCols()} elements
+     * @throws MatrixException when the row index is out of bounds or {@code dst} is too short
+     */
+    default void getRow(int r, double[] dst) throws MatrixException {
+        if (r < 0 || r >= getRows()) throw new MatrixException("Row index out of bounds");
+        if (dst == null || dst.length < getCols()) throw new MatrixException("Destination array too short");
+        for (int c = 0; c < getCols(); c++) {
+            dst[c] = get(r, c);
+        }
+    }
+
+    /**
+     * Copy a whole column into {@code dst}.
+     *
+     * @param c column index (0-based)
+     * @param dst destination array with at least {@code getRows()} elements
+     * @throws MatrixException when the column index is out of bounds or {@code dst} is too short
+     */
+    default void getColumn(int c, double[] dst) throws MatrixException {
+        if (c < 0 || c >= getCols()) throw new MatrixException("Column index out of bounds");
+        if (dst == null || dst.length < getRows()) throw new MatrixException("Destination array too short");
+        for (int r = 0; r < getRows(); r++) {
+            dst[r] = get(r, c);
+        }
+    }
+
+    /**
+     * Overwrite a whole row with values from {@code src}.
+     *
+     * @param r row index (0-based)
+     * @param src source array with at least {@code getCols()} elements
+     * @throws MatrixException when the row index is out of bounds or {@code src} is too short
+     */
+    default void setRow(int r, double[] src) throws MatrixException {
+        if (r < 0 || r >= getRows()) throw new MatrixException("Row index out of bounds");
+        if (src == null || src.length < getCols()) throw new MatrixException("Source array too short");
+        for (int c = 0; c < getCols(); c++) {
+            set(r, c, src[c]);
+        }
+    }
+
+    /**
+     * Copy all elements in row-major order into {@code dst} starting at
+     * {@code offset}.
+     *
+     * @param dst destination array
+     * @param offset index of the first written element
+     * @throws MatrixException when {@code dst} cannot hold {@code rows * cols} values from {@code offset}
+     */
+    default void copyTo(double[] dst, int offset) throws MatrixException {
+        int rows = getRows();
+        int cols = getCols();
+        if (dst == null || offset < 0 || dst.length - offset < rows * cols) {
+            throw new MatrixException("Destination array too short");
+        }
+        double[] row = new double[cols];
+        for (int r = 0; r < rows; r++) {
+            getRow(r, row);
+            System.arraycopy(row, 0, dst, offset + r * cols, cols);
+        }
+    }
+
+    /**
+     * Set every element of the matrix to {@code value}.
+     *
+     * @param value value to store
+     */
+    default void fill(double value) {
+        for (int r = 0; r < getRows(); r++) {
+            for (int c = 0; c < getCols(); c++) {
+                try {
+                    set(r, c, value);
+                } catch (MatrixException e) {
+                    // indices are always in range here
+                }
+            }
+        }
+    }
+
     /**
      * Initialize matrix storage for the given dimensions. Implementations
      * should allocate internal storage and reset contents to zeros if
@@ -166,6 +251,57 @@ public interface IMatrix  {
         return new MatrixData(r, c, list);
     }
 
+    /**
+     * Initialize matrix from a primitive {@link PrimitiveMatrixData} record
+     * without boxing. Default implementation allocates storage via
+     * {@link #init(int,int)} and imports the values row by row.
+     *
+     * @param data record containing rows, cols and row-major values
+     * @throws MatrixException when provided data is invalid
+     */
+    default void init(PrimitiveMatrixData data) throws MatrixException {
+        if (data == null || !data.isValid()) throw new MatrixException("Invalid matrix data");
+        init(data.rows(), data.cols());
+        double[] row = new double[data.cols()];
+        for (int r = 0; r < data.rows(); r++) {
+            data.data().get(r * data.cols(), row);
+            setRow(r, row);
+        }
+    }
+
+    /**
+     * Create a fresh matrix instance of the same concrete implementation
+     * initialized from {@link PrimitiveMatrixData}.
+     *
+     * @param data initial matrix values
+     * @return new matrix instance
+     * @throws MatrixException when provided data is invalid
+     */
+    default IMatrix createSameType(PrimitiveMatrixData data) throws MatrixException {
+        if (data == null || !data.isValid()) throw new MatrixException("Invalid matrix data");
+        IMatrix m = createSameType(data.rows(), data.cols());
+        m.init(data);
+        return m;
+    }
+
+    /**
+     * Obtain a {@link PrimitiveMatrixData} record representing this matrix.
+     * Default implementation copies the values once via
+     * {@link #copyTo(double[], int)}; implementations backed by a flat array
+     * may return a zero-copy view instead.
+     *
+     * @return matrix data in row-major order
+     */
+    default PrimitiveMatrixData getPrimitiveMatrixData() {
+        double[] values = new double[getRows() * getCols()];
+        try {
+            copyTo(values, 0);
+        } catch (MatrixException e) {
+            java.util.Arrays.fill(values, Double.NaN);
+        }
+        return PrimitiveMatrixData.wrap(getRows(), getCols(), values);
+    }
+
     /**
      * Check whether this matrix has the same dimensions as {@code other}.
      *
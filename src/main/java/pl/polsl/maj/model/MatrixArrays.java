@@ -0,0 +1,153 @@
+package pl.polsl.maj.model;
+
+import pl.polsl.maj.exceptions.MatrixException;
+
+/**
+ * Helpers for moving matrix contents between {@link IMatrix} instances and
+ * flat row-major {@code double[]} arrays.
+ * <p>
+ * Numerical kernels work on plain arrays to avoid a virtual call, a bounds
+ * check and a checked exception per element. This class performs the single
+ * copy in and out of such arrays and takes the fast path for
+ * {@link DenseMatrix} and {@link SmallMatrix}, whose storage already has the
+ * required layout.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.6
+ */
+public final class MatrixArrays {
+
+    /**
+     * Utility class - prevent instantiation.
+     */
+    private MatrixArrays() {
+        // prevent instantiation
+    }
+
+    /**
+     * Copy the matrix into a fresh row-major array which the caller owns and
+     * may modify freely.
+     *
+     * @param m source matrix
+     * @return new array with {@code rows * cols} values
+     * @throws MatrixException when reading the matrix fails
+     */
+    public static double[] copyOf(IMatrix m) throws MatrixException {
+        if (m == null) {
+            throw new MatrixException("Matrices cannot be empty");
+        }
+
+        if (m instanceof DenseMatrix dense && dense.elements() != null) {
+            return dense.elements().clone();
+        }
+        if (m instanceof SmallMatrix small && small.elements() != null) {
+            return small.elements().clone();
+        }
+
+        double[] out = new double[m.getRows() * m.getCols()];
+        m.copyTo(out, 0);
+        return out;
+    }
+
+    /**
+     * Return the backing row-major array of a matrix whose storage already
+     * has that layout, without copying. Writes to the array modify the
+     * matrix, which lets destination-passing kernels run allocation-free.
+     *
+     * @param m matrix to inspect
+     * @return shared storage of {@code m}, or {@code null} when it is not
+     *         stored as a single row-major array
+     */
+    public static double[] rowMajorStorage(IMatrix m) {
+        if (m instanceof DenseMatrix dense) {
+            return dense.elements();
+        }
+        if (m instanceof SmallMatrix small) {
+            return small.elements();
+        }
+        return null;
+    }
+
+    /**
+     * Check whether two matrices are backed by the same storage, looking
+     * through {@link MatrixView}s on both sides. A destination sharing
+     * storage with an operand would be overwritten while it is still read.
+     *
+     * @param x first matrix
+     * @param y second matrix
+     * @return {@code true} when writes to one may change the other
+     */
+    public static boolean sharesStorage(IMatrix x, IMatrix y) {
+        while (x instanceof MatrixView view) {
+            x = view.getBase();
+        }
+        while (y instanceof MatrixView view) {
+            y = view.getBase();
+        }
+        if (x == y) {
+            return true;
+        }
+        double[] sx = rowMajorStorage(x);
+        return sx != null && sx == rowMajorStorage(y);
+    }
+
+    /**
+     * Write row-major values into an existing matrix row by row through
+     * {@link IMatrix#setRow}. Used by destination-passing kernels when
+     * {@code dst} has no flat storage, so views keep writing through to
+     * their base matrix and {@code dst} is not reallocated.
+     *
+     * @param data row-major values ({@code rows * cols} elements of {@code dst})
+     * @param dst matrix receiving the values
+     * @throws MatrixException when the sizes do not match
+     */
+    public static void copyInto(double[] data, IMatrix dst) throws MatrixException {
+        int rows = dst.getRows();
+        int cols = dst.getCols();
+        if (data == null || data.length != rows * cols) {
+            throw new MatrixException("Invalid matrix data size");
+        }
+
+        double[] row = new double[cols];
+        for (int i = 0; i < rows; ++i) {
+            System.arraycopy(data, i * cols, row, 0, cols);
+            dst.setRow(i, row);
+        }
+    }
+
+    /**
+     * Build a matrix of the same concrete type as {@code prototype} holding
+     * the given row-major values. For {@link DenseMatrix} and
+     * {@link SmallMatrix} the array is adopted without copying, so the caller
+     * must not modify it afterwards; a {@link SmallMatrix} prototype yields a
+     * {@link DenseMatrix} when the dimensions exceed its limit. For a
+     * {@link MatrixView} the concrete type of its base matrix is used.
+     *
+     * @param prototype matrix whose concrete type should be used
+     * @param rows number of rows of the result
+     * @param cols number of columns of the result
+     * @param data row-major values ({@code rows * cols} elements)
+     * @return new matrix with the given contents
+     * @throws MatrixException when dimensions are invalid
+     */
+    public static IMatrix fromRowMajor(IMatrix prototype, int rows, int cols, double[] data) throws MatrixException {
+        if (data == null || data.length != rows * cols) {
+            throw new MatrixException("Invalid matrix data size");
+        }
+
+        while (prototype instanceof MatrixView view) {
+            prototype = view.getBase();
+        }
+
+        if (prototype instanceof DenseMatrix) {
+            return DenseMatrix.wrap(rows, cols, data);
+        }
+        if (prototype instanceof SmallMatrix) {
+            return SmallMatrix.fits(rows, cols) ? SmallMatrix.wrap(rows, cols, data)
+                                                : DenseMatrix.wrap(rows, cols, data);
+        }
+
+        return prototype.createSameType(PrimitiveMatrixData.wrap(rows, cols, data));
+    }
+}
@@ -0,0 +1,217 @@
+package pl.polsl.maj.model;
+
+import pl.polsl.maj.exceptions.MatrixException;
+
+/**
+ * Batch of equally shaped matrices stored in struct-of-arrays layout.
+ * <p>
+ * Instead of one object per matrix the batch keeps one {@code double[]}
+ * plane per element position: {@code plane(r, c)[k]} is element
+ * {@code (r, c)} of matrix {@code k}. Batched kernels then run their
+ * innermost loop over {@code k}, reading and writing every plane with unit
+ * stride, which the JIT can vectorize, and a range of {@code k} can be
+ * handed to another core without sharing any cache line of the output.
+ * </p>
+ * <p>
+ * A batch of N (rows x cols) matrices uses {@code 8 * N * rows * cols}
+ * bytes in {@code rows * cols} arrays, with no per-matrix object header.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public final class MatrixBatch {
+    /** Number of matrices. */
+    private final int size;
+    /** Number of rows of every matrix. */
+    private final int rows;
+    /** Number of columns of every matrix. */
+    private final int cols;
+    /** One plane per element, plane {@code r * cols + c} holds element (r, c). */
+    private final double[][] planes;
+
+    /**
+     * Create a batch of zero matrices.
+     *
+     * @param size number of matrices (must be positive)
+     * @param rows number of rows of every matrix (must be positive)
+     * @param cols number of columns of every matrix (must be positive)
+     * @throws MatrixException when a dimension is invalid
+     */
+    public MatrixBatch(int size, int rows, int cols) throws MatrixException {
+        if (size <= 0 || rows <= 0 || cols <= 0) {
+            throw new MatrixException("Invalid number of rows or columns");
+        }
+        this.size = size;
+        this.rows = rows;
+        this.cols = cols;
+        this.planes = new double[rows * cols][size];
+    }
+
+    /**
+     * Create a batch holding copies of the given matrices.
+     *
+     * @param matrices matrices of identical dimensions
+     * @return new batch
+     * @throws MatrixException when the array is empty or dimensions differ
+     */
+    public static MatrixBatch of(IMatrix... matrices) throws MatrixException {
+        if (matrices == null || matrices.length == 0 || matrices[0] == null) {
+            throw new MatrixException("Matrices cannot be empty");
+        }
+        MatrixBatch batch = new MatrixBatch(matrices.length, matrices[0].getRows(), matrices[0].getCols());
+        for (int k = 0; k < matrices.length; ++k) {
+            batch.setMatrix(k, matrices[k]);
+        }
+        return batch;
+    }
+
+    /**
+     * Return the number of matrices.
+     *
+     * @return batch size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return the number of rows of every matrix.
+     *
+     * @return number of rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Return the number of columns of every matrix.
+     *
+     * @return number of columns
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Check whether the matrices are square.
+     *
+     * @return {@code true} when rows equal columns
+     */
+    public boolean isSquare() {
+        return rows == cols;
+    }
+
+    /**
+     * Check whether another batch has the same size and shape.
+     *
+     * @param other batch to compare with
+     * @return {@code true} when sizes and dimensions match
+     */
+    public boolean isEqualShape(MatrixBatch other) {
+        return other != null && size == other.size && rows == other.rows && cols == other.cols;
+    }
+
+    /**
+     * Return the plane of element (r, c). The array is shared: writes modify
+     * the batch, which allows filling it without per-element calls.
+     *
+     * @param r row index
+     * @param c column index
+     * @return array of length {@link #size()} with element (r, c) of every matrix
+     * @throws MatrixException when indices are out of bounds
+     */
+    public double[] plane(int r, int c) throws MatrixException {
+        checkElement(r, c);
+        return planes[r * cols + c];
+    }
+
+    /**
+     * Expose all planes (no copy), indexed by {@code r * cols + c}.
+     *
+     * @return shared planes
+     */
+    public double[][] planes() {
+        return planes;
+    }
+
+    /**
+     * Get element (r, c) of matrix {@code k}.
+     *
+     * @param k matrix index
+     * @param r row index
+     * @param c column index
+     * @return element value
+     * @throws MatrixException when an index is out of bounds
+     */
+    public double get(int k, int r, int c) throws MatrixException {
+        checkIndex(k);
+        checkElement(r, c);
+        return planes[r * cols + c][k];
+    }
+
+    /**
+     * Set element (r, c) of matrix {@code k}.
+     *
+     * @param k matrix index
+     * @param r row index
+     * @param c column index
+     * @param value value to set
+     * @throws MatrixException when an index is out of bounds
+     */
+    public void set(int k, int r, int c, double value) throws MatrixException {
+        checkIndex(k);
+        checkElement(r, c);
+        planes[r * cols + c][k] = value;
+    }
+
+    /**
+     * Copy matrix {@code k} out of the batch.
+     *
+     * @param k matrix index
+     * @return new {@link SmallMatrix} when the shape fits, otherwise a {@link DenseMatrix}
+     * @throws MatrixException when the index is out of bounds
+     */
+    public IMatrix getMatrix(int k) throws MatrixException {
+        checkIndex(k);
+        double[] values = new double[rows * cols];
+        for (int e = 0; e < values.length; ++e) {
+            values[e] = planes[e][k];
+        }
+        return SmallMatrix.fits(rows, cols) ? SmallMatrix.wrap(rows, cols, values)
+                                            : DenseMatrix.wrap(rows, cols, values);
+    }
+
+    /**
+     * Copy a matrix into position {@code k}.
+     *
+     * @param k matrix index
+     * @param m matrix with the batch dimensions
+     * @throws MatrixException when the index is out of bounds or dimensions differ
+     */
+    public void setMatrix(int k, IMatrix m) throws MatrixException {
+        checkIndex(k);
+        if (m == null || m.getRows() != rows || m.getCols() != cols) {
+            throw new MatrixException("Matrices have different sizes");
+        }
+        double[] values = MatrixArrays.rowMajorStorage(m);
+        if (values == null) {
+            values = MatrixArrays.copyOf(m);
+        }
+        for (int e = 0; e < values.length; ++e) {
+            planes[e][k] = values[e];
+        }
+    }
+
+    private void checkIndex(int k) throws MatrixException {
+        if (k < 0 || k >= size) {
+            throw new MatrixException("Batch index out of bounds");
+        }
+    }
+
+    private void checkElement(int r, int c) throws MatrixException {
+        if (r < 0 || c < 0 || r >= rows || c >= cols) {
+            throw new MatrixException("Row or column index out of bounds");
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 /**
  * Immutable record representing matrix data in row-major order.
+ * See {@link PrimitiveMatrixData} for an unboxed variant.
  *
  * @param rows number of rows
  * @param cols number of columns
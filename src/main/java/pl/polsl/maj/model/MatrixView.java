@@ -0,0 +1,122 @@
+package pl.polsl.maj.model;
+
+import pl.polsl.maj.exceptions.MatrixException;
+
+/**
+ * Base class for lightweight {@link IMatrix} views over an existing matrix.
+ * <p>
+ * A view stores no values of its own; it only remaps indices onto its base
+ * matrix, so creating one costs O(1) regardless of the matrix size. Writes
+ * through {@link #set(int, int, double)} modify the base matrix. Views have
+ * fixed dimensions and therefore cannot be re-initialized; factory methods
+ * such as {@link #createSameType(int, int)} delegate to the base matrix, so
+ * results computed from a view have the concrete type of its base.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public abstract class MatrixView implements IMatrix {
+    /** Matrix the view reads from and writes to. */
+    protected final IMatrix base;
+
+    /**
+     * Create a view over {@code base}.
+     *
+     * @param base underlying matrix
+     * @throws MatrixException when {@code base} is null
+     */
+    protected MatrixView(IMatrix base) throws MatrixException {
+        if (base == null) {
+            throw new MatrixException("Matrices cannot be empty");
+        }
+        this.base = base;
+    }
+
+    /**
+     * Return the matrix this view remaps.
+     *
+     * @return underlying matrix
+     */
+    public IMatrix getBase() {
+        return base;
+    }
+
+    /**
+     * Copy the viewed values into a new matrix of the base's concrete type.
+     *
+     * @return independent matrix holding the values of this view
+     * @throws MatrixException when copying fails
+     */
+    public IMatrix materialize() throws MatrixException {
+        return base.createSameType(getPrimitiveMatrixData());
+    }
+
+    @Override
+    public boolean isSquare() {
+        return getRows() == getCols();
+    }
+
+    @Override
+    public void init(int r, int c) throws MatrixException {
+        throw new MatrixException("Matrix view cannot be reinitialized");
+    }
+
+    @Override
+    public void init(double[][] data) throws MatrixException {
+        throw new MatrixException("Matrix view cannot be reinitialized");
+    }
+
+    @Override
+    public void init(MatrixData data) throws MatrixException {
+        throw new MatrixException("Matrix view cannot be reinitialized");
+    }
+
+    @Override
+    public void init(PrimitiveMatrixData data) throws MatrixException {
+        throw new MatrixException("Matrix view cannot be reinitialized");
+    }
+
+    @Override
+    public IMatrix createSameType(int rows, int cols) throws MatrixException {
+        return base.createSameType(rows, cols);
+    }
+
+    @Override
+    public IMatrix createSameType(double[][] data) throws MatrixException {
+        return base.createSameType(data);
+    }
+
+    @Override
+    public IMatrix createSameType(MatrixData data) throws MatrixException {
+        return base.createSameType(data);
+    }
+
+    @Override
+    public IMatrix createSameType(PrimitiveMatrixData data) throws MatrixException {
+        return base.createSameType(data);
+    }
+
+    @Override
+    public boolean isEqualSize(IMatrix other) {
+        return getRows() == other.getRows() && getCols() == other.getCols();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder str = new StringBuilder();
+        str.append(getRows()).append(" ").append(getCols());
+
+        for (int i = 0; i < getRows(); ++i) {
+            for (int j = 0; j < getCols(); ++j) {
+                try {
+                    str.append(" ").append(get(i, j));
+                } catch (MatrixException e) {
+                    str.append(" NaN");
+                }
+            }
+        }
+
+        return str.toString();
+    }
+}
@@ -0,0 +1,75 @@
+package pl.polsl.maj.model;
+
+import pl.polsl.maj.exceptions.MatrixException;
+
+/**
+ * Zero-copy row permutation of a matrix: row {@code r} of the view is row
+ * {@code permutation[r]} of the base matrix.
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public class PermutedRowsView extends MatrixView {
+    /** Source base row for every view row. */
+    private final int[] permutation;
+
+    /**
+     * Create a row-permuted view of {@code base}.
+     *
+     * @param base underlying matrix
+     * @param permutation base row index for every view row (copied)
+     * @throws MatrixException when the permutation is not valid for {@code base}
+     */
+    public PermutedRowsView(IMatrix base, int[] permutation) throws MatrixException {
+        super(base);
+        if (permutation == null || permutation.length != base.getRows()) {
+            throw new MatrixException("Invalid row permutation");
+        }
+        boolean[] seen = new boolean[permutation.length];
+        for (int p : permutation) {
+            if (p < 0 || p >= permutation.length || seen[p]) {
+                throw new MatrixException("Invalid row permutation");
+            }
+            seen[p] = true;
+        }
+        this.permutation = permutation.clone();
+    }
+
+    @Override
+    public int getRows() {
+        return base.getRows();
+    }
+
+    @Override
+    public int getCols() {
+        return base.getCols();
+    }
+
+    @Override
+    public double get(int r, int c) throws MatrixException {
+        if (r < 0 || r >= permutation.length) {
+            throw new MatrixException("Row or column index out of bounds");
+        }
+        return base.get(permutation[r], c);
+    }
+
+    @Override
+    public void set(int r, int c, double value) throws MatrixException {
+        if (r < 0 || r >= permutation.length) {
+            throw new MatrixException("Row or column index out of bounds");
+        }
+        base.set(permutation[r], c, value);
+    }
+
+    @Override
+    public void getRow(int r, double[] dst) throws MatrixException {
+        if (r < 0 || r >= permutation.length) throw new MatrixException("Row index out of bounds");
+        base.getRow(permutation[r], dst);
+    }
+
+    @Override
+    public void setRow(int r, double[] src) throws MatrixException {
+        if (r < 0 || r >= permutation.length) throw new MatrixException("Row index out of bounds");
+        base.setRow(permutation[r], src);
+    }
+}
@@ -0,0 +1,56 @@
+package pl.polsl.maj.model;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Immutable primitive-backed counterpart of {@link MatrixData}.
+ * <p>
+ * Values are exposed through a read-only {@link DoubleBuffer} in row-major
+ * order, so no element is boxed. When the source matrix keeps its values in
+ * a flat array (see {@link DenseMatrix}) the buffer is a zero-copy view of
+ * that array and reflects later modifications of the matrix; copy it with
+ * {@link #toArray()} when a snapshot is needed.
+ * </p>
+ *
+ * @param rows number of rows
+ * @param cols number of columns
+ * @param data read-only buffer with {@code rows * cols} values in row-major
+ *             order, addressed from index 0
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public record PrimitiveMatrixData(int rows, int cols, DoubleBuffer data) {
+
+    /**
+     * Wrap a row-major array without copying it.
+     *
+     * @param rows number of rows
+     * @param cols number of columns
+     * @param values row-major values (size should be rows*cols)
+     * @return record with a read-only view of {@code values}
+     */
+    public static PrimitiveMatrixData wrap(int rows, int cols, double[] values) {
+        return new PrimitiveMatrixData(rows, cols, DoubleBuffer.wrap(values).asReadOnlyBuffer());
+    }
+
+    /**
+     * Check whether the buffer holds exactly {@code rows * cols} values.
+     *
+     * @return {@code true} when dimensions and buffer size are consistent
+     */
+    public boolean isValid() {
+        return rows > 0 && cols > 0 && data != null && data.limit() == rows * cols;
+    }
+
+    /**
+     * Copy the values into a new row-major array.
+     *
+     * @return array with {@code rows * cols} values
+     */
+    public double[] toArray() {
+        double[] out = new double[data.limit()];
+        data.get(0, out);
+        return out;
+    }
+}
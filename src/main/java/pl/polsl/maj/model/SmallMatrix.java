@@ -0,0 +1,296 @@
+package pl.polsl.maj.model;
+
+import pl.polsl.maj.exceptions.MatrixException;
+
+/**
+ * Compact implementation of {@link IMatrix} for matrices of at most
+ * {@value #MAX_SIZE} x {@value #MAX_SIZE} elements, such as 2D/3D transforms
+ * and rotations.
+ * <p>
+ * Values are kept in one row-major {@code double[]} of exactly
+ * {@code rows * cols} elements with no further bookkeeping, so a 4x4 matrix
+ * is one small object and one 128-byte array. Like {@link DenseMatrix} the
+ * storage is exposed to the numerical kernels through {@link MatrixArrays},
+ * and results of operations on small matrices are created without copying.
+ * {@link pl.polsl.maj.model.operations.MatrixOperations} evaluates
+ * determinants, inverses, products and transposes of square 2x2, 3x3 and
+ * 4x4 inputs with closed-form kernels.
+ * </p>
+ * <p>
+ * {@code createSameType} with a dimension above {@value #MAX_SIZE} returns a
+ * {@link DenseMatrix}, so generic algorithms keep working when a small
+ * matrix is combined with a larger one.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public final class SmallMatrix implements IMatrix {
+    /** Largest supported number of rows or columns. */
+    public static final int MAX_SIZE = 4;
+
+    /** Row-major storage, {@code null} for an empty matrix. */
+    private double[] data;
+    /** Number of rows in the matrix. */
+    private int rows;
+    /** Number of columns in the matrix (also the row stride). */
+    private int cols;
+
+    /**
+     * Create an empty matrix (0x0).
+     */
+    public SmallMatrix() {
+        this.rows = 0;
+        this.cols = 0;
+        this.data = null;
+    }
+
+    /**
+     * Create a matrix with given dimensions initialized with zeros.
+     *
+     * @param rows number of rows (1 to {@value #MAX_SIZE})
+     * @param cols number of columns (1 to {@value #MAX_SIZE})
+     * @throws MatrixException when dimensions are invalid
+     */
+    public SmallMatrix(int rows, int cols) throws MatrixException {
+        init(rows, cols);
+    }
+
+    /**
+     * Create a matrix initialized from a 2D array.
+     *
+     * @param data rectangular 2D array with at most {@value #MAX_SIZE} rows and columns
+     * @throws MatrixException when data is null, empty, too large or not rectangular
+     */
+    public SmallMatrix(double[][] data) throws MatrixException {
+        init(data);
+    }
+
+    /**
+     * Create a matrix from row-major values.
+     *
+     * @param rows number of rows (1 to {@value #MAX_SIZE})
+     * @param cols number of columns (1 to {@value #MAX_SIZE})
+     * @param values {@code rows * cols} values in row-major order (copied)
+     * @return new matrix
+     * @throws MatrixException when dimensions are invalid or do not match the values
+     */
+    public static SmallMatrix of(int rows, int cols, double... values) throws MatrixException {
+        if (values == null) {
+            throw new MatrixException("Invalid matrix data size");
+        }
+        return wrap(rows, cols, values.clone());
+    }
+
+    /**
+     * Create an identity matrix.
+     *
+     * @param n dimension (1 to {@value #MAX_SIZE})
+     * @return new (n x n) identity matrix
+     * @throws MatrixException when the dimension is invalid
+     */
+    public static SmallMatrix identity(int n) throws MatrixException {
+        SmallMatrix m = new SmallMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            m.data[i * n + i] = 1.0;
+        }
+        return m;
+    }
+
+    /**
+     * Check whether the given dimensions fit into a small matrix.
+     *
+     * @param rows number of rows
+     * @param cols number of columns
+     * @return {@code true} when both are between 1 and {@value #MAX_SIZE}
+     */
+    public static boolean fits(int rows, int cols) {
+        return rows > 0 && cols > 0 && rows <= MAX_SIZE && cols <= MAX_SIZE;
+    }
+
+    /**
+     * Create a matrix which adopts the given row-major array as its storage
+     * without copying it. The caller must not use the array afterwards.
+     *
+     * @param rows number of rows
+     * @param cols number of columns
+     * @param data row-major values, length must equal {@code rows * cols}
+     * @return matrix backed by {@code data}
+     * @throws MatrixException when dimensions are invalid or do not match the array length
+     */
+    static SmallMatrix wrap(int rows, int cols, double[] data) throws MatrixException {
+        if (!fits(rows, cols)) {
+            throw new MatrixException("Invalid number of rows or columns");
+        }
+        if (data == null || data.length != rows * cols) {
+            throw new MatrixException("Invalid matrix data size");
+        }
+
+        SmallMatrix m = new SmallMatrix();
+        m.rows = rows;
+        m.cols = cols;
+        m.data = data;
+        return m;
+    }
+
+    @Override
+    public void init(int rows, int cols) throws MatrixException {
+        if (!fits(rows, cols)) {
+            throw new MatrixException("Invalid number of rows or columns");
+        }
+
+        this.rows = rows;
+        this.cols = cols;
+        this.data = new double[rows * cols];
+    }
+
+    @Override
+    public void init(double[][] data) throws MatrixException {
+        if (data == null || data.length == 0 || data[0] == null || data[0].length == 0) {
+            throw new MatrixException("Invalid matrix data");
+        }
+
+        int r = data.length;
+        int c = data[0].length;
+        if (!fits(r, c)) {
+            throw new MatrixException("Invalid number of rows or columns");
+        }
+
+        double[] flat = new double[r * c];
+        for (int i = 0; i < r; ++i) {
+            if (data[i] == null || data[i].length != c) {
+                throw new MatrixException("Invalid matrix data: inconsistent row lengths");
+            }
+            System.arraycopy(data[i], 0, flat, i * c, c);
+        }
+
+        this.rows = r;
+        this.cols = c;
+        this.data = flat;
+    }
+
+    @Override
+    public void init(PrimitiveMatrixData md) throws MatrixException {
+        if (md == null || !md.isValid()) throw new MatrixException("Invalid matrix data");
+        if (!fits(md.rows(), md.cols())) throw new MatrixException("Invalid number of rows or columns");
+        double[] values = new double[md.rows() * md.cols()];
+        md.data().get(0, values);
+        this.rows = md.rows();
+        this.cols = md.cols();
+        this.data = values;
+    }
+
+    @Override
+    public double get(int r, int c) throws MatrixException {
+        if (r < 0 || c < 0 || c >= cols || r >= rows) {
+            throw new MatrixException("Row or column index out of bounds");
+        }
+        return data[r * cols + c];
+    }
+
+    @Override
+    public void set(int r, int c, double value) throws MatrixException {
+        if (r < 0 || c < 0 || c >= cols || r >= rows) {
+            throw new MatrixException("Row or column index out of bounds");
+        }
+        data[r * cols + c] = value;
+    }
+
+    @Override
+    public void getRow(int r, double[] dst) throws MatrixException {
+        if (r < 0 || r >= rows) throw new MatrixException("Row index out of bounds");
+        if (dst == null || dst.length < cols) throw new MatrixException("Destination array too short");
+        System.arraycopy(data, r * cols, dst, 0, cols);
+    }
+
+    @Override
+    public void setRow(int r, double[] src) throws MatrixException {
+        if (r < 0 || r >= rows) throw new MatrixException("Row index out of bounds");
+        if (src == null || src.length < cols) throw new MatrixException("Source array too short");
+        System.arraycopy(src, 0, data, r * cols, cols);
+    }
+
+    @Override
+    public void copyTo(double[] dst, int offset) throws MatrixException {
+        if (dst == null || offset < 0 || dst.length - offset < rows * cols) {
+            throw new MatrixException("Destination array too short");
+        }
+        if (data != null) {
+            System.arraycopy(data, 0, dst, offset, rows * cols);
+        }
+    }
+
+    @Override
+    public void fill(double value) {
+        if (data != null) {
+            java.util.Arrays.fill(data, value);
+        }
+    }
+
+    /**
+     * Expose the backing row-major array (no copy).
+     *
+     * @return backing storage, {@code null} for an empty matrix
+     */
+    double[] elements() {
+        return data;
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getCols() {
+        return cols;
+    }
+
+    @Override
+    public boolean isSquare() {
+        return cols == rows;
+    }
+
+    @Override
+    public IMatrix createSameType(int rows, int cols) throws MatrixException {
+        return fits(rows, cols) ? new SmallMatrix(rows, cols) : new DenseMatrix(rows, cols);
+    }
+
+    @Override
+    public IMatrix createSameType(double[][] data) throws MatrixException {
+        if (data != null && data.length > 0 && data[0] != null && fits(data.length, data[0].length)) {
+            return new SmallMatrix(data);
+        }
+        return new DenseMatrix(data);
+    }
+
+    @Override
+    public IMatrix createSameType(PrimitiveMatrixData md) throws MatrixException {
+        if (md == null || !md.isValid()) throw new MatrixException("Invalid matrix data");
+        IMatrix m = fits(md.rows(), md.cols()) ? new SmallMatrix() : new DenseMatrix();
+        m.init(md);
+        return m;
+    }
+
+    @Override
+    public PrimitiveMatrixData getPrimitiveMatrixData() {
+        return PrimitiveMatrixData.wrap(rows, cols, data == null ? new double[0] : data);
+    }
+
+    @Override
+    public boolean isEqualSize(IMatrix other) {
+        return this.rows == other.getRows() && this.cols == other.getCols();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder str = new StringBuilder();
+        str.append(rows).append(" ").append(cols);
+
+        for (int i = 0; i < rows * cols; ++i) {
+            str.append(" ").append(data[i]);
+        }
+
+        return str.toString();
+    }
+}
@@ -0,0 +1,140 @@
+package pl.polsl.maj.model;
+
+import pl.polsl.maj.exceptions.MatrixException;
+
+/**
+ * Zero-copy strided submatrix of a matrix.
+ * <p>
+ * Element {@code (r, c)} of the view is element
+ * {@code (rowOffset + r * rowStride, colOffset + c * colStride)} of the base
+ * matrix. With unit strides this is a contiguous block; a single row or
+ * column slice is a block with one row or one column.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public class SubMatrixView extends MatrixView {
+    /** Base row of the view's first row. */
+    private final int rowOffset;
+    /** Base column of the view's first column. */
+    private final int colOffset;
+    /** Number of rows of the view. */
+    private final int rows;
+    /** Number of columns of the view. */
+    private final int cols;
+    /** Distance between consecutive view rows in the base. */
+    private final int rowStride;
+    /** Distance between consecutive view columns in the base. */
+    private final int colStride;
+
+    /**
+     * Create a strided view of {@code base}.
+     *
+     * @param base underlying matrix
+     * @param rowOffset first base row
+     * @param colOffset first base column
+     * @param rows number of rows of the view (must be positive)
+     * @param cols number of columns of the view (must be positive)
+     * @param rowStride base row step between view rows (must be positive)
+     * @param colStride base column step between view columns (must be positive)
+     * @throws MatrixException when the view does not fit inside {@code base}
+     */
+    public SubMatrixView(IMatrix base, int rowOffset, int colOffset, int rows, int cols,
+                         int rowStride, int colStride) throws MatrixException {
+        super(base);
+        if (rows <= 0 || cols <= 0 || rowStride <= 0 || colStride <= 0) {
+            throw new MatrixException("Invalid number of rows or columns");
+        }
+        if (rowOffset < 0 || colOffset < 0
+                || (long) rowOffset + (long) (rows - 1) * rowStride >= base.getRows()
+                || (long) colOffset + (long) (cols - 1) * colStride >= base.getCols()) {
+            throw new MatrixException("Submatrix exceeds matrix bounds");
+        }
+        this.rowOffset = rowOffset;
+        this.colOffset = colOffset;
+        this.rows = rows;
+        this.cols = cols;
+        this.rowStride = rowStride;
+        this.colStride = colStride;
+    }
+
+    /**
+     * Create a contiguous block view.
+     *
+     * @param base underlying matrix
+     * @param rowOffset first base row
+     * @param colOffset first base column
+     * @param rows number of rows
+     * @param cols number of columns
+     * @return block view
+     * @throws MatrixException when the block does not fit inside {@code base}
+     */
+    public static SubMatrixView block(IMatrix base, int rowOffset, int colOffset, int rows, int cols) throws MatrixException {
+        return new SubMatrixView(base, rowOffset, colOffset, rows, cols, 1, 1);
+    }
+
+    /**
+     * Create a (1 x cols) view of a single row.
+     *
+     * @param base underlying matrix
+     * @param r row index
+     * @return row slice
+     * @throws MatrixException when the row index is out of bounds
+     */
+    public static SubMatrixView row(IMatrix base, int r) throws MatrixException {
+        return block(base, r, 0, 1, base.getCols());
+    }
+
+    /**
+     * Create a (rows x 1) view of a single column.
+     *
+     * @param base underlying matrix
+     * @param c column index
+     * @return column slice
+     * @throws MatrixException when the column index is out of bounds
+     */
+    public static SubMatrixView column(IMatrix base, int c) throws MatrixException {
+        return block(base, 0, c, base.getRows(), 1);
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getCols() {
+        return cols;
+    }
+
+    @Override
+    public double get(int r, int c) throws MatrixException {
+        if (r < 0 || c < 0 || r >= rows || c >= cols) {
+            throw new MatrixException("Row or column index out of bounds");
+        }
+        return base.get(rowOffset + r * rowStride, colOffset + c * colStride);
+    }
+
+    @Override
+    public void set(int r, int c, double value) throws MatrixException {
+        if (r < 0 || c < 0 || r >= rows || c >= cols) {
+            throw new MatrixException("Row or column index out of bounds");
+        }
+        base.set(rowOffset + r * rowStride, colOffset + c * colStride, value);
+    }
+
+    @Override
+    public void getRow(int r, double[] dst) throws MatrixException {
+        if (r < 0 || r >= rows) throw new MatrixException("Row index out of bounds");
+        if (dst == null || dst.length < cols) throw new MatrixException("Destination array too short");
+        if (colStride == 1 && colOffset == 0 && cols == base.getCols()) {
+            base.getRow(rowOffset + r * rowStride, dst);
+            return;
+        }
+        int br = rowOffset + r * rowStride;
+        for (int c = 0; c < cols; ++c) {
+            dst[c] = base.get(br, colOffset + c * colStride);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package pl.polsl.maj.model;
+
+import pl.polsl.maj.exceptions.MatrixException;
+
+/**
+ * Zero-copy transpose of a matrix: element {@code (r, c)} of the view is
+ * element {@code (c, r)} of the base matrix.
+ * <p>
+ * Multiplication kernels recognise this type and read the base matrix in a
+ * suitable loop order instead of materialising the transpose.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public class TransposedView extends MatrixView {
+
+    /**
+     * Create a transposed view of {@code base}.
+     *
+     * @param base matrix to transpose
+     * @throws MatrixException when {@code base} is null
+     */
+    public TransposedView(IMatrix base) throws MatrixException {
+        super(base);
+    }
+
+    /**
+     * Transpose a matrix without copying. Transposing a transposed view
+     * returns its base matrix.
+     *
+     * @param m matrix to transpose
+     * @return view (or the original matrix) representing {@code m}ᵀ
+     * @throws MatrixException when {@code m} is null
+     */
+    public static IMatrix of(IMatrix m) throws MatrixException {
+        if (m instanceof TransposedView t) {
+            return t.getBase();
+        }
+        return new TransposedView(m);
+    }
+
+    @Override
+    public int getRows() {
+        return base.getCols();
+    }
+
+    @Override
+    public int getCols() {
+        return base.getRows();
+    }
+
+    @Override
+    public double get(int r, int c) throws MatrixException {
+        return base.get(c, r);
+    }
+
+    @Override
+    public void set(int r, int c, double value) throws MatrixException {
+        base.set(c, r, value);
+    }
+
+    @Override
+    public void getRow(int r, double[] dst) throws MatrixException {
+        base.getColumn(r, dst);
+    }
+
+    @Override
+    public void getColumn(int c, double[] dst) throws MatrixException {
+        base.getRow(c, dst);
+    }
+}
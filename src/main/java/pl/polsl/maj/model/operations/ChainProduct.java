@@ -0,0 +1,18 @@
+package pl.polsl.maj.model.operations;
+
+import pl.polsl.maj.model.IMatrix;
+
+/**
+ * Product of a matrix chain together with the cost of the order used.
+ *
+ * @param product value of the chain
+ * @param order parenthesisation used, with factors numbered from 0
+ * @param flops estimated floating-point operations of the evaluation
+ * @param flopsSaved estimated floating-point operations saved compared
+ *        with left-to-right evaluation
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public record ChainProduct(IMatrix product, String order, long flops, long flopsSaved) {
+}
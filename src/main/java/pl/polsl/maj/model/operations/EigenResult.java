@@ -0,0 +1,20 @@
+package pl.polsl.maj.model.operations;
+
+import pl.polsl.maj.model.IMatrix;
+
+/**
+ * Eigenvalues and eigenvectors of a symmetric matrix.
+ * <p>
+ * Column {@code j} of {@code eigenvectors} is the unit eigenvector belonging
+ * to {@code eigenvalues[j]}. Eigenvectors may be {@code null} when only
+ * eigenvalues were requested.
+ * </p>
+ *
+ * @param eigenvalues eigenvalues in ascending order
+ * @param eigenvectors matrix whose columns are the eigenvectors, or {@code null}
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public record EigenResult(double[] eigenvalues, IMatrix eigenvectors) {
+}
@@ -0,0 +1,297 @@
+package pl.polsl.maj.model.operations;
+
+/**
+ * Closed-form kernels for square 2x2, 3x3 and 4x4 matrices.
+ * <p>
+ * At these sizes the loop control, index arithmetic and pivot search of the
+ * general algorithms cost more than the arithmetic itself. The kernels here
+ * are fully unrolled: operands are loaded into locals once, every result is
+ * a fixed expression, there are no data-dependent branches and nothing is
+ * allocated. Determinants and inverses use cofactor expansion, the 4x4
+ * case sharing the twelve 2x2 minors of its upper and lower row pairs
+ * between both. All arrays are row-major with {@code n * n} elements.
+ * </p>
+ * <p>
+ * Cofactor inversion does not pivot, so it loses more accuracy than LU on
+ * ill-conditioned input; {@link #isSingular(double[], int, double)} rejects
+ * matrices whose determinant is negligible relative to the Hadamard bound
+ * of their rows.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.2
+ */
+public final class FixedSizeKernels {
+    /** Largest dimension with a closed-form kernel. */
+    public static final int MAX_SIZE = 4;
+    /**
+     * Ratio of the determinant to its Hadamard bound below which a matrix is
+     * treated as singular; shared with kernels which evaluate the test lane
+     * by lane.
+     */
+    public static final double SINGULAR_EPS = 1e-12;
+
+    /**
+     * Utility class - prevent instantiation.
+     */
+    private FixedSizeKernels() {
+        // prevent instantiation
+    }
+
+    /**
+     * Check whether a closed-form kernel exists for the given dimension.
+     *
+     * @param n matrix dimension
+     * @return {@code true} for 2, 3 and 4
+     */
+    public static boolean supports(int n) {
+        return n >= 2 && n <= MAX_SIZE;
+    }
+
+    /**
+     * Compute the determinant.
+     *
+     * @param a (n x n) values
+     * @param n dimension, 2 to 4
+     * @return determinant value
+     */
+    public static double determinant(double[] a, int n) {
+        return switch (n) {
+            case 2 -> a[0] * a[3] - a[1] * a[2];
+            case 3 -> a[0] * (a[4] * a[8] - a[5] * a[7])
+                    - a[1] * (a[3] * a[8] - a[5] * a[6])
+                    + a[2] * (a[3] * a[7] - a[4] * a[6]);
+            case 4 -> determinant4(a);
+            default -> throw new IllegalArgumentException("Unsupported dimension: " + n);
+        };
+    }
+
+    /**
+     * Check whether a determinant is negligible relative to its Hadamard
+     * bound, i.e. {@code |det| <= eps * prod ||row_i||}. Scaling a row
+     * scales both sides equally, so the test is independent of the
+     * magnitude of the entries: {@code diag(1e6, 1, 1)} is accepted, while
+     * a matrix with (nearly) dependent rows is rejected.
+     *
+     * @param a (n x n) values
+     * @param n dimension
+     * @param det determinant of {@code a}
+     * @return {@code true} when the matrix should be treated as singular
+     */
+    public static boolean isSingular(double[] a, int n, double det) {
+        // divide row by row instead of forming the product, which could overflow
+        double ratio = Math.abs(det);
+        for (int i = 0; i < n; ++i) {
+            double sum = 0.0;
+            for (int j = i * n; j < i * n + n; ++j) {
+                sum += a[j] * a[j];
+            }
+            ratio /= Math.sqrt(sum);
+        }
+        return !(ratio > SINGULAR_EPS);
+    }
+
+    /**
+     * Compute the inverse as adjugate over determinant.
+     *
+     * @param a (n x n) values
+     * @param out (n x n) array receiving the inverse, must not be {@code a}
+     * @param n dimension, 2 to 4
+     * @return determinant of {@code a}; when it is zero {@code out} holds
+     *         non-finite values
+     */
+    public static double inverse(double[] a, double[] out, int n) {
+        return switch (n) {
+            case 2 -> inverse2(a, out);
+            case 3 -> inverse3(a, out);
+            case 4 -> inverse4(a, out);
+            default -> throw new IllegalArgumentException("Unsupported dimension: " + n);
+        };
+    }
+
+    /**
+     * Compute the product {@code c = a × b}.
+     *
+     * @param a (n x n) left operand
+     * @param b (n x n) right operand
+     * @param c (n x n) array receiving the product, must not be {@code b}
+     * @param n dimension, 2 to 4
+     */
+    public static void multiply(double[] a, double[] b, double[] c, int n) {
+        switch (n) {
+            case 2 -> multiply2(a, b, c);
+            case 3 -> multiply3(a, b, c);
+            case 4 -> multiply4(a, b, c);
+            default -> throw new IllegalArgumentException("Unsupported dimension: " + n);
+        }
+    }
+
+    /**
+     * Compute the transpose.
+     *
+     * @param a (n x n) values
+     * @param t (n x n) array receiving the transpose, must not be {@code a}
+     * @param n dimension, 2 to 4
+     */
+    public static void transpose(double[] a, double[] t, int n) {
+        switch (n) {
+            case 2 -> {
+                t[0] = a[0]; t[1] = a[2];
+                t[2] = a[1]; t[3] = a[3];
+            }
+            case 3 -> {
+                t[0] = a[0]; t[1] = a[3]; t[2] = a[6];
+                t[3] = a[1]; t[4] = a[4]; t[5] = a[7];
+                t[6] = a[2]; t[7] = a[5]; t[8] = a[8];
+            }
+            case 4 -> {
+                t[0] = a[0]; t[1] = a[4]; t[2] = a[8]; t[3] = a[12];
+                t[4] = a[1]; t[5] = a[5]; t[6] = a[9]; t[7] = a[13];
+                t[8] = a[2]; t[9] = a[6]; t[10] = a[10]; t[11] = a[14];
+                t[12] = a[3]; t[13] = a[7]; t[14] = a[11]; t[15] = a[15];
+            }
+            default -> throw new IllegalArgumentException("Unsupported dimension: " + n);
+        }
+    }
+
+    private static double determinant4(double[] a) {
+        // 2x2 minors of rows 0-1 (s) and rows 2-3 (c)
+        double s0 = a[0] * a[5] - a[4] * a[1];
+        double s1 = a[0] * a[6] - a[4] * a[2];
+        double s2 = a[0] * a[7] - a[4] * a[3];
+        double s3 = a[1] * a[6] - a[5] * a[2];
+        double s4 = a[1] * a[7] - a[5] * a[3];
+        double s5 = a[2] * a[7] - a[6] * a[3];
+        double c5 = a[10] * a[15] - a[14] * a[11];
+        double c4 = a[9] * a[15] - a[13] * a[11];
+        double c3 = a[9] * a[14] - a[13] * a[10];
+        double c2 = a[8] * a[15] - a[12] * a[11];
+        double c1 = a[8] * a[14] - a[12] * a[10];
+        double c0 = a[8] * a[13] - a[12] * a[9];
+        return s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+    }
+
+    private static double inverse2(double[] a, double[] out) {
+        double a0 = a[0], a1 = a[1], a2 = a[2], a3 = a[3];
+        double det = a0 * a3 - a1 * a2;
+        double inv = 1.0 / det;
+        out[0] = a3 * inv;
+        out[1] = -a1 * inv;
+        out[2] = -a2 * inv;
+        out[3] = a0 * inv;
+        return det;
+    }
+
+    private static double inverse3(double[] a, double[] out) {
+        double a0 = a[0], a1 = a[1], a2 = a[2];
+        double a3 = a[3], a4 = a[4], a5 = a[5];
+        double a6 = a[6], a7 = a[7], a8 = a[8];
+
+        // cofactors of the first row
+        double c0 = a4 * a8 - a5 * a7;
+        double c1 = a5 * a6 - a3 * a8;
+        double c2 = a3 * a7 - a4 * a6;
+        double det = a0 * c0 + a1 * c1 + a2 * c2;
+        double inv = 1.0 / det;
+
+        out[0] = c0 * inv;
+        out[1] = (a2 * a7 - a1 * a8) * inv;
+        out[2] = (a1 * a5 - a2 * a4) * inv;
+        out[3] = c1 * inv;
+        out[4] = (a0 * a8 - a2 * a6) * inv;
+        out[5] = (a2 * a3 - a0 * a5) * inv;
+        out[6] = c2 * inv;
+        out[7] = (a1 * a6 - a0 * a7) * inv;
+        out[8] = (a0 * a4 - a1 * a3) * inv;
+        return det;
+    }
+
+    private static double inverse4(double[] a, double[] out) {
+        double a0 = a[0], a1 = a[1], a2 = a[2], a3 = a[3];
+        double a4 = a[4], a5 = a[5], a6 = a[6], a7 = a[7];
+        double a8 = a[8], a9 = a[9], a10 = a[10], a11 = a[11];
+        double a12 = a[12], a13 = a[13], a14 = a[14], a15 = a[15];
+
+        // 2x2 minors of rows 0-1 (s) and rows 2-3 (c)
+        double s0 = a0 * a5 - a4 * a1;
+        double s1 = a0 * a6 - a4 * a2;
+        double s2 = a0 * a7 - a4 * a3;
+        double s3 = a1 * a6 - a5 * a2;
+        double s4 = a1 * a7 - a5 * a3;
+        double s5 = a2 * a7 - a6 * a3;
+        double c5 = a10 * a15 - a14 * a11;
+        double c4 = a9 * a15 - a13 * a11;
+        double c3 = a9 * a14 - a13 * a10;
+        double c2 = a8 * a15 - a12 * a11;
+        double c1 = a8 * a14 - a12 * a10;
+        double c0 = a8 * a13 - a12 * a9;
+
+        double det = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+        double inv = 1.0 / det;
+
+        out[0] = (a5 * c5 - a6 * c4 + a7 * c3) * inv;
+        out[1] = (-a1 * c5 + a2 * c4 - a3 * c3) * inv;
+        out[2] = (a13 * s5 - a14 * s4 + a15 * s3) * inv;
+        out[3] = (-a9 * s5 + a10 * s4 - a11 * s3) * inv;
+        out[4] = (-a4 * c5 + a6 * c2 - a7 * c1) * inv;
+        out[5] = (a0 * c5 - a2 * c2 + a3 * c1) * inv;
+        out[6] = (-a12 * s5 + a14 * s2 - a15 * s1) * inv;
+        out[7] = (a8 * s5 - a10 * s2 + a11 * s1) * inv;
+        out[8] = (a4 * c4 - a5 * c2 + a7 * c0) * inv;
+        out[9] = (-a0 * c4 + a1 * c2 - a3 * c0) * inv;
+        out[10] = (a12 * s4 - a13 * s2 + a15 * s0) * inv;
+        out[11] = (-a8 * s4 + a9 * s2 - a11 * s0) * inv;
+        out[12] = (-a4 * c3 + a5 * c1 - a6 * c0) * inv;
+        out[13] = (a0 * c3 - a1 * c1 + a2 * c0) * inv;
+        out[14] = (-a12 * s3 + a13 * s1 - a14 * s0) * inv;
+        out[15] = (a8 * s3 - a9 * s1 + a10 * s0) * inv;
+        return det;
+    }
+
+    private static void multiply2(double[] a, double[] b, double[] c) {
+        double a00 = a[0], a01 = a[1];
+        double a10 = a[2], a11 = a[3];
+        c[0] = a00 * b[0] + a01 * b[2];
+        c[1] = a00 * b[1] + a01 * b[3];
+        c[2] = a10 * b[0] + a11 * b[2];
+        c[3] = a10 * b[1] + a11 * b[3];
+    }
+
+    private static void multiply3(double[] a, double[] b, double[] c) {
+        double a00 = a[0], a01 = a[1], a02 = a[2];
+        double a10 = a[3], a11 = a[4], a12 = a[5];
+        double a20 = a[6], a21 = a[7], a22 = a[8];
+        c[0] = a00 * b[0] + a01 * b[3] + a02 * b[6];
+        c[1] = a00 * b[1] + a01 * b[4] + a02 * b[7];
+        c[2] = a00 * b[2] + a01 * b[5] + a02 * b[8];
+        c[3] = a10 * b[0] + a11 * b[3] + a12 * b[6];
+        c[4] = a10 * b[1] + a11 * b[4] + a12 * b[7];
+        c[5] = a10 * b[2] + a11 * b[5] + a12 * b[8];
+        c[6] = a20 * b[0] + a21 * b[3] + a22 * b[6];
+        c[7] = a20 * b[1] + a21 * b[4] + a22 * b[7];
+        c[8] = a20 * b[2] + a21 * b[5] + a22 * b[8];
+    }
+
+    private static void multiply4(double[] a, double[] b, double[] c) {
+        double a00 = a[0], a01 = a[1], a02 = a[2], a03 = a[3];
+        double a10 = a[4], a11 = a[5], a12 = a[6], a13 = a[7];
+        double a20 = a[8], a21 = a[9], a22 = a[10], a23 = a[11];
+        double a30 = a[12], a31 = a[13], a32 = a[14], a33 = a[15];
+        c[0] = a00 * b[0] + a01 * b[4] + a02 * b[8] + a03 * b[12];
+        c[1] = a00 * b[1] + a01 * b[5] + a02 * b[9] + a03 * b[13];
+        c[2] = a00 * b[2] + a01 * b[6] + a02 * b[10] + a03 * b[14];
+        c[3] = a00 * b[3] + a01 * b[7] + a02 * b[11] + a03 * b[15];
+        c[4] = a10 * b[0] + a11 * b[4] + a12 * b[8] + a13 * b[12];
+        c[5] = a10 * b[1] + a11 * b[5] + a12 * b[9] + a13 * b[13];
+        c[6] = a10 * b[2] + a11 * b[6] + a12 * b[10] + a13 * b[14];
+        c[7] = a10 * b[3] + a11 * b[7] + a12 * b[11] + a13 * b[15];
+        c[8] = a20 * b[0] + a21 * b[4] + a22 * b[8] + a23 * b[12];
+        c[9] = a20 * b[1] + a21 * b[5] + a22 * b[9] + a23 * b[13];
+        c[10] = a20 * b[2] + a21 * b[6] + a22 * b[10] + a23 * b[14];
+        c[11] = a20 * b[3] + a21 * b[7] + a22 * b[11] + a23 * b[15];
+        c[12] = a30 * b[0] + a31 * b[4] + a32 * b[8] + a33 * b[12];
+        c[13] = a30 * b[1] + a31 * b[5] + a32 * b[9] + a33 * b[13];
+        c[14] = a30 * b[2] + a31 * b[6] + a32 * b[10] + a33 * b[14];
+        c[15] = a30 * b[3] + a31 * b[7] + a32 * b[11] + a33 * b[15];
+    }
+}
@@ -0,0 +1,36 @@
+package pl.polsl.maj.model.operations;
+
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.IMatrix;
+
+/**
+ * Strategy for the eigen-decomposition of symmetric matrices.
+ * <p>
+ * A real symmetric matrix has real eigenvalues and an orthonormal basis of
+ * eigenvectors, {@code A = V diag(λ) Vᵀ}.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public interface IEigenAlgorithm {
+    /**
+     * Compute all eigenvalues and eigenvectors.
+     *
+     * @param a square symmetric matrix
+     * @return eigenvalues in ascending order with matching eigenvectors
+     * @throws MatrixException when the matrix is not square or not symmetric
+     */
+    public EigenResult execute(IMatrix a) throws MatrixException;
+
+    /**
+     * Compute eigenvalues only, skipping the work needed for eigenvectors.
+     *
+     * @param a square symmetric matrix
+     * @return eigenvalues in ascending order
+     * @throws MatrixException when the matrix is not square or not symmetric
+     */
+    default double[] eigenvalues(IMatrix a) throws MatrixException {
+        return execute(a).eigenvalues();
+    }
+}
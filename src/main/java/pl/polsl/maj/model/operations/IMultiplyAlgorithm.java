@@ -2,6 +2,7 @@ package pl.polsl.maj.model.operations;
 
 import pl.polsl.maj.exceptions.MatrixException;
 import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.MatrixArrays;
 
 /**
  * Strategy for matrix multiplication (A × B).
@@ -10,9 +11,14 @@ import pl.polsl.maj.model.IMatrix;
  * matrix equals the number of rows in the second matrix. The result has
  * dimensions (m × k) when multiplying an (m × n) by an (n × k) matrix.
  * </p>
+ * <p>
+ * Dense implementations follow IEEE arithmetic, so a zero multiplied by an
+ * infinite or NaN element yields NaN. Sparse implementations visit stored
+ * non-zeros only and do not propagate non-finite values through zeros.
+ * </p>
  *
  * @author piotr.maj
- * @version 1.0.0
+ * @version 1.0.2
  */
 public interface IMultiplyAlgorithm {
     /**
@@ -24,4 +30,45 @@ public interface IMultiplyAlgorithm {
      * @throws MatrixException when matrices cannot be multiplied
      */
     public IMatrix execute(IMatrix a, IMatrix b) throws MatrixException;
+
+    /**
+     * Perform matrix multiplication into an existing matrix. {@code dst}
+     * must not share storage with either operand, also through a
+     * {@link pl.polsl.maj.model.MatrixView}.
+     *
+     * @param a left operand matrix with dimensions (m × n)
+     * @param b right operand matrix with dimensions (n × k)
+     * @param dst matrix with dimensions (m × k) receiving the product
+     * @throws MatrixException when dimensions do not match or {@code dst} shares storage with an operand
+     */
+    default void executeInto(IMatrix a, IMatrix b, IMatrix dst) throws MatrixException {
+        if (a == null || b == null || dst == null) {
+            throw new MatrixException("Matrices cannot be empty");
+        }
+        if (a.getCols() != b.getRows()) {
+            throw new MatrixException("Cannot multiply not compatible matrices");
+        }
+        if (dst.getRows() != a.getRows() || dst.getCols() != b.getCols()) {
+            throw new MatrixException("Destination matrix has wrong dimensions");
+        }
+        if (MatrixArrays.sharesStorage(dst, a) || MatrixArrays.sharesStorage(dst, b)) {
+            throw new MatrixException("Destination matrix must not be an operand");
+        }
+
+        double[] rowA = new double[a.getCols()];
+        double[] rowB = new double[b.getCols()];
+        double[] result = new double[b.getCols()];
+        for (int i = 0; i < a.getRows(); ++i) {
+            a.getRow(i, rowA);
+            java.util.Arrays.fill(result, 0.0);
+            for (int p = 0; p < a.getCols(); ++p) {
+                double aip = rowA[p];
+                b.getRow(p, rowB);
+                for (int j = 0; j < b.getCols(); ++j) {
+                    result[j] += aip * rowB[j];
+                }
+            }
+            dst.setRow(i, result);
+        }
+    }
 }
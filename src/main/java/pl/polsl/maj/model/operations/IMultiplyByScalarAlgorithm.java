@@ -22,4 +22,26 @@ public interface IMultiplyByScalarAlgorithm {
      * @throws MatrixException when operation fails
      */
     public IMatrix execute(IMatrix a, double scalar) throws MatrixException;
+
+    /**
+     * Multiply every element of {@code a} by {@code scalar} in place.
+     *
+     * @param a matrix to scale (modified)
+     * @param scalar scaling factor
+     * @throws MatrixException when operation fails
+     */
+    default void executeInPlace(IMatrix a, double scalar) throws MatrixException {
+        if (a == null) {
+            throw new MatrixException("Matrices cannot be empty");
+        }
+
+        double[] row = new double[a.getCols()];
+        for (int i = 0; i < a.getRows(); ++i) {
+            a.getRow(i, row);
+            for (int j = 0; j < a.getCols(); ++j) {
+                row[j] *= scalar;
+            }
+            a.setRow(i, row);
+        }
+    }
 }
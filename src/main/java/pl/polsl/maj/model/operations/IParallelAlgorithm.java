@@ -0,0 +1,25 @@
+package pl.polsl.maj.model.operations;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Marker for algorithms which split their work across a {@link ForkJoinPool}.
+ * <p>
+ * The {@link MatrixOperations} constructors taking an explicit pool hand
+ * it to every strategy implementing this interface, so the degree of
+ * parallelism of the whole facade is controlled in a single place. The
+ * constructors without a pool leave every strategy on the pool it was
+ * created with.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.1
+ */
+public interface IParallelAlgorithm {
+    /**
+     * Set the pool used to run parallel tasks.
+     *
+     * @param pool fork/join pool (must not be null)
+     */
+    public void setPool(ForkJoinPool pool);
+}
@@ -0,0 +1,27 @@
+package pl.polsl.maj.model.operations;
+
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.IMatrix;
+
+/**
+ * Strategy for solving linear systems {@code A X = B}.
+ * <p>
+ * Computes {@code X = A^-1 B} directly from a factorization of A, which
+ * needs fewer operations and is numerically more accurate than forming the
+ * inverse and multiplying it by B.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public interface ISolveAlgorithm {
+    /**
+     * Solve a linear system.
+     *
+     * @param a square, non-singular coefficient matrix (n x n)
+     * @param b right-hand side matrix (n x k), one system per column
+     * @return solution matrix X (n x k)
+     * @throws MatrixException when dimensions do not match or A is singular
+     */
+    public IMatrix execute(IMatrix a, IMatrix b) throws MatrixException;
+}
@@ -2,12 +2,13 @@ package pl.polsl.maj.model.operations;
 
 import pl.polsl.maj.exceptions.MatrixException;
 import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.MatrixArrays;
 
 /**
  * Strategy for matrix subtraction (A - B).
  *
  * @author piotr.maj
- * @version 1.0.0
+ * @version 1.0.1
  */
 public interface ISubstractAlgorithm {
     /**
@@ -19,4 +20,38 @@ public interface ISubstractAlgorithm {
      * @throws MatrixException when matrices cannot be subtracted
      */
     public IMatrix execute(IMatrix a, IMatrix b) throws MatrixException;
+
+    /**
+     * Perform matrix subtraction into an existing matrix. {@code dst} may be
+     * the same instance as {@code a} or {@code b}, but must not otherwise
+     * share storage with them, e.g. through a
+     * {@link pl.polsl.maj.model.MatrixView}.
+     *
+     * @param a minuend matrix
+     * @param b subtrahend matrix
+     * @param dst matrix of the same size receiving {@code a - b}
+     * @throws MatrixException when matrices differ in size or {@code dst} shares storage with an operand
+     */
+    default void executeInto(IMatrix a, IMatrix b, IMatrix dst) throws MatrixException {
+        if (a == null || b == null || dst == null) {
+            throw new MatrixException("Matrices cannot be empty");
+        }
+        if (!a.isEqualSize(b) || !a.isEqualSize(dst)) {
+            throw new MatrixException("Matrices must be equal in size");
+        }
+        if ((dst != a && MatrixArrays.sharesStorage(dst, a)) || (dst != b && MatrixArrays.sharesStorage(dst, b))) {
+            throw new MatrixException("Destination matrix must not be an operand");
+        }
+
+        double[] rowA = new double[a.getCols()];
+        double[] rowB = new double[a.getCols()];
+        for (int i = 0; i < a.getRows(); ++i) {
+            a.getRow(i, rowA);
+            b.getRow(i, rowB);
+            for (int j = 0; j < a.getCols(); ++j) {
+                rowA[j] -= rowB[j];
+            }
+            dst.setRow(i, rowA);
+        }
+    }
 }
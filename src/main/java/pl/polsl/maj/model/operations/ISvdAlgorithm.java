@@ -0,0 +1,38 @@
+package pl.polsl.maj.model.operations;
+
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.IMatrix;
+
+/**
+ * Strategy for the singular value decomposition of rectangular matrices.
+ * <p>
+ * Every real (m x n) matrix can be written as {@code A = U diag(σ) Vᵀ} with
+ * orthonormal columns in U and V and {@code σ_1 >= σ_2 >= ... >= 0}.
+ * Implementations may return all {@code min(m, n)} triplets or only the
+ * leading ones.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public interface ISvdAlgorithm {
+    /**
+     * Compute singular values and singular vectors.
+     *
+     * @param a matrix to decompose
+     * @return singular values in descending order with matching vectors
+     * @throws MatrixException when the matrix is empty or the decomposition fails
+     */
+    public SvdResult execute(IMatrix a) throws MatrixException;
+
+    /**
+     * Compute singular values only, skipping the work needed for vectors.
+     *
+     * @param a matrix to decompose
+     * @return singular values in descending order
+     * @throws MatrixException when the matrix is empty or the decomposition fails
+     */
+    default double[] singularValues(IMatrix a) throws MatrixException {
+        return execute(a).singularValues();
+    }
+}
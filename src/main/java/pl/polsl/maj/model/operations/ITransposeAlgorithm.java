@@ -22,4 +22,25 @@ public interface ITransposeAlgorithm {
      * @throws MatrixException when operation fails
      */
     public IMatrix execute(IMatrix a) throws MatrixException;
+
+    /**
+     * Transpose a square matrix in place by swapping elements across the
+     * diagonal.
+     *
+     * @param a square matrix to transpose (modified)
+     * @throws MatrixException when matrix is not square
+     */
+    default void executeInPlace(IMatrix a) throws MatrixException {
+        if (a == null || !a.isSquare()) {
+            throw new MatrixException("Matrix must be squared");
+        }
+
+        for (int i = 0; i < a.getRows(); ++i) {
+            for (int j = i + 1; j < a.getCols(); ++j) {
+                double tmp = a.get(i, j);
+                a.set(i, j, a.get(j, i));
+                a.set(j, i, tmp);
+            }
+        }
+    }
 }
@@ -0,0 +1,282 @@
+package pl.polsl.maj.model.operations;
+
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.MatrixArrays;
+
+/**
+ * LU decomposition with partial pivoting ({@code P A = L U}).
+ * <p>
+ * The factorization is computed once in the constructor and stored in a
+ * compact row-major array (unit lower-triangular {@code L} below the
+ * diagonal, {@code U} on and above it) together with the row permutation.
+ * The determinant, linear-system solutions and the inverse are then derived
+ * from the stored factors without repeating the O(n^3) elimination.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.2
+ */
+public final class LUDecomposition {
+    /** Pivots smaller than this are treated as zero when solving. */
+    private static final double SINGULAR_EPS = 1e-12;
+    /** Number of right-hand sides substituted together. */
+    private static final int RHS_BLOCK = 64;
+
+    /** Matrix used to create results of the same concrete type. */
+    private final IMatrix prototype;
+    /** Matrix dimension. */
+    private final int n;
+    /** Combined L and U factors in row-major order. */
+    private final double[] lu;
+    /** Row permutation: row {@code i} of {@code P A} is row {@code piv[i]} of {@code A}. */
+    private final int[] piv;
+    /** Sign of the permutation and of the pivots, {@code 0} when singular. */
+    private final double sign;
+    /** Sum of logarithms of absolute pivot values. */
+    private final double logAbs;
+    /** Smallest absolute pivot value. */
+    private final double minPivot;
+
+    /**
+     * Factorize the given square matrix.
+     *
+     * @param a square matrix to decompose
+     * @throws MatrixException when the matrix is not square or is empty
+     */
+    public LUDecomposition(IMatrix a) throws MatrixException {
+        if (a == null || !a.isSquare() || a.getRows() < 1) {
+            throw new MatrixException("Matrix must be squared and not empty");
+        }
+
+        this.prototype = a;
+        this.n = a.getRows();
+        this.lu = MatrixArrays.copyOf(a);
+        this.piv = new int[n];
+        for (int i = 0; i < n; ++i) {
+            piv[i] = i;
+        }
+
+        double s = 1.0;
+        double log = 0.0;
+        double min = Double.POSITIVE_INFINITY;
+
+        for (int k = 0; k < n; ++k) {
+            int pivotRow = k;
+            double pivotAbs = Math.abs(lu[k * n + k]);
+            for (int i = k + 1; i < n; ++i) {
+                double v = Math.abs(lu[i * n + k]);
+                if (v > pivotAbs) {
+                    pivotAbs = v;
+                    pivotRow = i;
+                }
+            }
+
+            if (pivotRow != k) {
+                swapRows(k, pivotRow);
+                int tmp = piv[k];
+                piv[k] = piv[pivotRow];
+                piv[pivotRow] = tmp;
+                s = -s;
+            }
+
+            min = Math.min(min, pivotAbs);
+            if (pivotAbs == 0.0) {
+                s = 0.0;
+                log = Double.NEGATIVE_INFINITY;
+                continue;
+            }
+
+            double pivot = lu[k * n + k];
+            if (pivot < 0) {
+                s = -s;
+            }
+            log += Math.log(pivotAbs);
+
+            int rk = k * n;
+            for (int i = k + 1; i < n; ++i) {
+                int ri = i * n;
+                double factor = lu[ri + k] / pivot;
+                lu[ri + k] = factor;
+                if (factor == 0.0) continue;
+                for (int j = k + 1; j < n; ++j) {
+                    lu[ri + j] -= factor * lu[rk + j];
+                }
+            }
+        }
+
+        this.sign = s;
+        this.logAbs = log;
+        this.minPivot = min;
+    }
+
+    /**
+     * Return the dimension of the decomposed matrix.
+     *
+     * @return number of rows (and columns)
+     */
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Check whether the decomposed matrix is numerically singular.
+     *
+     * @return {@code true} when a pivot is (close to) zero
+     */
+    public boolean isSingular() {
+        return minPivot < SINGULAR_EPS;
+    }
+
+    /**
+     * Compute the determinant as the direct product of the stored pivots,
+     * which is exact for small integer matrices. May overflow to infinity
+     * or underflow to zero for very large matrices; see
+     * {@link #logAbsDeterminant()}.
+     *
+     * @return determinant value
+     */
+    public double determinant() {
+        if (sign == 0.0) {
+            return 0.0;
+        }
+        double det = sign;
+        for (int k = 0; k < n; ++k) {
+            det *= Math.abs(lu[k * n + k]);
+        }
+        return det;
+    }
+
+    /**
+     * Return the sign of the determinant.
+     *
+     * @return {@code 1}, {@code -1} or {@code 0} for a singular matrix
+     */
+    public double determinantSign() {
+        return sign;
+    }
+
+    /**
+     * Return the natural logarithm of the absolute determinant.
+     *
+     * @return log of |det(A)|, {@code -Infinity} for a singular matrix
+     */
+    public double logAbsDeterminant() {
+        return logAbs;
+    }
+
+    /**
+     * Return a copy of the row permutation.
+     *
+     * @return permutation where entry {@code i} is the source row of row {@code i}
+     */
+    public int[] getPivot() {
+        return piv.clone();
+    }
+
+    /**
+     * Solve {@code A X = B} using the stored factors.
+     *
+     * @param b right-hand side matrix with {@code n} rows
+     * @return solution matrix of the same dimensions as {@code b}
+     * @throws MatrixException when dimensions differ or the matrix is singular
+     */
+    public IMatrix solve(IMatrix b) throws MatrixException {
+        if (b == null || b.getRows() != n) {
+            throw new MatrixException("Matrix row dimensions must agree");
+        }
+
+        int k = b.getCols();
+        double[] src = MatrixArrays.copyOf(b);
+        double[] x = new double[n * k];
+        for (int i = 0; i < n; ++i) {
+            System.arraycopy(src, piv[i] * k, x, i * k, k);
+        }
+
+        solveInPlace(x, k);
+        return MatrixArrays.fromRowMajor(b, n, k, x);
+    }
+
+    /**
+     * Compute the inverse of the decomposed matrix.
+     *
+     * @return inverse matrix of the same concrete type as the input
+     * @throws MatrixException when the matrix is singular
+     */
+    public IMatrix inverse() throws MatrixException {
+        double[] x = new double[n * n];
+        for (int i = 0; i < n; ++i) {
+            x[i * n + piv[i]] = 1.0;
+        }
+
+        solveInPlace(x, n);
+        return MatrixArrays.fromRowMajor(prototype, n, n, x);
+    }
+
+    /**
+     * Solve {@code L U X = Y} in place where {@code x} holds the permuted
+     * right-hand sides {@code Y} as an (n x k) row-major array.
+     * <p>
+     * Right-hand sides are processed in column blocks of at most
+     * {@value #RHS_BLOCK} so that the active slice of {@code x} stays in
+     * cache while the factors are streamed over it; every update is a
+     * contiguous row-axpy within the block.
+     * </p>
+     *
+     * @param x permuted right-hand sides, overwritten with the solution
+     * @param k number of right-hand sides
+     * @throws MatrixException when the matrix is singular
+     */
+    public void solveInPlace(double[] x, int k) throws MatrixException {
+        if (isSingular()) {
+            throw new MatrixException("Matrix is not invertible");
+        }
+
+        for (int jb = 0; jb < k; jb += RHS_BLOCK) {
+            int je = Math.min(jb + RHS_BLOCK, k);
+
+            // forward substitution with unit lower-triangular L
+            for (int i = 1; i < n; ++i) {
+                int ri = i * n;
+                int xi = i * k;
+                for (int p = 0; p < i; ++p) {
+                    double l = lu[ri + p];
+                    if (l == 0.0) continue;
+                    int xp = p * k;
+                    for (int j = jb; j < je; ++j) {
+                        x[xi + j] -= l * x[xp + j];
+                    }
+                }
+            }
+
+            // back substitution with upper-triangular U
+            for (int i = n - 1; i >= 0; --i) {
+                int ri = i * n;
+                int xi = i * k;
+                for (int p = i + 1; p < n; ++p) {
+                    double u = lu[ri + p];
+                    if (u == 0.0) continue;
+                    int xp = p * k;
+                    for (int j = jb; j < je; ++j) {
+                        x[xi + j] -= u * x[xp + j];
+                    }
+                }
+                double d = lu[ri + i];
+                for (int j = jb; j < je; ++j) {
+                    x[xi + j] /= d;
+                }
+            }
+        }
+    }
+
+    /** Swap two rows of the factor array. */
+    private void swapRows(int r1, int r2) {
+        int o1 = r1 * n;
+        int o2 = r2 * n;
+        for (int j = 0; j < n; ++j) {
+            double tmp = lu[o1 + j];
+            lu[o1 + j] = lu[o2 + j];
+            lu[o2 + j] = tmp;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package pl.polsl.maj.model.operations;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.MatrixArrays;
+
+/**
+ * Cheapest evaluation order of a matrix chain {@code M0 M1 ... Mn-1}.
+ * <p>
+ * The product of a (p x q) and a (q x r) matrix costs {@code p q r}
+ * multiply-adds, so the cost of a chain depends heavily on its
+ * parenthesisation: for shapes such as (1000 x 1) (1 x 1000) (1000 x 1)
+ * the left-to-right order is a thousand times more expensive than
+ * {@code M0 (M1 M2)}. The constructor finds the order with the fewest
+ * multiply-adds by the classic O(n^3) dynamic programme over sub-chains;
+ * only the dimensions are inspected, so planning is negligible next to the
+ * products themselves.
+ * </p>
+ * <p>
+ * {@link #multiply} then evaluates the plan. The two halves of every split
+ * are independent, so the left one is forked on the pool while the current
+ * thread computes the right one, unless the sub-chain is too cheap to
+ * benefit.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public final class MatrixChain {
+    /** Number of multiply-adds below which a sub-chain is not split across threads. */
+    private static final long PARALLEL_CUTOFF = 1L << 20;
+
+    /** Factors of the chain. */
+    private final IMatrix[] matrices;
+    /** Minimal number of multiply-adds of sub-chain (i, j), stored at {@code i * n + j}. */
+    private final long[] cost;
+    /** Index k of the last factor of the left part of sub-chain (i, j). */
+    private final int[] split;
+    /** Number of multiply-adds of the left-to-right order. */
+    private final long leftToRightCost;
+
+    /**
+     * Plan the evaluation of a chain.
+     *
+     * @param matrices factors in multiplication order (not copied)
+     * @throws MatrixException when the chain is empty or adjacent dimensions do not match
+     */
+    public MatrixChain(IMatrix... matrices) throws MatrixException {
+        if (matrices == null || matrices.length == 0) {
+            throw new MatrixException("Matrices cannot be empty");
+        }
+        int n = matrices.length;
+        long[] dims = new long[n + 1];
+        for (int i = 0; i < n; ++i) {
+            IMatrix m = matrices[i];
+            if (m == null || m.getRows() < 1 || m.getCols() < 1) {
+                throw new MatrixException("Matrices cannot be empty");
+            }
+            if (i > 0 && matrices[i - 1].getCols() != m.getRows()) {
+                throw new MatrixException("Cannot multiply not compatible matrices");
+            }
+            dims[i] = m.getRows();
+        }
+        dims[n] = matrices[n - 1].getCols();
+
+        this.matrices = matrices.clone();
+        this.cost = new long[n * n];
+        this.split = new int[n * n];
+        for (int len = 2; len <= n; ++len) {
+            for (int i = 0; i + len <= n; ++i) {
+                int j = i + len - 1;
+                long best = Long.MAX_VALUE;
+                for (int k = i; k < j; ++k) {
+                    long c = cost[i * n + k] + cost[(k + 1) * n + j] + dims[i] * dims[k + 1] * dims[j + 1];
+                    if (c < best) {
+                        best = c;
+                        split[i * n + j] = k;
+                    }
+                }
+                cost[i * n + j] = best;
+            }
+        }
+
+        long naive = 0;
+        for (int k = 1; k < n; ++k) {
+            naive += dims[0] * dims[k] * dims[k + 1];
+        }
+        this.leftToRightCost = naive;
+    }
+
+    /**
+     * Return the number of multiply-adds of the planned order.
+     *
+     * @return estimated cost of {@link #multiply}
+     */
+    public long getCost() {
+        return cost[matrices.length - 1];
+    }
+
+    /**
+     * Return the number of multiply-adds of plain left-to-right evaluation.
+     *
+     * @return cost of {@code ((M0 M1) M2) ...}
+     */
+    public long getLeftToRightCost() {
+        return leftToRightCost;
+    }
+
+    /**
+     * Return the estimated number of floating-point operations (one multiply
+     * and one add per multiply-add) saved by the planned order compared with
+     * left-to-right evaluation.
+     *
+     * @return saved flops, never negative
+     */
+    public long getFlopsSaved() {
+        return 2 * (leftToRightCost - getCost());
+    }
+
+    /**
+     * Return the planned parenthesisation, e.g. {@code (M0 (M1 M2))}.
+     *
+     * @return order of evaluation with factors numbered from 0
+     */
+    public String getOrder() {
+        StringBuilder str = new StringBuilder();
+        appendOrder(str, 0, matrices.length - 1);
+        return str.toString();
+    }
+
+    /**
+     * Evaluate the chain in the planned order.
+     *
+     * @param multiplyAlgo algorithm used for every pairwise product
+     * @param pool pool on which independent sub-products run
+     * @return product of the chain; a copy of the only factor for a chain of one
+     * @throws MatrixException when a product fails
+     */
+    public IMatrix multiply(IMultiplyAlgorithm multiplyAlgo, ForkJoinPool pool) throws MatrixException {
+        if (multiplyAlgo == null || pool == null) {
+            throw new IllegalArgumentException("Algorithm and pool cannot be null");
+        }
+        int n = matrices.length;
+        if (n == 1) {
+            IMatrix m = matrices[0];
+            return MatrixArrays.fromRowMajor(m, m.getRows(), m.getCols(), MatrixArrays.copyOf(m));
+        }
+        if (getCost() < PARALLEL_CUTOFF) {
+            return product(multiplyAlgo, 0, n - 1);
+        }
+        SubChain task = new SubChain(multiplyAlgo, 0, n - 1);
+        pool.invoke(task);
+        return task.result();
+    }
+
+    /** Multiply sub-chain (i, j), forking the left half when it is worth it. */
+    private IMatrix product(IMultiplyAlgorithm multiplyAlgo, int i, int j) throws MatrixException {
+        if (i == j) {
+            return matrices[i];
+        }
+        int n = matrices.length;
+        int k = split[i * n + j];
+        if (cost[i * n + k] >= PARALLEL_CUTOFF && cost[(k + 1) * n + j] >= PARALLEL_CUTOFF) {
+            SubChain left = new SubChain(multiplyAlgo, i, k);
+            left.fork();
+            IMatrix right = product(multiplyAlgo, k + 1, j);
+            left.join();
+            return multiplyAlgo.execute(left.result(), right);
+        }
+        return multiplyAlgo.execute(product(multiplyAlgo, i, k), product(multiplyAlgo, k + 1, j));
+    }
+
+    private void appendOrder(StringBuilder str, int i, int j) {
+        if (i == j) {
+            str.append('M').append(i);
+            return;
+        }
+        int k = split[i * matrices.length + j];
+        str.append('(');
+        appendOrder(str, i, k);
+        str.append(' ');
+        appendOrder(str, k + 1, j);
+        str.append(')');
+    }
+
+    /** Task computing one sub-chain; a failure is kept and rethrown by the caller. */
+    private final class SubChain extends RecursiveAction {
+        private final IMultiplyAlgorithm multiplyAlgo;
+        private final int from;
+        private final int to;
+        private IMatrix value;
+        private MatrixException error;
+
+        SubChain(IMultiplyAlgorithm multiplyAlgo, int from, int to) {
+            this.multiplyAlgo = multiplyAlgo;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                value = product(multiplyAlgo, from, to);
+            } catch (MatrixException e) {
+                error = e;
+            }
+        }
+
+        IMatrix result() throws MatrixException {
+            if (error != null) {
+                throw error;
+            }
+            return value;
+        }
+    }
+}
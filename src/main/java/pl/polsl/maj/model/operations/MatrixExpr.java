@@ -0,0 +1,599 @@
+package pl.polsl.maj.model.operations;
+
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
+import java.util.function.DoubleUnaryOperator;
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.MatrixArrays;
+
+/**
+ * Lazily evaluated matrix expression.
+ * <p>
+ * Operations on an expression only record a node of a directed acyclic
+ * graph; nothing is computed until {@link #materialize()} is called. The
+ * result is then produced in square tiles of {@value #TILE} x {@value #TILE}
+ * elements: every element-wise node (sum, difference, scaling,
+ * {@link #map}, {@link #zip}) combines tile buffers that stay in cache,
+ * so a chain such as {@code A.add(B).multiplyByScalar(2).transpose()} reads
+ * A and B once and writes the result once, without the intermediate
+ * matrices the eager algorithms allocate through {@code createSameType}.
+ * </p>
+ * <p>
+ * Transposition is never performed on its own: a transpose node flips the
+ * access pattern of its operand, so transposed operands are read straight
+ * from their original storage. Double transposes and nested scalings are
+ * folded when the graph is built. A matrix product cannot be fused with
+ * element-wise work; each product node is evaluated once per
+ * {@code materialize()} by the configured {@link IMultiplyAlgorithm}
+ * (operands that are products of their own are evaluated first) and its
+ * result is then read like an input matrix. Sub-expressions shared by
+ * several nodes are evaluated only once: an element-wise node with more
+ * than one consumer is computed into a full-size buffer on first use and
+ * read from it afterwards, so its inputs are read and its {@link #map} or
+ * {@link #zip} function is applied once per element, at the cost of
+ * giving up fusion with its consumers.
+ * </p>
+ * <p>
+ * Input matrices are read when the expression is materialized, not when it
+ * is built, and must not be modified by another thread meanwhile. The
+ * result has the concrete type of the first input matrix of the expression.
+ * Expressions are immutable and can be materialized repeatedly.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.1
+ */
+public abstract class MatrixExpr {
+    /** Edge of the square tiles evaluated in one pass. */
+    private static final int TILE = 64;
+
+    /** Number of rows of the expression value. */
+    final int rows;
+    /** Number of columns of the expression value. */
+    final int cols;
+    /** Algorithm used for matrix products of this expression. */
+    final IMultiplyAlgorithm multiplyAlgo;
+
+    MatrixExpr(int rows, int cols, IMultiplyAlgorithm multiplyAlgo) {
+        this.rows = rows;
+        this.cols = cols;
+        this.multiplyAlgo = multiplyAlgo;
+    }
+
+    /**
+     * Start an expression from a matrix.
+     *
+     * @param a input matrix (not copied)
+     * @param multiplyAlgo algorithm used for matrix products in the expression
+     * @return expression whose value is {@code a}
+     * @throws MatrixException when the matrix is empty
+     * @throws IllegalArgumentException when {@code multiplyAlgo} is null
+     */
+    public static MatrixExpr of(IMatrix a, IMultiplyAlgorithm multiplyAlgo) throws MatrixException {
+        if (multiplyAlgo == null) {
+            throw new IllegalArgumentException("Algorithm cannot be null");
+        }
+        if (a == null || a.getRows() < 1 || a.getCols() < 1) {
+            throw new MatrixException("Matrices cannot be empty");
+        }
+        return new Leaf(a, multiplyAlgo);
+    }
+
+    /**
+     * Return the number of rows of the expression value.
+     *
+     * @return number of rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Return the number of columns of the expression value.
+     *
+     * @return number of columns
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Element-wise sum.
+     *
+     * @param other expression of the same size
+     * @return lazy sum
+     * @throws MatrixException when sizes differ
+     */
+    public MatrixExpr add(MatrixExpr other) throws MatrixException {
+        checkEqualSize(other);
+        return new Sum(this, other, 1.0);
+    }
+
+    /**
+     * Element-wise difference.
+     *
+     * @param other expression of the same size
+     * @return lazy difference
+     * @throws MatrixException when sizes differ
+     */
+    public MatrixExpr substract(MatrixExpr other) throws MatrixException {
+        checkEqualSize(other);
+        return new Sum(this, other, -1.0);
+    }
+
+    /**
+     * Multiplication by a scalar value.
+     *
+     * @param scalar scaling factor
+     * @return lazy scaled expression
+     */
+    public MatrixExpr multiplyByScalar(double scalar) {
+        if (scalar == 1.0) {
+            return this;
+        }
+        if (this instanceof Scale scale) {
+            return new Scale(scale.operand, scale.scalar * scalar);
+        }
+        return new Scale(this, scalar);
+    }
+
+    /**
+     * Transposition, folded into the access pattern of the operands.
+     *
+     * @return lazy transpose
+     */
+    public MatrixExpr transpose() {
+        if (this instanceof Transpose transpose) {
+            return transpose.operand;
+        }
+        return new Transpose(this);
+    }
+
+    /**
+     * Matrix product.
+     *
+     * @param other right operand with as many rows as this expression has columns
+     * @return lazy product
+     * @throws MatrixException when dimensions do not match
+     */
+    public MatrixExpr multiply(MatrixExpr other) throws MatrixException {
+        if (other == null || cols != other.rows) {
+            throw new MatrixException("Cannot multiply not compatible matrices");
+        }
+        return new Product(this, other);
+    }
+
+    /**
+     * Apply a function to every element.
+     *
+     * @param op function of the element value
+     * @return lazy mapped expression
+     */
+    public MatrixExpr map(DoubleUnaryOperator op) {
+        if (op == null) {
+            throw new IllegalArgumentException("Operation cannot be null");
+        }
+        return new Map(this, op);
+    }
+
+    /**
+     * Combine two expressions element by element.
+     *
+     * @param other expression of the same size
+     * @param op function of the pair of corresponding elements
+     * @return lazy combined expression
+     * @throws MatrixException when sizes differ
+     */
+    public MatrixExpr zip(MatrixExpr other, DoubleBinaryOp op) throws MatrixException {
+        if (op == null) {
+            throw new IllegalArgumentException("Operation cannot be null");
+        }
+        checkEqualSize(other);
+        return new Zip(this, other, op);
+    }
+
+    /**
+     * Evaluate the expression.
+     *
+     * @return new matrix holding the value, never one of the inputs
+     * @throws MatrixException when a matrix product fails
+     */
+    public IMatrix materialize() throws MatrixException {
+        return evaluate(new Evaluation(this));
+    }
+
+    /** Concrete type used for the value of this expression. */
+    abstract IMatrix prototype();
+
+    /** Direct operands of this node. */
+    abstract MatrixExpr[] operands();
+
+    /**
+     * Whether the value is produced tile by tile inside the consumer, as
+     * opposed to being read from an input or a computed product.
+     */
+    boolean fused() {
+        return true;
+    }
+
+    /**
+     * Write the (h x w) block at (r0, c0) of this value, or of its transpose
+     * when {@code transposed} is set, to {@code out} (row-major, stride w).
+     */
+    abstract void fill(Evaluation ev, int r0, int c0, int h, int w,
+                       boolean transposed, double[] out) throws MatrixException;
+
+    /**
+     * Write a block of this value like {@link #fill}, reading it from the
+     * buffer of a shared node instead of recomputing it.
+     */
+    final void block(Evaluation ev, int r0, int c0, int h, int w,
+                     boolean transposed, double[] out) throws MatrixException {
+        double[] shared = ev.shared(this);
+        if (shared != null) {
+            read(shared, cols, r0, c0, h, w, transposed, out);
+        } else {
+            fill(ev, r0, c0, h, w, transposed, out);
+        }
+    }
+
+    /** Compute the value into a new matrix. */
+    IMatrix evaluate(Evaluation ev) throws MatrixException {
+        double[] shared = ev.shared(this);
+        return MatrixArrays.fromRowMajor(prototype(), rows, cols, shared != null ? shared : compute(ev));
+    }
+
+    /** Compute the value tile by tile into a new row-major array. */
+    double[] compute(Evaluation ev) throws MatrixException {
+        double[] result = new double[rows * cols];
+        double[] tile = new double[TILE * TILE];
+        for (int r0 = 0; r0 < rows; r0 += TILE) {
+            int h = Math.min(TILE, rows - r0);
+            for (int c0 = 0; c0 < cols; c0 += TILE) {
+                int w = Math.min(TILE, cols - c0);
+                fill(ev, r0, c0, h, w, false, tile);
+                for (int i = 0; i < h; ++i) {
+                    System.arraycopy(tile, i * w, result, (r0 + i) * cols + c0, w);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void checkEqualSize(MatrixExpr other) throws MatrixException {
+        if (other == null || rows != other.rows || cols != other.cols) {
+            throw new MatrixException("Matrices must be equal in size");
+        }
+    }
+
+    /** State of one {@code materialize()} call. */
+    static final class Evaluation {
+        /** Row-major values of input matrices and products, by identity. */
+        private final IdentityHashMap<IMatrix, double[]> values = new IdentityHashMap<>();
+        /** Results of product nodes. */
+        private final IdentityHashMap<MatrixExpr, IMatrix> products = new IdentityHashMap<>();
+        /** Full values of fused nodes with more than one consumer. */
+        private final IdentityHashMap<MatrixExpr, double[]> sharedValues = new IdentityHashMap<>();
+        /** Number of consumers of every node below the root. */
+        private final IdentityHashMap<MatrixExpr, Integer> uses = new IdentityHashMap<>();
+        /** Tile buffers of binary nodes. */
+        private final IdentityHashMap<MatrixExpr, double[]> scratch = new IdentityHashMap<>();
+
+        Evaluation(MatrixExpr root) {
+            // count the edges into every node, walking the operands of each node once
+            ArrayDeque<MatrixExpr> pending = new ArrayDeque<>();
+            pending.push(root);
+            while (!pending.isEmpty()) {
+                for (MatrixExpr operand : pending.pop().operands()) {
+                    if (uses.merge(operand, 1, Integer::sum) == 1) {
+                        pending.push(operand);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Return the full value of a fused node with more than one consumer,
+         * computing it on first use, or {@code null} for any other node.
+         */
+        double[] shared(MatrixExpr node) throws MatrixException {
+            if (!node.fused() || uses.getOrDefault(node, 0) < 2) {
+                return null;
+            }
+            double[] v = sharedValues.get(node);
+            if (v == null) {
+                v = node.compute(this);
+                sharedValues.put(node, v);
+            }
+            return v;
+        }
+
+        double[] values(IMatrix m) throws MatrixException {
+            double[] v = values.get(m);
+            if (v == null) {
+                v = MatrixArrays.rowMajorStorage(m);
+                if (v == null) {
+                    v = MatrixArrays.copyOf(m);
+                }
+                values.put(m, v);
+            }
+            return v;
+        }
+
+        double[] scratch(MatrixExpr node) {
+            return scratch.computeIfAbsent(node, k -> new double[TILE * TILE]);
+        }
+    }
+
+    /** Copy a block of row-major (rows x cols) values, transposed on request. */
+    private static void read(double[] a, int cols, int r0, int c0, int h, int w,
+                             boolean transposed, double[] out) {
+        if (!transposed) {
+            for (int i = 0; i < h; ++i) {
+                System.arraycopy(a, (r0 + i) * cols + c0, out, i * w, w);
+            }
+            return;
+        }
+        // element (i, j) of the block is a(c0 + j, r0 + i): walk rows of a contiguously
+        for (int j = 0; j < w; ++j) {
+            int base = (c0 + j) * cols + r0;
+            for (int i = 0; i < h; ++i) {
+                out[i * w + j] = a[base + i];
+            }
+        }
+    }
+
+    /** Input matrix. */
+    private static final class Leaf extends MatrixExpr {
+        private final IMatrix matrix;
+
+        Leaf(IMatrix matrix, IMultiplyAlgorithm multiplyAlgo) {
+            super(matrix.getRows(), matrix.getCols(), multiplyAlgo);
+            this.matrix = matrix;
+        }
+
+        @Override
+        IMatrix prototype() {
+            return matrix;
+        }
+
+        @Override
+        MatrixExpr[] operands() {
+            return new MatrixExpr[0];
+        }
+
+        @Override
+        boolean fused() {
+            return false;
+        }
+
+        @Override
+        void fill(Evaluation ev, int r0, int c0, int h, int w, boolean transposed, double[] out)
+                throws MatrixException {
+            read(ev.values(matrix), cols, r0, c0, h, w, transposed, out);
+        }
+
+        @Override
+        IMatrix evaluate(Evaluation ev) {
+            // operand of a product: used as is
+            return matrix;
+        }
+
+        @Override
+        public IMatrix materialize() throws MatrixException {
+            return MatrixArrays.fromRowMajor(matrix, rows, cols, MatrixArrays.copyOf(matrix));
+        }
+    }
+
+    /** Matrix product, evaluated once and then read like an input. */
+    private static final class Product extends MatrixExpr {
+        private final MatrixExpr left;
+        private final MatrixExpr right;
+
+        Product(MatrixExpr left, MatrixExpr right) {
+            super(left.rows, right.cols, left.multiplyAlgo);
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        IMatrix prototype() {
+            return left.prototype();
+        }
+
+        @Override
+        MatrixExpr[] operands() {
+            return new MatrixExpr[] {left, right};
+        }
+
+        @Override
+        boolean fused() {
+            return false;
+        }
+
+        @Override
+        void fill(Evaluation ev, int r0, int c0, int h, int w, boolean transposed, double[] out)
+                throws MatrixException {
+            read(ev.values(evaluate(ev)), cols, r0, c0, h, w, transposed, out);
+        }
+
+        @Override
+        IMatrix evaluate(Evaluation ev) throws MatrixException {
+            IMatrix value = ev.products.get(this);
+            if (value == null) {
+                value = multiplyAlgo.execute(left.evaluate(ev), right.evaluate(ev));
+                ev.products.put(this, value);
+            }
+            return value;
+        }
+    }
+
+    /** Transpose, passed down to the operand as an access pattern. */
+    private static final class Transpose extends MatrixExpr {
+        private final MatrixExpr operand;
+
+        Transpose(MatrixExpr operand) {
+            super(operand.cols, operand.rows, operand.multiplyAlgo);
+            this.operand = operand;
+        }
+
+        @Override
+        IMatrix prototype() {
+            return operand.prototype();
+        }
+
+        @Override
+        MatrixExpr[] operands() {
+            return new MatrixExpr[] {operand};
+        }
+
+        @Override
+        void fill(Evaluation ev, int r0, int c0, int h, int w, boolean transposed, double[] out)
+                throws MatrixException {
+            operand.block(ev, r0, c0, h, w, !transposed, out);
+        }
+    }
+
+    /** Multiplication by a scalar. */
+    private static final class Scale extends MatrixExpr {
+        private final MatrixExpr operand;
+        private final double scalar;
+
+        Scale(MatrixExpr operand, double scalar) {
+            super(operand.rows, operand.cols, operand.multiplyAlgo);
+            this.operand = operand;
+            this.scalar = scalar;
+        }
+
+        @Override
+        IMatrix prototype() {
+            return operand.prototype();
+        }
+
+        @Override
+        MatrixExpr[] operands() {
+            return new MatrixExpr[] {operand};
+        }
+
+        @Override
+        void fill(Evaluation ev, int r0, int c0, int h, int w, boolean transposed, double[] out)
+                throws MatrixException {
+            operand.block(ev, r0, c0, h, w, transposed, out);
+            int n = h * w;
+            for (int i = 0; i < n; ++i) {
+                out[i] *= scalar;
+            }
+        }
+    }
+
+    /** Sum {@code left + sign * right}, covering both addition and subtraction. */
+    private static final class Sum extends MatrixExpr {
+        private final MatrixExpr left;
+        private final MatrixExpr right;
+        private final double sign;
+
+        Sum(MatrixExpr left, MatrixExpr right, double sign) {
+            super(left.rows, left.cols, left.multiplyAlgo);
+            this.left = left;
+            this.right = right;
+            this.sign = sign;
+        }
+
+        @Override
+        IMatrix prototype() {
+            return left.prototype();
+        }
+
+        @Override
+        MatrixExpr[] operands() {
+            return new MatrixExpr[] {left, right};
+        }
+
+        @Override
+        void fill(Evaluation ev, int r0, int c0, int h, int w, boolean transposed, double[] out)
+                throws MatrixException {
+            left.block(ev, r0, c0, h, w, transposed, out);
+            double[] tmp = ev.scratch(this);
+            right.block(ev, r0, c0, h, w, transposed, tmp);
+            int n = h * w;
+            if (sign > 0) {
+                for (int i = 0; i < n; ++i) {
+                    out[i] += tmp[i];
+                }
+            } else {
+                for (int i = 0; i < n; ++i) {
+                    out[i] -= tmp[i];
+                }
+            }
+        }
+    }
+
+    /** Element-wise function of one operand. */
+    private static final class Map extends MatrixExpr {
+        private final MatrixExpr operand;
+        private final DoubleUnaryOperator op;
+
+        Map(MatrixExpr operand, DoubleUnaryOperator op) {
+            super(operand.rows, operand.cols, operand.multiplyAlgo);
+            this.operand = operand;
+            this.op = op;
+        }
+
+        @Override
+        IMatrix prototype() {
+            return operand.prototype();
+        }
+
+        @Override
+        MatrixExpr[] operands() {
+            return new MatrixExpr[] {operand};
+        }
+
+        @Override
+        void fill(Evaluation ev, int r0, int c0, int h, int w, boolean transposed, double[] out)
+                throws MatrixException {
+            operand.block(ev, r0, c0, h, w, transposed, out);
+            int n = h * w;
+            for (int i = 0; i < n; ++i) {
+                out[i] = op.applyAsDouble(out[i]);
+            }
+        }
+    }
+
+    /** Element-wise function of two operands. */
+    private static final class Zip extends MatrixExpr {
+        private final MatrixExpr left;
+        private final MatrixExpr right;
+        private final DoubleBinaryOp op;
+
+        Zip(MatrixExpr left, MatrixExpr right, DoubleBinaryOp op) {
+            super(left.rows, left.cols, left.multiplyAlgo);
+            this.left = left;
+            this.right = right;
+            this.op = op;
+        }
+
+        @Override
+        IMatrix prototype() {
+            return left.prototype();
+        }
+
+        @Override
+        MatrixExpr[] operands() {
+            return new MatrixExpr[] {left, right};
+        }
+
+        @Override
+        void fill(Evaluation ev, int r0, int c0, int h, int w, boolean transposed, double[] out)
+                throws MatrixException {
+            left.block(ev, r0, c0, h, w, transposed, out);
+            double[] tmp = ev.scratch(this);
+            right.block(ev, r0, c0, h, w, transposed, tmp);
+            int n = h * w;
+            for (int i = 0; i < n; ++i) {
+                out[i] = op.apply(out[i], tmp[i]);
+            }
+        }
+    }
+}
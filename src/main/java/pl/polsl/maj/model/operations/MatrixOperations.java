@@ -1,8 +1,10 @@
 package pl.polsl.maj.model.operations;
 
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.ForkJoinPool;
+import lombok.Getter;
 import pl.polsl.maj.exceptions.MatrixException;
 import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.MatrixArrays;
 
 /**
  * Facade class that groups available matrix operation algorithms.
@@ -12,12 +14,28 @@ import pl.polsl.maj.model.IMatrix;
  * It simplifies wiring the algorithms together in the application and
  * provides a single entry point for performing matrix operations.
  * </p>
+ * <p>
+ * Determinant, inverse and solve first try a {@link CholeskyDecomposition}:
+ * symmetric positive-definite inputs with row-major storage are handled
+ * with half the work of LU, and any other input (detected by the symmetry
+ * check or by a pivot that is not positive relative to the diagonal, as
+ * for numerically singular matrices) falls through to the configured
+ * algorithm.
+ * </p>
+ * <p>
+ * Square 2x2, 3x3 and 4x4 inputs of determinant, inverse, multiply and
+ * transpose bypass the strategies and go to the unrolled closed-form
+ * {@link FixedSizeKernels}, which avoids the per-element dispatch and
+ * allocations of the general algorithms at sizes where they dominate.
+ * </p>
  *
  * @author piotr.maj
- * @version 1.0.2
+ * @version 1.0.12
  */
-@RequiredArgsConstructor
 public final class MatrixOperations {
+    /** Smallest dimension for which the Cholesky fast path is tried. */
+    private static final int CHOLESKY_MIN_SIZE = FixedSizeKernels.MAX_SIZE + 1;
+
     /** Algorithm used to compute determinants. */
     private final IDeterminantAlgorithm detAlgo;
     /** Algorithm used to multiply matrix by a scalar. */
@@ -34,8 +52,163 @@ public final class MatrixOperations {
     private final IInverseAlgorithm inverseAlgo;
     /** Algorithm used to compute trace of a matrix. */
     private final ITraceAlgorithm traceAlgo;
+    /** Algorithm used to solve linear systems. */
+    private final ISolveAlgorithm solveAlgo;
+
+    /** Pool of facade-level parallel work, injected into the algorithms only when given explicitly. */
+    @Getter
+    private final ForkJoinPool pool;
+
+    /**
+     * Create the facade without touching the pools of the algorithms:
+     * every {@link IParallelAlgorithm} keeps the pool it was created with,
+     * and facade-level parallel work such as
+     * {@link #multiplyChain(IMatrix...)} uses the common fork/join pool.
+     *
+     * @param detAlgo determinant algorithm
+     * @param multiplyByScalarAlgo scalar multiplication algorithm
+     * @param multiplyAlgo matrix multiplication algorithm
+     * @param addAlgo addition algorithm
+     * @param substractAlgo subtraction algorithm
+     * @param transposeAlgo transpose algorithm
+     * @param inverseAlgo inverse algorithm
+     * @param traceAlgo trace algorithm
+     */
+    public MatrixOperations(IDeterminantAlgorithm detAlgo,
+                            IMultiplyByScalarAlgorithm multiplyByScalarAlgo,
+                            IMultiplyAlgorithm multiplyAlgo,
+                            IAddAlgorithm addAlgo,
+                            ISubstractAlgorithm substractAlgo,
+                            ITransposeAlgorithm transposeAlgo,
+                            IInverseAlgorithm inverseAlgo,
+                            ITraceAlgorithm traceAlgo) {
+        this(detAlgo, multiplyByScalarAlgo, multiplyAlgo, addAlgo, substractAlgo,
+             transposeAlgo, inverseAlgo, traceAlgo, (a, b) -> new LUDecomposition(a).solve(b));
+    }
+
+    /**
+     * Create the facade with an explicit pool, which is injected into every
+     * {@link IParallelAlgorithm} (see the ten-argument constructor). Linear
+     * systems are solved with a plain {@link LUDecomposition}.
+     *
+     * @param detAlgo determinant algorithm
+     * @param multiplyByScalarAlgo scalar multiplication algorithm
+     * @param multiplyAlgo matrix multiplication algorithm
+     * @param addAlgo addition algorithm
+     * @param substractAlgo subtraction algorithm
+     * @param transposeAlgo transpose algorithm
+     * @param inverseAlgo inverse algorithm
+     * @param traceAlgo trace algorithm
+     * @param pool pool used by parallel algorithms
+     * @throws IllegalArgumentException when {@code pool} is null
+     */
+    public MatrixOperations(IDeterminantAlgorithm detAlgo,
+                            IMultiplyByScalarAlgorithm multiplyByScalarAlgo,
+                            IMultiplyAlgorithm multiplyAlgo,
+                            IAddAlgorithm addAlgo,
+                            ISubstractAlgorithm substractAlgo,
+                            ITransposeAlgorithm transposeAlgo,
+                            IInverseAlgorithm inverseAlgo,
+                            ITraceAlgorithm traceAlgo,
+                            ForkJoinPool pool) {
+        this(detAlgo, multiplyByScalarAlgo, multiplyAlgo, addAlgo, substractAlgo,
+             transposeAlgo, inverseAlgo, traceAlgo, (a, b) -> new LUDecomposition(a).solve(b), pool);
+    }
+
+    /**
+     * Create the facade with a linear-system solver, without touching the
+     * pools of the algorithms (see the eight-argument constructor).
+     *
+     * @param detAlgo determinant algorithm
+     * @param multiplyByScalarAlgo scalar multiplication algorithm
+     * @param multiplyAlgo matrix multiplication algorithm
+     * @param addAlgo addition algorithm
+     * @param substractAlgo subtraction algorithm
+     * @param transposeAlgo transpose algorithm
+     * @param inverseAlgo inverse algorithm
+     * @param traceAlgo trace algorithm
+     * @param solveAlgo linear-system solving algorithm
+     */
+    public MatrixOperations(IDeterminantAlgorithm detAlgo,
+                            IMultiplyByScalarAlgorithm multiplyByScalarAlgo,
+                            IMultiplyAlgorithm multiplyAlgo,
+                            IAddAlgorithm addAlgo,
+                            ISubstractAlgorithm substractAlgo,
+                            ITransposeAlgorithm transposeAlgo,
+                            IInverseAlgorithm inverseAlgo,
+                            ITraceAlgorithm traceAlgo,
+                            ISolveAlgorithm solveAlgo) {
+        this(detAlgo, multiplyByScalarAlgo, multiplyAlgo, addAlgo, substractAlgo,
+             transposeAlgo, inverseAlgo, traceAlgo, solveAlgo, ForkJoinPool.commonPool(), false);
+    }
+
+    /**
+     * Create the facade with an explicit pool. Every algorithm implementing
+     * {@link IParallelAlgorithm} is configured to run on {@code pool}, so
+     * its parallelism bounds the number of cores used by the facade. The
+     * algorithm objects themselves are reconfigured, which also affects any
+     * other code sharing them.
+     *
+     * @param detAlgo determinant algorithm
+     * @param multiplyByScalarAlgo scalar multiplication algorithm
+     * @param multiplyAlgo matrix multiplication algorithm
+     * @param addAlgo addition algorithm
+     * @param substractAlgo subtraction algorithm
+     * @param transposeAlgo transpose algorithm
+     * @param inverseAlgo inverse algorithm
+     * @param traceAlgo trace algorithm
+     * @param solveAlgo linear-system solving algorithm
+     * @param pool pool used by parallel algorithms
+     * @throws IllegalArgumentException when {@code pool} is null
+     */
+    public MatrixOperations(IDeterminantAlgorithm detAlgo,
+                            IMultiplyByScalarAlgorithm multiplyByScalarAlgo,
+                            IMultiplyAlgorithm multiplyAlgo,
+                            IAddAlgorithm addAlgo,
+                            ISubstractAlgorithm substractAlgo,
+                            ITransposeAlgorithm transposeAlgo,
+                            IInverseAlgorithm inverseAlgo,
+                            ITraceAlgorithm traceAlgo,
+                            ISolveAlgorithm solveAlgo,
+                            ForkJoinPool pool) {
+        this(detAlgo, multiplyByScalarAlgo, multiplyAlgo, addAlgo, substractAlgo,
+             transposeAlgo, inverseAlgo, traceAlgo, solveAlgo, requirePool(pool), true);
+    }
+
+    /** Common constructor; {@code injectPool} is set only for an explicit pool. */
+    private MatrixOperations(IDeterminantAlgorithm detAlgo,
+                             IMultiplyByScalarAlgorithm multiplyByScalarAlgo,
+                             IMultiplyAlgorithm multiplyAlgo,
+                             IAddAlgorithm addAlgo,
+                             ISubstractAlgorithm substractAlgo,
+                             ITransposeAlgorithm transposeAlgo,
+                             IInverseAlgorithm inverseAlgo,
+                             ITraceAlgorithm traceAlgo,
+                             ISolveAlgorithm solveAlgo,
+                             ForkJoinPool pool,
+                             boolean injectPool) {
+        this.detAlgo = detAlgo;
+        this.multiplyByScalarAlgo = multiplyByScalarAlgo;
+        this.multiplyAlgo = multiplyAlgo;
+        this.addAlgo = addAlgo;
+        this.substractAlgo = substractAlgo;
+        this.transposeAlgo = transposeAlgo;
+        this.inverseAlgo = inverseAlgo;
+        this.traceAlgo = traceAlgo;
+        this.solveAlgo = solveAlgo;
+        this.pool = pool;
+        if (!injectPool) {
+            return;
+        }
 
-    // Constructor is generated by Lombok's @RequiredArgsConstructor
+        for (Object algo : new Object[] {detAlgo, multiplyByScalarAlgo, multiplyAlgo, addAlgo,
+                                         substractAlgo, transposeAlgo, inverseAlgo, traceAlgo,
+                                         solveAlgo}) {
+            if (algo instanceof IParallelAlgorithm parallel) {
+                parallel.setPool(pool);
+            }
+        }
+    }
 
     /**
      * Compute determinant of a matrix.
@@ -45,6 +218,14 @@ public final class MatrixOperations {
      * @throws MatrixException when matrix is not square
      */
     public double determinant(IMatrix a) throws MatrixException {
+        double[] values = small(a);
+        if (values != null) {
+            return FixedSizeKernels.determinant(values, a.getRows());
+        }
+        CholeskyDecomposition chol = spd(a);
+        if (chol != null) {
+            return chol.determinant();
+        }
         return detAlgo.execute(a);
     }
 
@@ -57,9 +238,36 @@ public final class MatrixOperations {
      * @throws MatrixException when matrices cannot be multiplied
      */
     public IMatrix multiply(IMatrix a, IMatrix b) throws MatrixException {
+        double[] left = small(a);
+        if (left != null && b != null && b.getRows() == a.getRows()) {
+            double[] right = small(b);
+            if (right != null) {
+                int n = a.getRows();
+                double[] out = new double[n * n];
+                FixedSizeKernels.multiply(left, right, out, n);
+                return MatrixArrays.fromRowMajor(a, n, n, out);
+            }
+        }
         return multiplyAlgo.execute(a, b);
     }
 
+    /**
+     * Multiply a chain of matrices in the cheapest order. The
+     * parenthesisation is chosen by {@link MatrixChain} from the dimensions
+     * alone, independent sub-products run in parallel on the facade pool and
+     * every pairwise product uses the same routing as
+     * {@link #multiply(IMatrix, IMatrix)}.
+     *
+     * @param matrices factors in multiplication order
+     * @return product together with the order used and its estimated cost
+     * @throws MatrixException when the chain is empty or dimensions do not match
+     */
+    public ChainProduct multiplyChain(IMatrix... matrices) throws MatrixException {
+        MatrixChain chain = new MatrixChain(matrices);
+        IMatrix product = chain.multiply(this::multiply, pool);
+        return new ChainProduct(product, chain.getOrder(), 2 * chain.getCost(), chain.getFlopsSaved());
+    }
+
     /**
      * Multiply matrix by scalar value.
      *
@@ -104,9 +312,78 @@ public final class MatrixOperations {
      * @throws MatrixException when operation fails
      */
     public IMatrix transpose(IMatrix a) throws MatrixException {
+        double[] values = small(a);
+        if (values != null) {
+            int n = a.getRows();
+            double[] out = new double[n * n];
+            FixedSizeKernels.transpose(values, out, n);
+            return MatrixArrays.fromRowMajor(a, n, n, out);
+        }
         return transposeAlgo.execute(a);
     }
 
+    /**
+     * Add two matrices into an existing matrix (no allocation of a result).
+     * {@code dst} may be one of the operands, but must not be a view of one
+     * or otherwise share its storage.
+     *
+     * @param a first operand matrix
+     * @param b second operand matrix
+     * @param dst matrix receiving the sum
+     * @throws MatrixException when matrices differ in size or {@code dst} shares storage with an operand
+     */
+    public void addInto(IMatrix a, IMatrix b, IMatrix dst) throws MatrixException {
+        addAlgo.executeInto(a, b, dst);
+    }
+
+    /**
+     * Subtract two matrices into an existing matrix (no allocation of a
+     * result). {@code dst} may be one of the operands, but must not be a
+     * view of one or otherwise share its storage.
+     *
+     * @param a minuend matrix
+     * @param b subtrahend matrix
+     * @param dst matrix receiving the difference
+     * @throws MatrixException when matrices differ in size or {@code dst} shares storage with an operand
+     */
+    public void substractInto(IMatrix a, IMatrix b, IMatrix dst) throws MatrixException {
+        substractAlgo.executeInto(a, b, dst);
+    }
+
+    /**
+     * Multiply a matrix by a scalar in place.
+     *
+     * @param a matrix to scale (modified)
+     * @param scalar scaling factor
+     * @throws MatrixException when operation fails
+     */
+    public void scaleInPlace(IMatrix a, double scalar) throws MatrixException {
+        multiplyByScalarAlgo.executeInPlace(a, scalar);
+    }
+
+    /**
+     * Transpose a square matrix in place.
+     *
+     * @param a square matrix to transpose (modified)
+     * @throws MatrixException when matrix is not square
+     */
+    public void transposeInPlace(IMatrix a) throws MatrixException {
+        transposeAlgo.executeInPlace(a);
+    }
+
+    /**
+     * Multiply two matrices into an existing matrix (no allocation of a
+     * result). {@code dst} must not share storage with an operand.
+     *
+     * @param a left operand matrix
+     * @param b right operand matrix
+     * @param dst matrix receiving the product
+     * @throws MatrixException when dimensions do not match or {@code dst} shares storage with an operand
+     */
+    public void multiplyInto(IMatrix a, IMatrix b, IMatrix dst) throws MatrixException {
+        multiplyAlgo.executeInto(a, b, dst);
+    }
+
     /**
      * Compute matrix inverse.
      *
@@ -115,9 +392,137 @@ public final class MatrixOperations {
      * @throws MatrixException when matrix is not invertible
      */
     public IMatrix inverse(IMatrix a) throws MatrixException {
+        double[] values = small(a);
+        if (values != null) {
+            int n = a.getRows();
+            double[] out = new double[n * n];
+            double det = FixedSizeKernels.inverse(values, out, n);
+            if (FixedSizeKernels.isSingular(values, n, det)) {
+                throw new MatrixException("Matrix is not invertible");
+            }
+            return MatrixArrays.fromRowMajor(a, n, n, out);
+        }
+        CholeskyDecomposition chol = spd(a);
+        if (chol != null) {
+            return chol.inverse();
+        }
         return inverseAlgo.execute(a);
     }
 
+    /**
+     * Solve the linear system {@code A X = B} without forming the inverse of
+     * {@code a}. Prefer this over {@code multiply(inverse(a), b)}.
+     *
+     * @param a square coefficient matrix
+     * @param b right-hand side matrix, one system per column
+     * @return solution matrix
+     * @throws MatrixException when dimensions do not match or {@code a} is singular
+     */
+    public IMatrix solve(IMatrix a, IMatrix b) throws MatrixException {
+        if (b != null && a != null && b.getRows() == a.getRows()) {
+            CholeskyDecomposition chol = spd(a);
+            if (chol != null) {
+                return chol.solve(b);
+            }
+        }
+        return solveAlgo.execute(a, b);
+    }
+
+    /**
+     * Start a lazy expression from a matrix. Element-wise operations and
+     * transposes chained on the expression are fused into a single pass over
+     * the inputs when it is materialized; matrix products use the same
+     * routing as {@link #multiply(IMatrix, IMatrix)}.
+     *
+     * @param a input matrix (not copied)
+     * @return expression whose value is {@code a}
+     * @throws MatrixException when the matrix is empty
+     */
+    public MatrixExpr lazy(IMatrix a) throws MatrixException {
+        return MatrixExpr.of(a, this::multiply);
+    }
+
+    /**
+     * Factorize a square matrix once so that its determinant, inverse and
+     * solutions of linear systems can be obtained without repeating the
+     * elimination.
+     *
+     * @param a square matrix to decompose
+     * @return LU decomposition of {@code a}
+     * @throws MatrixException when matrix is not square
+     */
+    public LUDecomposition decompose(IMatrix a) throws MatrixException {
+        return new LUDecomposition(a);
+    }
+
+    private static ForkJoinPool requirePool(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        return pool;
+    }
+
+    /**
+     * Return the row-major values of a square matrix handled by
+     * {@link FixedSizeKernels} (shared when possible, so they must not be
+     * modified), or {@code null} for any other input.
+     */
+    private static double[] small(IMatrix a) throws MatrixException {
+        if (a == null || !a.isSquare() || !FixedSizeKernels.supports(a.getRows())) {
+            return null;
+        }
+        double[] shared = MatrixArrays.rowMajorStorage(a);
+        return shared != null ? shared : MatrixArrays.copyOf(a);
+    }
+
+    /**
+     * Return the Cholesky decomposition of {@code a} when it is large enough
+     * to benefit and symmetric positive-definite, otherwise {@code null}.
+     */
+    private static CholeskyDecomposition spd(IMatrix a) throws MatrixException {
+        if (a == null || a.getRows() < CHOLESKY_MIN_SIZE) {
+            return null;
+        }
+        return CholeskyDecomposition.tryDecompose(a);
+    }
+
+    /**
+     * Factorize a symmetric positive-definite matrix as {@code L Lᵀ}.
+     *
+     * @param a symmetric positive-definite matrix to decompose
+     * @return Cholesky decomposition of {@code a}
+     * @throws MatrixException when matrix is not symmetric positive definite
+     */
+    public CholeskyDecomposition decomposeCholesky(IMatrix a) throws MatrixException {
+        return new CholeskyDecomposition(a);
+    }
+
+    /**
+     * Factorize a matrix with at least as many rows as columns as
+     * {@code Q R} using blocked Householder reflections.
+     *
+     * @param a matrix to decompose (m x n, m &gt;= n)
+     * @return QR decomposition of {@code a}
+     * @throws MatrixException when the matrix has more columns than rows
+     */
+    public QRDecomposition decomposeQR(IMatrix a) throws MatrixException {
+        return new QRDecomposition(a);
+    }
+
+    /**
+     * Solve the overdetermined system {@code A X = B} in the least-squares
+     * sense through a QR decomposition of {@code a}, without forming
+     * {@code AᵀA}.
+     *
+     * @param a tall matrix (m x n, m &gt;= n) with independent columns
+     * @param b right-hand side matrix with m rows
+     * @return (n x k) matrix minimising {@code ||A X - B||} column by column
+     * @throws MatrixException when dimensions do not match or {@code a} is rank deficient
+     */
+    public IMatrix leastSquares(IMatrix a, IMatrix b) throws MatrixException {
+        return new QRDecomposition(a).solve(b);
+    }
+
     /**
      * Compute matrix trace.
      *
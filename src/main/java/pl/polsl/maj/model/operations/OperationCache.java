@@ -0,0 +1,354 @@
+package pl.polsl.maj.model.operations;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.MatrixArrays;
+
+/**
+ * Result cache for the expensive operations of a {@link MatrixOperations}
+ * facade: determinant, inverse and product.
+ * <p>
+ * Entries are keyed by the operation and a 64-bit hash of the dimensions
+ * and element bits of the operands, so a repeated request with an equal
+ * matrix hits even when it is a different object. Because a hash can
+ * collide, every entry also keeps a copy of its operands and a hit is only
+ * reported after they compare equal; a lookup therefore costs two passes
+ * over the operands, O(n^2), instead of the O(n^3) operation. Operands with
+ * row-major storage are hashed and compared in place, so a hit allocates
+ * nothing but the copy of the result; operands are copied only when a new
+ * entry is stored.
+ * </p>
+ * <p>
+ * The cache holds at most {@code budgetBytes} of operand and result values
+ * and evicts the least recently used entries first; a single entry larger
+ * than the budget is computed but not stored. Matrices returned from the
+ * cache are copies, so callers may modify them freely. Failed operations
+ * (such as the inverse of a singular matrix) are not cached.
+ * </p>
+ * <p>
+ * The cache is thread-safe. Lookups and insertions are serialized, the
+ * operations themselves run outside the lock, so two threads missing on
+ * the same key may both compute it.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.1
+ */
+public final class OperationCache {
+    /** Default memory budget: 64 MiB. */
+    public static final long DEFAULT_BUDGET_BYTES = 64L << 20;
+    /** Approximate fixed cost of one entry (key, entry, map node). */
+    private static final long ENTRY_OVERHEAD = 128;
+
+    /** Cached operation. */
+    private enum Op { DETERMINANT, INVERSE, MULTIPLY }
+
+    /** Facade performing the operations on a miss. */
+    @Getter
+    private final MatrixOperations operations;
+    /** Maximum number of bytes of cached values. */
+    @Getter
+    private final long budgetBytes;
+
+    /** Entries in access order, least recently used first. */
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    /** Bytes currently held, guarded by {@code entries}. */
+    private long sizeBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Create a cache with the default budget.
+     *
+     * @param operations facade performing the operations
+     * @throws IllegalArgumentException when {@code operations} is null
+     */
+    public OperationCache(MatrixOperations operations) {
+        this(operations, DEFAULT_BUDGET_BYTES);
+    }
+
+    /**
+     * Create a cache with an explicit budget.
+     *
+     * @param operations facade performing the operations
+     * @param budgetBytes maximum number of bytes of cached values (must be positive)
+     * @throws IllegalArgumentException when an argument is invalid
+     */
+    public OperationCache(MatrixOperations operations, long budgetBytes) {
+        if (operations == null) {
+            throw new IllegalArgumentException("Operations cannot be null");
+        }
+        if (budgetBytes <= 0) {
+            throw new IllegalArgumentException("Budget must be positive");
+        }
+        this.operations = operations;
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Compute the determinant of a matrix, or return the cached value.
+     *
+     * @param a matrix to compute determinant for
+     * @return determinant value
+     * @throws MatrixException when matrix is not square
+     */
+    public double determinant(IMatrix a) throws MatrixException {
+        Operand x = Operand.of(a);
+        Key key = new Key(Op.DETERMINANT, x.hash);
+        Entry hit = lookup(key, x, null);
+        if (hit != null) {
+            return hit.scalar;
+        }
+        double det = operations.determinant(a);
+        store(key, x, null, det, null);
+        return det;
+    }
+
+    /**
+     * Compute the inverse of a matrix, or return a copy of the cached one.
+     *
+     * @param a matrix to invert
+     * @return inverse matrix
+     * @throws MatrixException when matrix is not invertible
+     */
+    public IMatrix inverse(IMatrix a) throws MatrixException {
+        Operand x = Operand.of(a);
+        Key key = new Key(Op.INVERSE, x.hash);
+        Entry hit = lookup(key, x, null);
+        if (hit != null) {
+            return hit.copyOfResult();
+        }
+        IMatrix inv = operations.inverse(a);
+        store(key, x, null, 0.0, inv);
+        return inv;
+    }
+
+    /**
+     * Multiply two matrices, or return a copy of the cached product.
+     *
+     * @param a left operand matrix
+     * @param b right operand matrix
+     * @return product matrix
+     * @throws MatrixException when matrices cannot be multiplied
+     */
+    public IMatrix multiply(IMatrix a, IMatrix b) throws MatrixException {
+        Operand x = Operand.of(a);
+        Operand y = Operand.of(b);
+        Key key = new Key(Op.MULTIPLY, x.hash * 0x9E3779B97F4A7C15L + y.hash);
+        Entry hit = lookup(key, x, y);
+        if (hit != null) {
+            return hit.copyOfResult();
+        }
+        IMatrix product = operations.multiply(a, b);
+        store(key, x, y, 0.0, product);
+        return product;
+    }
+
+    /**
+     * Return the number of requests answered from the cache.
+     *
+     * @return hit count
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Return the number of requests that had to be computed.
+     *
+     * @return miss count
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Return the number of entries removed to stay within the budget.
+     *
+     * @return eviction count
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Return the number of bytes currently held.
+     *
+     * @return estimated size of the cached values
+     */
+    public long getSizeBytes() {
+        synchronized (entries) {
+            return sizeBytes;
+        }
+    }
+
+    /**
+     * Return the number of cached results.
+     *
+     * @return entry count
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Remove all entries. Counters are kept.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            sizeBytes = 0;
+        }
+    }
+
+    private Entry lookup(Key key, Operand x, Operand y) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        // stored operands are immutable copies, so they can be compared outside the lock
+        if (entry != null && entry.left.matches(x) && (y == null || entry.right.matches(y))) {
+            hits.increment();
+            return entry;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /** Store a result, copying the operands only when it fits the budget. */
+    private void store(Key key, Operand x, Operand y, double scalar, IMatrix result) throws MatrixException {
+        long elements = (long) x.values.length + (y == null ? 0 : y.values.length)
+                        + (result == null ? 0 : (long) result.getRows() * result.getCols());
+        long bytes = ENTRY_OVERHEAD + 8 * elements;
+        if (bytes > budgetBytes) {
+            return;
+        }
+        Entry entry = new Entry(x.copy(), y == null ? null : y.copy(), scalar, result, bytes);
+        synchronized (entries) {
+            Entry old = entries.put(key, entry);
+            if (old != null) {
+                sizeBytes -= old.bytes;
+            }
+            sizeBytes += entry.bytes;
+            Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+            while (sizeBytes > budgetBytes && it.hasNext()) {
+                Entry eldest = it.next().getValue();
+                it.remove();
+                sizeBytes -= eldest.bytes;
+                evictions.increment();
+            }
+        }
+    }
+
+    /** Cache key: the operation and the combined hash of its operands. */
+    private record Key(Op op, long hash) {
+    }
+
+    /**
+     * Operand values with their content hash. The values are the caller's
+     * row-major storage when the matrix has one and a private copy
+     * otherwise; {@link #copy()} yields an operand safe to keep in an entry.
+     */
+    private static final class Operand {
+        private final int rows;
+        private final int cols;
+        private final double[] values;
+        private final long hash;
+        /** Whether {@link #values} is a private copy rather than the caller's storage. */
+        private final boolean owned;
+
+        private Operand(int rows, int cols, double[] values, long hash, boolean owned) {
+            this.rows = rows;
+            this.cols = cols;
+            this.values = values;
+            this.hash = hash;
+            this.owned = owned;
+        }
+
+        static Operand of(IMatrix m) throws MatrixException {
+            if (m == null || m.getRows() < 1 || m.getCols() < 1) {
+                throw new MatrixException("Matrices cannot be empty");
+            }
+            int rows = m.getRows();
+            int cols = m.getCols();
+            double[] shared = MatrixArrays.rowMajorStorage(m);
+            double[] values = shared != null ? shared : MatrixArrays.copyOf(m);
+            return new Operand(rows, cols, values, hash(rows, cols, values), shared == null);
+        }
+
+        /** Return an operand whose values are not shared with the caller. */
+        Operand copy() {
+            return owned ? this : new Operand(rows, cols, values.clone(), hash, true);
+        }
+
+        boolean matches(Operand other) {
+            return hash == other.hash && rows == other.rows && cols == other.cols
+                   && Arrays.equals(values, other.values);
+        }
+
+        /**
+         * Hash the element bits in four independent lanes, so that the
+         * multiply latency of one lane overlaps with the others.
+         */
+        private static long hash(int rows, int cols, double[] v) {
+            final long k = 0x9E3779B97F4A7C15L;
+            long h0 = rows;
+            long h1 = cols;
+            long h2 = 0x2545F4914F6CDD1DL;
+            long h3 = v.length;
+            int i = 0;
+            for (; i + 3 < v.length; i += 4) {
+                h0 = (h0 ^ Double.doubleToLongBits(v[i])) * k;
+                h1 = (h1 ^ Double.doubleToLongBits(v[i + 1])) * k;
+                h2 = (h2 ^ Double.doubleToLongBits(v[i + 2])) * k;
+                h3 = (h3 ^ Double.doubleToLongBits(v[i + 3])) * k;
+            }
+            for (; i < v.length; ++i) {
+                h0 = (h0 ^ Double.doubleToLongBits(v[i])) * k;
+            }
+            long h = h0 ^ Long.rotateLeft(h1, 16) ^ Long.rotateLeft(h2, 32) ^ Long.rotateLeft(h3, 48);
+            h ^= h >>> 33;
+            h *= 0xFF51AFD7ED558CCDL;
+            return h ^ (h >>> 33);
+        }
+    }
+
+    /** Cached result with the operands it was computed from. */
+    private static final class Entry {
+        private final Operand left;
+        private final Operand right;
+        private final double scalar;
+        /** Small matrix whose concrete type the returned copies use. */
+        private final IMatrix prototype;
+        private final int rows;
+        private final int cols;
+        private final double[] values;
+        private final long bytes;
+
+        Entry(Operand left, Operand right, double scalar, IMatrix result, long bytes) throws MatrixException {
+            this.left = left;
+            this.right = right;
+            this.scalar = scalar;
+            // keep only the type of the result, not the caller's instance
+            this.prototype = result == null ? null : result.createSameType(1, 1);
+            this.rows = result == null ? 0 : result.getRows();
+            this.cols = result == null ? 0 : result.getCols();
+            this.values = result == null ? null : MatrixArrays.copyOf(result);
+            this.bytes = bytes;
+        }
+
+        IMatrix copyOfResult() throws MatrixException {
+            return MatrixArrays.fromRowMajor(prototype, rows, cols, values.clone());
+        }
+    }
+}
@@ -0,0 +1,425 @@
+package pl.polsl.maj.model.operations;
+
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.MatrixArrays;
+
+/**
+ * Householder QR decomposition ({@code A = Q R}) of an (m x n) matrix with
+ * {@code m >= n}.
+ * <p>
+ * The matrix is copied once into column-major order, so every Householder
+ * vector and every column it is applied to is a contiguous array segment.
+ * Columns are processed in panels of {@value #BLOCK}: inside a panel the
+ * reflectors are applied one by one, then they are combined into the compact
+ * WY form {@code H_1 ... H_b = I - Y T Yᵀ} and applied to all remaining
+ * columns at once as {@code C -= Y (Tᵀ (Yᵀ C))}, i.e. two matrix products,
+ * tiled over rows, instead of {@code b} rank-one updates. The reflectors are kept (below the
+ * diagonal, with their {@code T} factors), so {@code Qᵀ B} is applied the
+ * same way when solving least-squares problems. {@code AᵀA} is never formed,
+ * which keeps the condition number of the problem unsquared.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.1
+ */
+public final class QRDecomposition {
+    /** Number of columns combined into one compact WY block. */
+    private static final int BLOCK = 32;
+    /** Number of rows of Y kept in cache while a block reflector is applied. */
+    private static final int ROW_BLOCK = 256;
+    /** Diagonal entries of R below this fraction of the largest are treated as zero. */
+    private static final double RANK_EPS = 1e-12;
+
+    /** Number of rows. */
+    private final int m;
+    /** Number of columns. */
+    private final int n;
+    /** R on and above the diagonal, Householder vectors below it; column-major. */
+    private final double[] qr;
+    /** Scalar factors of the reflectors {@code H_j = I - tau_j v_j v_jᵀ}. */
+    private final double[] tau;
+    /** Upper-triangular T factor of every block, (b x b) row-major. */
+    private final double[][] blockT;
+
+    /**
+     * Factorize the given matrix.
+     *
+     * @param a matrix with at least as many rows as columns
+     * @throws MatrixException when the matrix is empty or has more columns than rows
+     */
+    public QRDecomposition(IMatrix a) throws MatrixException {
+        if (a == null || a.getRows() < 1 || a.getCols() < 1) {
+            throw new MatrixException("Matrices cannot be empty");
+        }
+        if (a.getRows() < a.getCols()) {
+            throw new MatrixException("Matrix must have at least as many rows as columns");
+        }
+
+        this.m = a.getRows();
+        this.n = a.getCols();
+        this.qr = toColumnMajor(a);
+        this.tau = new double[n];
+        this.blockT = new double[(n + BLOCK - 1) / BLOCK][];
+
+        for (int kb = 0; kb < n; kb += BLOCK) {
+            int ke = Math.min(kb + BLOCK, n);
+
+            for (int j = kb; j < ke; ++j) {
+                house(j);
+                reflect(j, qr, j + 1, ke);
+            }
+
+            double[] t = buildT(kb, ke);
+            blockT[kb / BLOCK] = t;
+            if (ke < n) {
+                applyBlock(kb, ke, t, qr, ke, n, true);
+            }
+        }
+    }
+
+    /** Copy a matrix into a column-major array, sharing no storage. */
+    private static double[] toColumnMajor(IMatrix a) throws MatrixException {
+        int rows = a.getRows();
+        int cols = a.getCols();
+        double[] src = MatrixArrays.rowMajorStorage(a);
+        if (src == null) {
+            src = MatrixArrays.copyOf(a);
+        }
+        double[] out = new double[rows * cols];
+        for (int i = 0, idx = 0; i < rows; ++i) {
+            for (int j = 0; j < cols; ++j) {
+                out[j * rows + i] = src[idx++];
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Compute the reflector annihilating column {@code j} below the
+     * diagonal. Stores {@code beta} on the diagonal and {@code v} (with an
+     * implicit leading one) below it.
+     */
+    private void house(int j) {
+        int col = j * m;
+        double x0 = qr[col + j];
+        double sigma = 0.0;
+        for (int i = j + 1; i < m; ++i) {
+            double v = qr[col + i];
+            sigma += v * v;
+        }
+        if (sigma == 0.0) {
+            tau[j] = 0.0;
+            return;
+        }
+
+        double norm = Math.sqrt(x0 * x0 + sigma);
+        double beta = x0 <= 0.0 ? norm : -norm;
+        tau[j] = (beta - x0) / beta;
+        double scale = 1.0 / (x0 - beta);
+        for (int i = j + 1; i < m; ++i) {
+            qr[col + i] *= scale;
+        }
+        qr[col + j] = beta;
+    }
+
+    /**
+     * Apply reflector {@code H_j} to columns {@code [from, to)} of a
+     * column-major array with columns of length {@code m}.
+     */
+    private void reflect(int j, double[] c, int from, int to) {
+        double t = tau[j];
+        if (t == 0.0) {
+            return;
+        }
+        int vc = j * m;
+        for (int col = from; col < to; ++col) {
+            int cc = col * m;
+            double w = c[cc + j];
+            for (int i = j + 1; i < m; ++i) {
+                w += qr[vc + i] * c[cc + i];
+            }
+            w *= t;
+            c[cc + j] -= w;
+            for (int i = j + 1; i < m; ++i) {
+                c[cc + i] -= w * qr[vc + i];
+            }
+        }
+    }
+
+    /**
+     * Build the upper-triangular T with {@code H_kb ... H_(ke-1) = I - Y T Yᵀ}
+     * (forward, column-wise accumulation).
+     */
+    private double[] buildT(int kb, int ke) {
+        int b = ke - kb;
+        double[] t = new double[b * b];
+        double[] z = new double[b];
+
+        for (int j = 0; j < b; ++j) {
+            int row = kb + j;
+            int vj = row * m;
+            double tj = tau[row];
+            t[j * b + j] = tj;
+
+            // z = Y(:, 0..j-1)ᵀ v_j; v_j is zero above row, one at row
+            for (int p = 0; p < j; ++p) {
+                int vp = (kb + p) * m;
+                double s = qr[vp + row];
+                for (int i = row + 1; i < m; ++i) {
+                    s += qr[vp + i] * qr[vj + i];
+                }
+                z[p] = s;
+            }
+            // T(0..j-1, j) = -tau_j T(0..j-1, 0..j-1) z
+            for (int p = 0; p < j; ++p) {
+                double s = 0.0;
+                for (int q = p; q < j; ++q) {
+                    s += t[p * b + q] * z[q];
+                }
+                t[p * b + j] = -tj * s;
+            }
+        }
+        return t;
+    }
+
+    /**
+     * Apply the block reflector {@code I - Y T Yᵀ} of columns
+     * {@code [kb, ke)} (or its transpose) to columns {@code [from, to)} of a
+     * column-major array with columns of length {@code m}.
+     * <p>
+     * Both products are tiled over rows: {@code W = Yᵀ C} is accumulated
+     * and {@code C -= Y W} is applied one block of {@value #ROW_BLOCK} rows
+     * at a time, so each (rows x b) slice of Y is loaded into cache once and
+     * reused for every column of C instead of being streamed per column.
+     * </p>
+     *
+     * @param transpose {@code true} to apply {@code Qᵀ = I - Y Tᵀ Yᵀ}
+     */
+    private void applyBlock(int kb, int ke, double[] t, double[] c, int from, int to, boolean transpose) {
+        int b = ke - kb;
+        int nc = to - from;
+        // W is (b x nc), stored column by column: w[col * b + p]
+        double[] w = new double[nc * b];
+
+        // W = Yᵀ C
+        for (int i0 = kb; i0 < m; i0 += ROW_BLOCK) {
+            int i1 = Math.min(i0 + ROW_BLOCK, m);
+            // reflectors whose unit entry lies above this row block
+            int full = Math.max(0, Math.min(b, i0 - kb));
+            for (int col = 0; col < nc; ++col) {
+                int cc = (from + col) * m;
+                int wc = col * b;
+                int p = 0;
+                // four reflectors per pass over the column segment, four independent sums
+                for (; p + 3 < full; p += 4) {
+                    int v0 = (kb + p) * m;
+                    int v1 = v0 + m;
+                    int v2 = v1 + m;
+                    int v3 = v2 + m;
+                    double s0 = 0.0, s1 = 0.0, s2 = 0.0, s3 = 0.0;
+                    for (int i = i0; i < i1; ++i) {
+                        double ci = c[cc + i];
+                        s0 += qr[v0 + i] * ci;
+                        s1 += qr[v1 + i] * ci;
+                        s2 += qr[v2 + i] * ci;
+                        s3 += qr[v3 + i] * ci;
+                    }
+                    w[wc + p] += s0;
+                    w[wc + p + 1] += s1;
+                    w[wc + p + 2] += s2;
+                    w[wc + p + 3] += s3;
+                }
+                for (; p < b; ++p) {
+                    int row = kb + p;
+                    if (row >= i1) break;
+                    int vp = row * m;
+                    int start = Math.max(i0, row + 1);
+                    double s = row >= i0 ? c[cc + row] : 0.0;
+                    for (int i = start; i < i1; ++i) {
+                        s += qr[vp + i] * c[cc + i];
+                    }
+                    w[wc + p] += s;
+                }
+            }
+        }
+
+        // W = T W or Tᵀ W (T upper triangular), column by column in place
+        for (int col = 0; col < nc; ++col) {
+            int wc = col * b;
+            if (transpose) {
+                for (int p = b - 1; p >= 0; --p) {
+                    double s = 0.0;
+                    for (int q = 0; q <= p; ++q) {
+                        s += t[q * b + p] * w[wc + q];
+                    }
+                    w[wc + p] = s;
+                }
+            } else {
+                for (int p = 0; p < b; ++p) {
+                    double s = 0.0;
+                    for (int q = p; q < b; ++q) {
+                        s += t[p * b + q] * w[wc + q];
+                    }
+                    w[wc + p] = s;
+                }
+            }
+        }
+
+        // C -= Y W
+        for (int i0 = kb; i0 < m; i0 += ROW_BLOCK) {
+            int i1 = Math.min(i0 + ROW_BLOCK, m);
+            int full = Math.max(0, Math.min(b, i0 - kb));
+            for (int col = 0; col < nc; ++col) {
+                int cc = (from + col) * m;
+                int wc = col * b;
+                int p = 0;
+                for (; p + 3 < full; p += 4) {
+                    int v0 = (kb + p) * m;
+                    int v1 = v0 + m;
+                    int v2 = v1 + m;
+                    int v3 = v2 + m;
+                    double w0 = w[wc + p];
+                    double w1 = w[wc + p + 1];
+                    double w2 = w[wc + p + 2];
+                    double w3 = w[wc + p + 3];
+                    for (int i = i0; i < i1; ++i) {
+                        c[cc + i] -= w0 * qr[v0 + i] + w1 * qr[v1 + i] + w2 * qr[v2 + i] + w3 * qr[v3 + i];
+                    }
+                }
+                for (; p < b; ++p) {
+                    int row = kb + p;
+                    if (row >= i1) break;
+                    double wp = w[wc + p];
+                    int vp = row * m;
+                    if (row >= i0) {
+                        c[cc + row] -= wp;
+                    }
+                    for (int i = Math.max(i0, row + 1); i < i1; ++i) {
+                        c[cc + i] -= wp * qr[vp + i];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Return the number of rows of the decomposed matrix.
+     *
+     * @return number of rows
+     */
+    public int getRows() {
+        return m;
+    }
+
+    /**
+     * Return the number of columns of the decomposed matrix.
+     *
+     * @return number of columns
+     */
+    public int getCols() {
+        return n;
+    }
+
+    /**
+     * Check whether R has no (numerically) zero diagonal entry.
+     *
+     * @return {@code true} when the columns of A are linearly independent
+     */
+    public boolean isFullRank() {
+        double max = 0.0;
+        for (int j = 0; j < n; ++j) {
+            max = Math.max(max, Math.abs(qr[j * m + j]));
+        }
+        for (int j = 0; j < n; ++j) {
+            if (Math.abs(qr[j * m + j]) <= RANK_EPS * max) {
+                return false;
+            }
+        }
+        return max > 0.0;
+    }
+
+    /**
+     * Return the upper-triangular factor R.
+     *
+     * @param prototype matrix whose concrete type should be used
+     * @return (n x n) matrix R
+     * @throws MatrixException when the result cannot be created
+     */
+    public IMatrix getR(IMatrix prototype) throws MatrixException {
+        double[] r = new double[n * n];
+        for (int j = 0; j < n; ++j) {
+            for (int i = 0; i <= j; ++i) {
+                r[i * n + j] = qr[j * m + i];
+            }
+        }
+        return MatrixArrays.fromRowMajor(prototype, n, n, r);
+    }
+
+    /**
+     * Return the thin orthogonal factor Q, formed by applying the stored
+     * reflectors to the first n columns of the identity.
+     *
+     * @param prototype matrix whose concrete type should be used
+     * @return (m x n) matrix Q with orthonormal columns
+     * @throws MatrixException when the result cannot be created
+     */
+    public IMatrix getQ(IMatrix prototype) throws MatrixException {
+        double[] q = new double[n * m];
+        for (int j = 0; j < n; ++j) {
+            q[j * m + j] = 1.0;
+        }
+        for (int kb = (blockT.length - 1) * BLOCK; kb >= 0; kb -= BLOCK) {
+            applyBlock(kb, Math.min(kb + BLOCK, n), blockT[kb / BLOCK], q, 0, n, false);
+        }
+        return MatrixArrays.fromRowMajor(prototype, m, n, fromColumnMajor(q, m, n));
+    }
+
+    /**
+     * Solve the least-squares problem {@code min ||A X - B||} column by
+     * column, as {@code X = R⁻¹ (Qᵀ B)(0..n-1)}.
+     *
+     * @param b right-hand side matrix with m rows
+     * @return (n x k) solution of the same concrete type as {@code b}
+     * @throws MatrixException when dimensions differ or A is rank deficient
+     */
+    public IMatrix solve(IMatrix b) throws MatrixException {
+        if (b == null || b.getRows() != m) {
+            throw new MatrixException("Matrix row dimensions must agree");
+        }
+        if (!isFullRank()) {
+            throw new MatrixException("Matrix is rank deficient");
+        }
+
+        int k = b.getCols();
+        double[] c = toColumnMajor(b);
+        for (int kb = 0; kb < n; kb += BLOCK) {
+            applyBlock(kb, Math.min(kb + BLOCK, n), blockT[kb / BLOCK], c, 0, k, true);
+        }
+
+        // back substitution R x = c(0..n-1) for every column
+        double[] x = new double[n * k];
+        for (int col = 0; col < k; ++col) {
+            int cc = col * m;
+            for (int i = n - 1; i >= 0; --i) {
+                double s = c[cc + i];
+                for (int j = i + 1; j < n; ++j) {
+                    s -= qr[j * m + i] * x[j * k + col];
+                }
+                x[i * k + col] = s / qr[i * m + i];
+            }
+        }
+        return MatrixArrays.fromRowMajor(b, n, k, x);
+    }
+
+    /** Convert a column-major (rows x cols) array to row-major. */
+    private static double[] fromColumnMajor(double[] src, int rows, int cols) {
+        double[] out = new double[rows * cols];
+        for (int j = 0; j < cols; ++j) {
+            for (int i = 0; i < rows; ++i) {
+                out[i * cols + j] = src[j * rows + i];
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,21 @@
+package pl.polsl.maj.model.operations;
+
+import pl.polsl.maj.model.IMatrix;
+
+/**
+ * Singular value decomposition {@code A = U diag(σ) Vᵀ}, possibly truncated.
+ * <p>
+ * Column {@code j} of {@code u} and of {@code v} are the left and right
+ * singular vectors belonging to {@code singularValues[j]}. Both matrices are
+ * {@code null} when only singular values were requested.
+ * </p>
+ *
+ * @param u (m x r) matrix of left singular vectors, or {@code null}
+ * @param singularValues r singular values in descending order
+ * @param v (n x r) matrix of right singular vectors, or {@code null}
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public record SvdResult(IMatrix u, double[] singularValues, IMatrix v) {
+}
@@ -0,0 +1,456 @@
+package pl.polsl.maj.model.operations.batchoperations;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.MatrixArrays;
+import pl.polsl.maj.model.MatrixBatch;
+import pl.polsl.maj.model.operations.FixedSizeKernels;
+import pl.polsl.maj.model.operations.IParallelAlgorithm;
+import pl.polsl.maj.model.operations.LUDecomposition;
+
+/**
+ * Element-wise-over-the-batch kernels for {@link MatrixBatch}.
+ * <p>
+ * Every kernel processes a range of batch indices {@code k} at a time and
+ * runs its innermost loop over {@code k}, so all planes are walked with unit
+ * stride and the loop bodies are straight-line arithmetic the JIT can turn
+ * into SIMD instructions. Ranges are cut into blocks of {@value #BLOCK}
+ * matrices, which keeps the active slice of every plane in cache, and are
+ * split across a fork/join pool once the batch is large enough.
+ * </p>
+ * <p>
+ * Determinants and inverses of 2x2, 3x3 and 4x4 matrices use the same
+ * closed-form cofactor formulas as {@link FixedSizeKernels}, evaluated lane
+ * by lane, and the inverse applies its scale-invariant singularity test
+ * with the row norms computed per lane. Other sizes run an
+ * {@link LUDecomposition} per matrix, still split over the pool.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.2
+ */
+public class BatchOperations implements IParallelAlgorithm {
+    /** Default number of element updates below which work is not split. */
+    public static final long DEFAULT_SEQUENTIAL_CUTOFF = 1L << 16;
+    /** Number of matrices processed together inside a task. */
+    private static final int BLOCK = 1024;
+
+    /** Pool used to run batch-range tasks. */
+    private volatile ForkJoinPool pool;
+    /** Number of element updates below which work stays on one thread. */
+    private final long sequentialCutoff;
+
+    /**
+     * Create the operations using the common pool and default cutoff.
+     */
+    public BatchOperations() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_CUTOFF);
+    }
+
+    /**
+     * Create the operations with explicit configuration.
+     *
+     * @param pool pool used to run the tasks
+     * @param sequentialCutoff number of element updates below which no task is forked
+     * @throws IllegalArgumentException when an argument is invalid
+     */
+    public BatchOperations(ForkJoinPool pool, long sequentialCutoff) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (sequentialCutoff <= 0) {
+            throw new IllegalArgumentException("Cutoff must be positive");
+        }
+        this.pool = pool;
+        this.sequentialCutoff = sequentialCutoff;
+    }
+
+    @Override
+    public void setPool(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Add two batches matrix by matrix.
+     *
+     * @param a first batch
+     * @param b second batch of the same size and shape
+     * @return new batch with {@code a[k] + b[k]}
+     * @throws MatrixException when the batches differ in size or shape
+     */
+    public MatrixBatch add(MatrixBatch a, MatrixBatch b) throws MatrixException {
+        if (a == null || b == null) {
+            throw new MatrixException("Matrices cannot be empty");
+        }
+        if (!a.isEqualShape(b)) {
+            throw new MatrixException("Matrices have different sizes");
+        }
+
+        MatrixBatch out = new MatrixBatch(a.size(), a.getRows(), a.getCols());
+        double[][] pa = a.planes();
+        double[][] pb = b.planes();
+        double[][] po = out.planes();
+        forBatch(a.size(), pa.length, (from, to) -> {
+            for (int e = 0; e < pa.length; ++e) {
+                double[] x = pa[e];
+                double[] y = pb[e];
+                double[] z = po[e];
+                for (int k = from; k < to; ++k) {
+                    z[k] = x[k] + y[k];
+                }
+            }
+        });
+        return out;
+    }
+
+    /**
+     * Multiply two batches matrix by matrix.
+     *
+     * @param a batch of (n x m) matrices
+     * @param b batch of (m x q) matrices of the same size
+     * @return new batch with {@code a[k] × b[k]}
+     * @throws MatrixException when sizes differ or the shapes cannot be multiplied
+     */
+    public MatrixBatch multiply(MatrixBatch a, MatrixBatch b) throws MatrixException {
+        if (a == null || b == null) {
+            throw new MatrixException("Matrices cannot be empty");
+        }
+        if (a.size() != b.size() || a.getCols() != b.getRows()) {
+            throw new MatrixException("Cannot multiply not compatible matrices");
+        }
+
+        int n = a.getRows();
+        int m = a.getCols();
+        int q = b.getCols();
+        MatrixBatch out = new MatrixBatch(a.size(), n, q);
+        double[][] pa = a.planes();
+        double[][] pb = b.planes();
+        double[][] po = out.planes();
+        forBatch(a.size(), (long) n * m * q, (from, to) -> {
+            for (int i = 0; i < n; ++i) {
+                for (int j = 0; j < q; ++j) {
+                    double[] z = po[i * q + j];
+                    double[] x0 = pa[i * m];
+                    double[] y0 = pb[j];
+                    for (int k = from; k < to; ++k) {
+                        z[k] = x0[k] * y0[k];
+                    }
+                    for (int p = 1; p < m; ++p) {
+                        double[] x = pa[i * m + p];
+                        double[] y = pb[p * q + j];
+                        for (int k = from; k < to; ++k) {
+                            z[k] += x[k] * y[k];
+                        }
+                    }
+                }
+            }
+        });
+        return out;
+    }
+
+    /**
+     * Compute the determinant of every matrix.
+     *
+     * @param a batch of square matrices
+     * @return array with the determinant of matrix {@code k} at index {@code k}
+     * @throws MatrixException when the matrices are not square
+     */
+    public double[] determinant(MatrixBatch a) throws MatrixException {
+        if (a == null || !a.isSquare()) {
+            throw new MatrixException("Matrix must be squared and not empty");
+        }
+
+        int n = a.getRows();
+        double[][] p = a.planes();
+        double[] det = new double[a.size()];
+        switch (n) {
+            case 1 -> System.arraycopy(p[0], 0, det, 0, det.length);
+            case 2 -> forBatch(det.length, 4, (from, to) -> {
+                double[] a0 = p[0], a1 = p[1], a2 = p[2], a3 = p[3];
+                for (int k = from; k < to; ++k) {
+                    det[k] = a0[k] * a3[k] - a1[k] * a2[k];
+                }
+            });
+            case 3 -> forBatch(det.length, 20, (from, to) -> {
+                double[] a0 = p[0], a1 = p[1], a2 = p[2];
+                double[] a3 = p[3], a4 = p[4], a5 = p[5];
+                double[] a6 = p[6], a7 = p[7], a8 = p[8];
+                for (int k = from; k < to; ++k) {
+                    det[k] = a0[k] * (a4[k] * a8[k] - a5[k] * a7[k])
+                           - a1[k] * (a3[k] * a8[k] - a5[k] * a6[k])
+                           + a2[k] * (a3[k] * a7[k] - a4[k] * a6[k]);
+                }
+            });
+            case 4 -> forBatch(det.length, 40, (from, to) -> determinant4(p, det, from, to));
+            default -> {
+                AtomicReference<MatrixException> error = new AtomicReference<>();
+                forBatch(det.length, (long) n * n * n, (from, to) -> {
+                    try {
+                        for (int k = from; k < to; ++k) {
+                            det[k] = new LUDecomposition(a.getMatrix(k)).determinant();
+                        }
+                    } catch (MatrixException e) {
+                        error.compareAndSet(null, e);
+                    }
+                });
+                if (error.get() != null) {
+                    throw error.get();
+                }
+            }
+        }
+        return det;
+    }
+
+    /**
+     * Invert every matrix.
+     *
+     * @param a batch of square matrices
+     * @return new batch with {@code a[k]⁻¹}
+     * @throws MatrixException when the matrices are not square or one of them is singular
+     */
+    public MatrixBatch inverse(MatrixBatch a) throws MatrixException {
+        if (a == null || !a.isSquare()) {
+            throw new MatrixException("Matrix must be squared");
+        }
+
+        int n = a.getRows();
+        MatrixBatch out = new MatrixBatch(a.size(), n, n);
+        double[][] p = a.planes();
+        double[][] o = out.planes();
+        AtomicBoolean singular = new AtomicBoolean();
+        switch (n) {
+            case 1 -> forBatch(a.size(), 1, (from, to) -> flag(singular, inverse1(p, o, from, to)));
+            case 2 -> forBatch(a.size(), 16, (from, to) -> flag(singular, inverse2(p, o, from, to)));
+            case 3 -> forBatch(a.size(), 70, (from, to) -> flag(singular, inverse3(p, o, from, to)));
+            case 4 -> forBatch(a.size(), 180, (from, to) -> flag(singular, inverse4(p, o, from, to)));
+            default -> {
+                AtomicReference<MatrixException> error = new AtomicReference<>();
+                forBatch(a.size(), 3L * n * n * n, (from, to) -> {
+                    try {
+                        for (int k = from; k < to; ++k) {
+                            double[] inv = MatrixArrays.copyOf(new LUDecomposition(a.getMatrix(k)).inverse());
+                            for (int e = 0; e < inv.length; ++e) {
+                                o[e][k] = inv[e];
+                            }
+                        }
+                    } catch (MatrixException e) {
+                        error.compareAndSet(null, e);
+                    }
+                });
+                if (error.get() != null) {
+                    throw error.get();
+                }
+            }
+        }
+        if (singular.get()) {
+            throw new MatrixException("Matrix is not invertible");
+        }
+        return out;
+    }
+
+    private static void determinant4(double[][] p, double[] det, int from, int to) {
+        double[] a0 = p[0], a1 = p[1], a2 = p[2], a3 = p[3];
+        double[] a4 = p[4], a5 = p[5], a6 = p[6], a7 = p[7];
+        double[] a8 = p[8], a9 = p[9], a10 = p[10], a11 = p[11];
+        double[] a12 = p[12], a13 = p[13], a14 = p[14], a15 = p[15];
+        for (int k = from; k < to; ++k) {
+            double s0 = a0[k] * a5[k] - a4[k] * a1[k];
+            double s1 = a0[k] * a6[k] - a4[k] * a2[k];
+            double s2 = a0[k] * a7[k] - a4[k] * a3[k];
+            double s3 = a1[k] * a6[k] - a5[k] * a2[k];
+            double s4 = a1[k] * a7[k] - a5[k] * a3[k];
+            double s5 = a2[k] * a7[k] - a6[k] * a3[k];
+            double c5 = a10[k] * a15[k] - a14[k] * a11[k];
+            double c4 = a9[k] * a15[k] - a13[k] * a11[k];
+            double c3 = a9[k] * a14[k] - a13[k] * a10[k];
+            double c2 = a8[k] * a15[k] - a12[k] * a11[k];
+            double c1 = a8[k] * a14[k] - a12[k] * a10[k];
+            double c0 = a8[k] * a13[k] - a12[k] * a9[k];
+            det[k] = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+        }
+    }
+
+    private static double inverse2(double[][] p, double[][] o, int from, int to) {
+        double[] a0 = p[0], a1 = p[1], a2 = p[2], a3 = p[3];
+        double[] o0 = o[0], o1 = o[1], o2 = o[2], o3 = o[3];
+        double margin = Double.POSITIVE_INFINITY;
+        for (int k = from; k < to; ++k) {
+            double d = a0[k] * a3[k] - a1[k] * a2[k];
+            double inv = 1.0 / d;
+            double r0 = a0[k] * a0[k] + a1[k] * a1[k];
+            double r1 = a2[k] * a2[k] + a3[k] * a3[k];
+            margin = Math.min(margin, Math.abs(d) / Math.sqrt(r0) / Math.sqrt(r1));
+            o0[k] = a3[k] * inv;
+            o1[k] = -a1[k] * inv;
+            o2[k] = -a2[k] * inv;
+            o3[k] = a0[k] * inv;
+        }
+        return margin;
+    }
+
+    private static double inverse3(double[][] p, double[][] o, int from, int to) {
+        double[] a0 = p[0], a1 = p[1], a2 = p[2];
+        double[] a3 = p[3], a4 = p[4], a5 = p[5];
+        double[] a6 = p[6], a7 = p[7], a8 = p[8];
+        double[] o0 = o[0], o1 = o[1], o2 = o[2];
+        double[] o3 = o[3], o4 = o[4], o5 = o[5];
+        double[] o6 = o[6], o7 = o[7], o8 = o[8];
+        double margin = Double.POSITIVE_INFINITY;
+        for (int k = from; k < to; ++k) {
+            double c0 = a4[k] * a8[k] - a5[k] * a7[k];
+            double c1 = a5[k] * a6[k] - a3[k] * a8[k];
+            double c2 = a3[k] * a7[k] - a4[k] * a6[k];
+            double d = a0[k] * c0 + a1[k] * c1 + a2[k] * c2;
+            double inv = 1.0 / d;
+            double r0 = a0[k] * a0[k] + a1[k] * a1[k] + a2[k] * a2[k];
+            double r1 = a3[k] * a3[k] + a4[k] * a4[k] + a5[k] * a5[k];
+            double r2 = a6[k] * a6[k] + a7[k] * a7[k] + a8[k] * a8[k];
+            margin = Math.min(margin, Math.abs(d) / Math.sqrt(r0) / Math.sqrt(r1) / Math.sqrt(r2));
+            o0[k] = c0 * inv;
+            o1[k] = (a2[k] * a7[k] - a1[k] * a8[k]) * inv;
+            o2[k] = (a1[k] * a5[k] - a2[k] * a4[k]) * inv;
+            o3[k] = c1 * inv;
+            o4[k] = (a0[k] * a8[k] - a2[k] * a6[k]) * inv;
+            o5[k] = (a2[k] * a3[k] - a0[k] * a5[k]) * inv;
+            o6[k] = c2 * inv;
+            o7[k] = (a1[k] * a6[k] - a0[k] * a7[k]) * inv;
+            o8[k] = (a0[k] * a4[k] - a1[k] * a3[k]) * inv;
+        }
+        return margin;
+    }
+
+    private static double inverse4(double[][] p, double[][] o, int from, int to) {
+        double[] a0 = p[0], a1 = p[1], a2 = p[2], a3 = p[3];
+        double[] a4 = p[4], a5 = p[5], a6 = p[6], a7 = p[7];
+        double[] a8 = p[8], a9 = p[9], a10 = p[10], a11 = p[11];
+        double[] a12 = p[12], a13 = p[13], a14 = p[14], a15 = p[15];
+        double[] o0 = o[0], o1 = o[1], o2 = o[2], o3 = o[3];
+        double[] o4 = o[4], o5 = o[5], o6 = o[6], o7 = o[7];
+        double[] o8 = o[8], o9 = o[9], o10 = o[10], o11 = o[11];
+        double[] o12 = o[12], o13 = o[13], o14 = o[14], o15 = o[15];
+        double margin = Double.POSITIVE_INFINITY;
+        for (int k = from; k < to; ++k) {
+            double s0 = a0[k] * a5[k] - a4[k] * a1[k];
+            double s1 = a0[k] * a6[k] - a4[k] * a2[k];
+            double s2 = a0[k] * a7[k] - a4[k] * a3[k];
+            double s3 = a1[k] * a6[k] - a5[k] * a2[k];
+            double s4 = a1[k] * a7[k] - a5[k] * a3[k];
+            double s5 = a2[k] * a7[k] - a6[k] * a3[k];
+            double c5 = a10[k] * a15[k] - a14[k] * a11[k];
+            double c4 = a9[k] * a15[k] - a13[k] * a11[k];
+            double c3 = a9[k] * a14[k] - a13[k] * a10[k];
+            double c2 = a8[k] * a15[k] - a12[k] * a11[k];
+            double c1 = a8[k] * a14[k] - a12[k] * a10[k];
+            double c0 = a8[k] * a13[k] - a12[k] * a9[k];
+            double d = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+            double inv = 1.0 / d;
+            double r0 = a0[k] * a0[k] + a1[k] * a1[k] + a2[k] * a2[k] + a3[k] * a3[k];
+            double r1 = a4[k] * a4[k] + a5[k] * a5[k] + a6[k] * a6[k] + a7[k] * a7[k];
+            double r2 = a8[k] * a8[k] + a9[k] * a9[k] + a10[k] * a10[k] + a11[k] * a11[k];
+            double r3 = a12[k] * a12[k] + a13[k] * a13[k] + a14[k] * a14[k] + a15[k] * a15[k];
+            margin = Math.min(margin, Math.abs(d) / Math.sqrt(r0) / Math.sqrt(r1) / Math.sqrt(r2) / Math.sqrt(r3));
+
+            o0[k] = (a5[k] * c5 - a6[k] * c4 + a7[k] * c3) * inv;
+            o1[k] = (-a1[k] * c5 + a2[k] * c4 - a3[k] * c3) * inv;
+            o2[k] = (a13[k] * s5 - a14[k] * s4 + a15[k] * s3) * inv;
+            o3[k] = (-a9[k] * s5 + a10[k] * s4 - a11[k] * s3) * inv;
+            o4[k] = (-a4[k] * c5 + a6[k] * c2 - a7[k] * c1) * inv;
+            o5[k] = (a0[k] * c5 - a2[k] * c2 + a3[k] * c1) * inv;
+            o6[k] = (-a12[k] * s5 + a14[k] * s2 - a15[k] * s1) * inv;
+            o7[k] = (a8[k] * s5 - a10[k] * s2 + a11[k] * s1) * inv;
+            o8[k] = (a4[k] * c4 - a5[k] * c2 + a7[k] * c0) * inv;
+            o9[k] = (-a0[k] * c4 + a1[k] * c2 - a3[k] * c0) * inv;
+            o10[k] = (a12[k] * s4 - a13[k] * s2 + a15[k] * s0) * inv;
+            o11[k] = (-a8[k] * s4 + a9[k] * s2 - a11[k] * s0) * inv;
+            o12[k] = (-a4[k] * c3 + a5[k] * c1 - a6[k] * c0) * inv;
+            o13[k] = (a0[k] * c3 - a1[k] * c1 + a2[k] * c0) * inv;
+            o14[k] = (-a12[k] * s3 + a13[k] * s1 - a14[k] * s0) * inv;
+            o15[k] = (a8[k] * s3 - a9[k] * s1 + a10[k] * s0) * inv;
+        }
+        return margin;
+    }
+
+    private static double inverse1(double[][] p, double[][] o, int from, int to) {
+        double[] a0 = p[0];
+        double[] o0 = o[0];
+        double margin = Double.POSITIVE_INFINITY;
+        for (int k = from; k < to; ++k) {
+            o0[k] = 1.0 / a0[k];
+            // Hadamard ratio of a 1x1 matrix: 1, or NaN for zero and non-finite values
+            margin = Math.min(margin, Math.abs(a0[k]) / Math.abs(a0[k]));
+        }
+        return margin;
+    }
+
+    /**
+     * Record a singular matrix. The 2x2 to 4x4 kernels return the smallest
+     * ratio of {@code |det|} to the product of the row norms (the Hadamard
+     * bound) of their range, the same scale-invariant test as
+     * {@link FixedSizeKernels#isSingular}; for 1x1 matrices the ratio is 1
+     * unless the value is zero. The result is not above the threshold (or
+     * NaN) as soon as one matrix is numerically singular.
+     */
+    private static void flag(AtomicBoolean singular, double margin) {
+        if (!(margin > FixedSizeKernels.SINGULAR_EPS)) {
+            singular.set(true);
+        }
+    }
+
+    /** Body of a batch-range loop. */
+    @FunctionalInterface
+    private interface BatchRange {
+        void run(int from, int to);
+    }
+
+    /**
+     * Run {@code body} over batch indices {@code [0, size)} in blocks of
+     * {@value #BLOCK}, splitting the range on the pool when the total work
+     * exceeds the sequential cutoff.
+     *
+     * @param work number of element updates per matrix
+     */
+    private void forBatch(int size, long work, BatchRange body) {
+        long grain = Math.max(BLOCK, sequentialCutoff / Math.max(1, work));
+        BatchRange blocked = (from, to) -> {
+            for (int kb = from; kb < to; kb += BLOCK) {
+                body.run(kb, Math.min(kb + BLOCK, to));
+            }
+        };
+        if (size <= grain) {
+            blocked.run(0, size);
+        } else {
+            pool.invoke(new BatchTask(blocked, 0, size, grain));
+        }
+    }
+
+    /** Recursive task splitting a batch range in halves. */
+    private static final class BatchTask extends RecursiveAction {
+        private final BatchRange body;
+        private final int from;
+        private final int to;
+        private final long grain;
+
+        BatchTask(BatchRange body, int from, int to, long grain) {
+            this.body = body;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                body.run(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new BatchTask(body, from, mid, grain), new BatchTask(body, mid, to, grain));
+        }
+    }
+}
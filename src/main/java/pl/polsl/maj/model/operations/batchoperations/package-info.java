@@ -0,0 +1,19 @@
+/**
+ * Batched operations over many small matrices of the same shape.
+ * <p>
+ * Operands are {@link pl.polsl.maj.model.MatrixBatch} instances in
+ * struct-of-arrays layout. Instead of one strategy call, one result object
+ * and one dispatch per matrix, a single call processes the whole batch with
+ * loops that run across the batch dimension and are split over a fork/join
+ * pool.
+ * </p>
+ *
+ * <p>Important classes:</p>
+ * <ul>
+ *   <li>{@link pl.polsl.maj.model.operations.batchoperations.BatchOperations}</li>
+ * </ul>
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+package pl.polsl.maj.model.operations.batchoperations;
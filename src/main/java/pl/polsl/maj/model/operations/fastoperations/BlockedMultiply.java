@@ -0,0 +1,240 @@
+package pl.polsl.maj.model.operations.fastoperations;
+
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.MatrixArrays;
+import pl.polsl.maj.model.TransposedView;
+import pl.polsl.maj.model.operations.IMultiplyAlgorithm;
+
+/**
+ * Cache-blocked (tiled) implementation of matrix multiplication (a × b).
+ * <p>
+ * Operands are read as flat row-major arrays (copied once unless already
+ * stored that way). The product is then accumulated tile by tile so that the active parts of {@code a},
+ * {@code b} and the result stay resident in L1/L2 cache. Inside a tile the
+ * loops run in i-k-j order, which walks {@code b} and the result along
+ * contiguous rows instead of striding down columns. A right operand given
+ * as a {@link TransposedView} is read through its base matrix with a
+ * dot-product loop order instead of being materialised.
+ * </p>
+ *
+ * <strong>Complexity:</strong> O(n * m * k) for an (n x m) × (m x k) multiplication.
+ *
+ * @author piotr.maj
+ * @version 1.0.5
+ */
+public class BlockedMultiply implements IMultiplyAlgorithm {
+    /** Default tile edge; three 64x64 tiles of doubles fit in a typical L2. */
+    public static final int DEFAULT_TILE_SIZE = 64;
+
+    /** Tile edge used for all three loop dimensions. */
+    private final int tileSize;
+
+    /**
+     * Create the algorithm with the default tile size.
+     */
+    public BlockedMultiply() {
+        this(DEFAULT_TILE_SIZE);
+    }
+
+    /**
+     * Create the algorithm with a custom tile size.
+     *
+     * @param tileSize tile edge in elements (must be positive)
+     * @throws IllegalArgumentException when {@code tileSize} is not positive
+     */
+    public BlockedMultiply(int tileSize) {
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("Tile size must be positive");
+        }
+        this.tileSize = tileSize;
+    }
+
+    /**
+     * Execute matrix multiplication.
+     *
+     * @param a left matrix with dimensions (n x m)
+     * @param b right matrix with dimensions (m x k)
+     * @return new matrix of dimensions (n x k) containing the product
+     * @throws MatrixException when matrices are not compatible for multiplication
+     */
+    @Override
+    public IMatrix execute(IMatrix a, IMatrix b) throws MatrixException {
+        if (a.getCols() != b.getRows()) {
+            throw new MatrixException("Cannot multiply not compatible matrices");
+        }
+
+        int n = a.getRows();
+        int m = a.getCols();
+        int k = b.getCols();
+
+        double[] out = new double[n * k];
+        accumulate(a, b, out);
+
+        return MatrixArrays.fromRowMajor(a, n, k, out);
+    }
+
+    /**
+     * Execute matrix multiplication into an existing matrix. When all
+     * matrices are stored as flat row-major arrays the kernel runs directly
+     * on their storage without allocating.
+     *
+     * @param a left matrix with dimensions (n x m)
+     * @param b right matrix with dimensions (m x k)
+     * @param dst matrix with dimensions (n x k) receiving the product
+     * @throws MatrixException when dimensions do not match or {@code dst} shares storage with an operand
+     */
+    @Override
+    public void executeInto(IMatrix a, IMatrix b, IMatrix dst) throws MatrixException {
+        checkInto(a, b, dst);
+
+        int n = a.getRows();
+        int m = a.getCols();
+        int k = b.getCols();
+
+        double[] out = MatrixArrays.rowMajorStorage(dst);
+        if (out != null) {
+            java.util.Arrays.fill(out, 0.0);
+            accumulate(a, b, out);
+            return;
+        }
+
+        out = new double[n * k];
+        accumulate(a, b, out);
+        MatrixArrays.copyInto(out, dst);
+    }
+
+    /**
+     * Compute {@code out += a × b}. A {@link TransposedView} right operand
+     * is not materialised; its base rows are used directly as columns.
+     */
+    private void accumulate(IMatrix a, IMatrix b, double[] out) throws MatrixException {
+        int n = a.getRows();
+        int m = a.getCols();
+        int k = b.getCols();
+        double[] left = operand(a);
+
+        if (b instanceof TransposedView t) {
+            multiplyTransposedRange(left, operand(t.getBase()), out, m, k, 0, n, 0, k, tileSize);
+        } else {
+            multiplyRange(left, operand(b), out, m, k, 0, n, 0, k, tileSize);
+        }
+    }
+
+    /**
+     * Validate operands of a destination-passing multiplication.
+     *
+     * @param a left operand
+     * @param b right operand
+     * @param dst destination
+     * @throws MatrixException when dimensions do not match or {@code dst} shares storage with an operand
+     */
+    static void checkInto(IMatrix a, IMatrix b, IMatrix dst) throws MatrixException {
+        if (a == null || b == null || dst == null) {
+            throw new MatrixException("Matrices cannot be empty");
+        }
+        if (a.getCols() != b.getRows()) {
+            throw new MatrixException("Cannot multiply not compatible matrices");
+        }
+        if (dst.getRows() != a.getRows() || dst.getCols() != b.getCols()) {
+            throw new MatrixException("Destination matrix has wrong dimensions");
+        }
+        if (MatrixArrays.sharesStorage(dst, a) || MatrixArrays.sharesStorage(dst, b)) {
+            throw new MatrixException("Destination matrix must not be an operand");
+        }
+    }
+
+    /**
+     * Obtain read-only row-major values of an operand, sharing storage when
+     * possible.
+     *
+     * @param m operand matrix
+     * @return row-major values (must not be modified)
+     * @throws MatrixException when reading the matrix fails
+     */
+    static double[] operand(IMatrix m) throws MatrixException {
+        double[] shared = MatrixArrays.rowMajorStorage(m);
+        return shared != null ? shared : MatrixArrays.copyOf(m);
+    }
+
+    /**
+     * Accumulate {@code a × btᵀ} into the block {@code [rowFrom, rowTo) x
+     * [colFrom, colTo)} of {@code c}, where {@code bt} holds the right
+     * operand transposed, i.e. as a (k x m) row-major array. Every result
+     * element is a dot product of two contiguous rows.
+     *
+     * @param a left operand values, (n x m)
+     * @param bt transposed right operand values, (k x m)
+     * @param c result values, updated in place
+     * @param m shared (inner) dimension
+     * @param k number of columns of {@code c}
+     * @param rowFrom first result row (inclusive)
+     * @param rowTo last result row (exclusive)
+     * @param colFrom first result column (inclusive)
+     * @param colTo last result column (exclusive)
+     * @param tile tile edge in elements
+     */
+    public static void multiplyTransposedRange(double[] a, double[] bt, double[] c, int m, int k,
+                                               int rowFrom, int rowTo, int colFrom, int colTo, int tile) {
+        for (int ii = rowFrom; ii < rowTo; ii += tile) {
+            int iEnd = Math.min(ii + tile, rowTo);
+            for (int jj = colFrom; jj < colTo; jj += tile) {
+                int jEnd = Math.min(jj + tile, colTo);
+
+                for (int i = ii; i < iEnd; ++i) {
+                    int ai = i * m;
+                    int ci = i * k;
+                    for (int j = jj; j < jEnd; ++j) {
+                        int bj = j * m;
+                        double sum = 0.0;
+                        for (int p = 0; p < m; ++p) {
+                            sum += a[ai + p] * bt[bj + p];
+                        }
+                        c[ci + j] += sum;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Accumulate {@code a × b} into the block {@code [rowFrom, rowTo) x
+     * [colFrom, colTo)} of {@code c}. All arrays are row-major; {@code a} is
+     * (n x m), {@code b} is (m x k) and {@code c} is (n x k).
+     *
+     * @param a left operand values
+     * @param b right operand values
+     * @param c result values, updated in place ({@code c += a × b})
+     * @param m shared (inner) dimension
+     * @param k number of columns of {@code b} and {@code c}
+     * @param rowFrom first result row (inclusive)
+     * @param rowTo last result row (exclusive)
+     * @param colFrom first result column (inclusive)
+     * @param colTo last result column (exclusive)
+     * @param tile tile edge in elements
+     */
+    public static void multiplyRange(double[] a, double[] b, double[] c, int m, int k,
+                                     int rowFrom, int rowTo, int colFrom, int colTo, int tile) {
+        for (int ii = rowFrom; ii < rowTo; ii += tile) {
+            int iEnd = Math.min(ii + tile, rowTo);
+            for (int pp = 0; pp < m; pp += tile) {
+                int pEnd = Math.min(pp + tile, m);
+                for (int jj = colFrom; jj < colTo; jj += tile) {
+                    int jEnd = Math.min(jj + tile, colTo);
+
+                    for (int i = ii; i < iEnd; ++i) {
+                        int ai = i * m;
+                        int ci = i * k;
+                        for (int p = pp; p < pEnd; ++p) {
+                            double aip = a[ai + p];
+                            int bp = p * k;
+                            for (int j = jj; j < jEnd; ++j) {
+                                c[ci + j] += aip * b[bp + j];
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
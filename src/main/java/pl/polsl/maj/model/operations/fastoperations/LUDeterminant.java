@@ -0,0 +1,89 @@
+package pl.polsl.maj.model.operations.fastoperations;
+
+import lombok.NoArgsConstructor;
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.operations.IDeterminantAlgorithm;
+import pl.polsl.maj.model.operations.LUDecomposition;
+import pl.polsl.maj.model.operations.simpleoperations.SimpleDeterminant;
+
+/**
+ * Determinant computation based on LU decomposition with partial pivoting.
+ * <p>
+ * The matrix is factorized by {@link LUDecomposition}, which copies it once
+ * into a scratch row-major array and eliminates it in place. The determinant
+ * is the direct product of the pivots; {@link #logDeterminant(IMatrix)}
+ * returns it as a sign and a sum of logarithms instead, so that large
+ * matrices do not overflow or underflow. Matrices up to 3x3 are delegated to
+ * {@link SimpleDeterminant}, for which the closed-form expansion is cheaper
+ * than elimination.
+ * </p>
+ *
+ * <strong>Complexity:</strong> O(n^3) for an (n x n) matrix.
+ *
+ * @author piotr.maj
+ * @version 1.0.2
+ */
+@NoArgsConstructor
+public class LUDeterminant implements IDeterminantAlgorithm {
+    /** Largest size for which the cofactor expansion is used. */
+    private static final int SMALL_SIZE = 3;
+
+    /** Fallback used for very small matrices. */
+    private final IDeterminantAlgorithm small = new SimpleDeterminant();
+
+    /**
+     * Sign and natural logarithm of the absolute value of a determinant.
+     *
+     * @param sign {@code 1}, {@code -1} or {@code 0} for a singular matrix
+     * @param logAbs logarithm of the absolute determinant
+     *               ({@code -Infinity} for a singular matrix)
+     */
+    public record LogDeterminant(double sign, double logAbs) {
+        /**
+         * Convert back to the plain determinant value. May overflow to
+         * infinity or underflow to zero for extreme matrices.
+         *
+         * @return determinant value
+         */
+        public double value() {
+            return sign == 0.0 ? 0.0 : sign * Math.exp(logAbs);
+        }
+    }
+
+    /**
+     * Compute the determinant of a square matrix.
+     *
+     * @param a square matrix
+     * @return determinant value
+     * @throws MatrixException when the matrix is not square or is empty
+     */
+    @Override
+    public double execute(IMatrix a) throws MatrixException {
+        if (!a.isSquare() || a.getRows() < 1) {
+            throw new MatrixException("Matrix must be squared and not empty");
+        }
+
+        if (a.getRows() <= SMALL_SIZE) {
+            return small.execute(a);
+        }
+
+        return new LUDecomposition(a).determinant();
+    }
+
+    /**
+     * Compute sign and log-magnitude of the determinant of a square matrix.
+     *
+     * @param a square matrix
+     * @return sign and logarithm of the absolute determinant
+     * @throws MatrixException when the matrix is not square or is empty
+     */
+    public LogDeterminant logDeterminant(IMatrix a) throws MatrixException {
+        if (!a.isSquare() || a.getRows() < 1) {
+            throw new MatrixException("Matrix must be squared and not empty");
+        }
+
+        LUDecomposition lu = new LUDecomposition(a);
+        return new LogDeterminant(lu.determinantSign(), lu.logAbsDeterminant());
+    }
+}
@@ -0,0 +1,40 @@
+package pl.polsl.maj.model.operations.fastoperations;
+
+import lombok.NoArgsConstructor;
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.operations.IInverseAlgorithm;
+import pl.polsl.maj.model.operations.LUDecomposition;
+
+/**
+ * Inverse computation based on {@link LUDecomposition}.
+ * <p>
+ * Factorizes the matrix once and solves for the identity matrix using
+ * forward and back substitution over all columns at the same time.
+ * Throws {@link MatrixException} when the matrix is singular.
+ * </p>
+ *
+ * <strong>Complexity:</strong> O(n^3) for an (n x n) matrix.
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+@NoArgsConstructor
+public class LUInverse implements IInverseAlgorithm {
+
+    /**
+     * Compute inverse of a square matrix.
+     *
+     * @param a square matrix to invert
+     * @return new matrix containing the inverse of {@code a}
+     * @throws MatrixException when matrix is not square or not invertible
+     */
+    @Override
+    public IMatrix execute(IMatrix a) throws MatrixException {
+        if (!a.isSquare()) {
+            throw new MatrixException("Matrix must be squared");
+        }
+
+        return new LUDecomposition(a).inverse();
+    }
+}
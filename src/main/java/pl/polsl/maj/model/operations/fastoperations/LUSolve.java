@@ -0,0 +1,46 @@
+package pl.polsl.maj.model.operations.fastoperations;
+
+import lombok.NoArgsConstructor;
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.operations.ISolveAlgorithm;
+import pl.polsl.maj.model.operations.LUDecomposition;
+
+/**
+ * Linear system solver based on {@link LUDecomposition}.
+ * <p>
+ * Factorizes A with partial pivoting and runs forward and back substitution
+ * over blocks of right-hand sides, never forming {@code A^-1}. Compared to
+ * {@link LUInverse} followed by a multiplication this saves about two thirds
+ * of the work for a single right-hand side and avoids the extra rounding of
+ * the explicit inverse.
+ * </p>
+ *
+ * <strong>Complexity:</strong> O(n^3 + n^2 * k) for an (n x n) system with k right-hand sides.
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+@NoArgsConstructor
+public class LUSolve implements ISolveAlgorithm {
+
+    /**
+     * Solve {@code A X = B}.
+     *
+     * @param a square coefficient matrix
+     * @param b right-hand side matrix with the same number of rows as {@code a}
+     * @return new matrix containing the solution, of the same type as {@code b}
+     * @throws MatrixException when dimensions do not match or {@code a} is singular
+     */
+    @Override
+    public IMatrix execute(IMatrix a, IMatrix b) throws MatrixException {
+        if (a == null || b == null) {
+            throw new MatrixException("Matrices cannot be empty");
+        }
+        if (!a.isSquare()) {
+            throw new MatrixException("Matrix must be squared");
+        }
+
+        return new LUDecomposition(a).solve(b);
+    }
+}
@@ -0,0 +1,200 @@
+package pl.polsl.maj.model.operations.fastoperations;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.MatrixArrays;
+import pl.polsl.maj.model.TransposedView;
+import pl.polsl.maj.model.operations.IMultiplyAlgorithm;
+import pl.polsl.maj.model.operations.IParallelAlgorithm;
+
+/**
+ * Fork/join parallel implementation of matrix multiplication (a × b).
+ * <p>
+ * The output matrix is split recursively into row or column blocks (always
+ * halving the longer side) until a block is small enough, and each leaf
+ * block is computed by the cache-blocked kernel of {@link BlockedMultiply}.
+ * Leaf blocks write to disjoint parts of the result, so no synchronization
+ * is needed. Products below the sequential cutoff are computed directly on
+ * the caller thread.
+ * </p>
+ *
+ * <strong>Complexity:</strong> O(n * m * k) work, spread across the pool.
+ *
+ * @author piotr.maj
+ * @version 1.0.4
+ */
+public class ParallelMultiply implements IMultiplyAlgorithm, IParallelAlgorithm {
+    /** Default number of multiply-adds below which work is not split. */
+    public static final long DEFAULT_SEQUENTIAL_CUTOFF = 1L << 20;
+
+    /** Pool used to run the recursive tasks. */
+    private volatile ForkJoinPool pool;
+    /** Number of multiply-adds below which work stays on one thread. */
+    private final long sequentialCutoff;
+    /** Tile edge passed to the blocked kernel. */
+    private final int tileSize;
+
+    /**
+     * Create the algorithm using the common pool and default cutoff.
+     */
+    public ParallelMultiply() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_CUTOFF, BlockedMultiply.DEFAULT_TILE_SIZE);
+    }
+
+    /**
+     * Create the algorithm with explicit configuration.
+     *
+     * @param pool pool used to run the tasks
+     * @param sequentialCutoff number of multiply-adds below which no task is forked
+     * @param tileSize tile edge of the blocked kernel
+     * @throws IllegalArgumentException when an argument is invalid
+     */
+    public ParallelMultiply(ForkJoinPool pool, long sequentialCutoff, int tileSize) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (sequentialCutoff <= 0 || tileSize <= 0) {
+            throw new IllegalArgumentException("Cutoff and tile size must be positive");
+        }
+        this.pool = pool;
+        this.sequentialCutoff = sequentialCutoff;
+        this.tileSize = tileSize;
+    }
+
+    @Override
+    public void setPool(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Execute matrix multiplication.
+     *
+     * @param a left matrix with dimensions (n x m)
+     * @param b right matrix with dimensions (m x k)
+     * @return new matrix of dimensions (n x k) containing the product
+     * @throws MatrixException when matrices are not compatible for multiplication
+     */
+    @Override
+    public IMatrix execute(IMatrix a, IMatrix b) throws MatrixException {
+        if (a.getCols() != b.getRows()) {
+            throw new MatrixException("Cannot multiply not compatible matrices");
+        }
+
+        int n = a.getRows();
+        int m = a.getCols();
+        int k = b.getCols();
+
+        double[] out = new double[n * k];
+        run(a, b, out);
+
+        return MatrixArrays.fromRowMajor(a, n, k, out);
+    }
+
+    /**
+     * Execute matrix multiplication into an existing matrix. When all
+     * matrices are stored as flat row-major arrays the tasks write directly
+     * into the storage of {@code dst}.
+     *
+     * @param a left matrix with dimensions (n x m)
+     * @param b right matrix with dimensions (m x k)
+     * @param dst matrix with dimensions (n x k) receiving the product
+     * @throws MatrixException when dimensions do not match or {@code dst} shares storage with an operand
+     */
+    @Override
+    public void executeInto(IMatrix a, IMatrix b, IMatrix dst) throws MatrixException {
+        BlockedMultiply.checkInto(a, b, dst);
+
+        int n = a.getRows();
+        int m = a.getCols();
+        int k = b.getCols();
+
+        double[] out = MatrixArrays.rowMajorStorage(dst);
+        if (out != null) {
+            java.util.Arrays.fill(out, 0.0);
+            run(a, b, out);
+            return;
+        }
+
+        out = new double[n * k];
+        run(a, b, out);
+        MatrixArrays.copyInto(out, dst);
+    }
+
+    /**
+     * Compute {@code out += a × b}, forking only above the sequential cutoff.
+     * A {@link TransposedView} right operand is read through its base.
+     */
+    private void run(IMatrix a, IMatrix b, double[] out) throws MatrixException {
+        int n = a.getRows();
+        int m = a.getCols();
+        int k = b.getCols();
+        boolean transposed = b instanceof TransposedView;
+        double[] left = BlockedMultiply.operand(a);
+        double[] right = BlockedMultiply.operand(transposed ? ((TransposedView) b).getBase() : b);
+
+        BlockTask root = new BlockTask(left, right, out, m, k, transposed, 0, n, 0, k);
+        if ((long) n * m * k <= sequentialCutoff) {
+            root.compute();
+        } else {
+            pool.invoke(root);
+        }
+    }
+
+    /** Recursive task computing one rectangular block of the result. */
+    private final class BlockTask extends RecursiveAction {
+        private final double[] a;
+        private final double[] b;
+        private final double[] c;
+        private final int m;
+        private final int k;
+        private final boolean transposed;
+        private final int rowFrom;
+        private final int rowTo;
+        private final int colFrom;
+        private final int colTo;
+
+        BlockTask(double[] a, double[] b, double[] c, int m, int k, boolean transposed,
+                  int rowFrom, int rowTo, int colFrom, int colTo) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.m = m;
+            this.k = k;
+            this.transposed = transposed;
+            this.rowFrom = rowFrom;
+            this.rowTo = rowTo;
+            this.colFrom = colFrom;
+            this.colTo = colTo;
+        }
+
+        @Override
+        protected void compute() {
+            int rows = rowTo - rowFrom;
+            int cols = colTo - colFrom;
+
+            if ((long) rows * cols * m <= sequentialCutoff || (rows <= tileSize && cols <= tileSize)) {
+                if (transposed) {
+                    BlockedMultiply.multiplyTransposedRange(a, b, c, m, k, rowFrom, rowTo, colFrom, colTo, tileSize);
+                } else {
+                    BlockedMultiply.multiplyRange(a, b, c, m, k, rowFrom, rowTo, colFrom, colTo, tileSize);
+                }
+                return;
+            }
+
+            if (rows >= cols) {
+                int mid = rowFrom + rows / 2;
+                invokeAll(new BlockTask(a, b, c, m, k, transposed, rowFrom, mid, colFrom, colTo),
+                          new BlockTask(a, b, c, m, k, transposed, mid, rowTo, colFrom, colTo));
+            } else {
+                int mid = colFrom + cols / 2;
+                invokeAll(new BlockTask(a, b, c, m, k, transposed, rowFrom, rowTo, colFrom, mid),
+                          new BlockTask(a, b, c, m, k, transposed, rowFrom, rowTo, mid, colTo));
+            }
+        }
+    }
+}
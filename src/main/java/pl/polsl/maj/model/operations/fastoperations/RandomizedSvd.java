@@ -0,0 +1,317 @@
+package pl.polsl.maj.model.operations.fastoperations;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.CsrMatrix;
+import pl.polsl.maj.model.DenseMatrix;
+import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.MatrixArrays;
+import pl.polsl.maj.model.operations.IParallelAlgorithm;
+import pl.polsl.maj.model.operations.ISvdAlgorithm;
+import pl.polsl.maj.model.operations.QRDecomposition;
+import pl.polsl.maj.model.operations.SvdResult;
+import pl.polsl.maj.model.operations.sparseoperations.SparseDenseMultiply;
+import pl.polsl.maj.model.operations.sparseoperations.SparseTranspose;
+
+/**
+ * Randomized truncated SVD returning the leading k singular triplets.
+ * <p>
+ * The range of A is sampled with a Gaussian sketch {@code Y = A Ω} of
+ * {@code l = k + oversampling} columns and orthonormalized to Q. A few power
+ * iterations {@code Y = A (Aᵀ Q)}, re-orthonormalized after every product,
+ * sharpen the decay of the spectrum so that Q captures the dominant
+ * subspace even when singular values decay slowly. The small matrix
+ * {@code B = Qᵀ A} (l x n) is then decomposed exactly with
+ * {@link GolubKahanSvd} and its left vectors are lifted back by Q.
+ * </p>
+ * <p>
+ * A is only touched through products with tall (n x l) or (m x l) blocks, so
+ * the cost is O(m n l) per pass instead of O(m n min(m, n)) for the full
+ * decomposition. A {@link CsrMatrix} input is multiplied in sparse form
+ * and never densified. The products are split into row ranges on a
+ * fork/join pool. Results are reproducible for a given seed.
+ * </p>
+ *
+ * <strong>Complexity:</strong> O((2q + 2) m n l + (m + n) l^2) for q power iterations.
+ *
+ * @author piotr.maj
+ * @version 1.0.1
+ */
+public class RandomizedSvd implements ISvdAlgorithm, IParallelAlgorithm {
+    /** Default number of extra sketch columns. */
+    public static final int DEFAULT_OVERSAMPLING = 10;
+    /** Default number of power iterations. */
+    public static final int DEFAULT_POWER_ITERATIONS = 2;
+    /** Default number of element updates below which work is not split. */
+    public static final long DEFAULT_SEQUENTIAL_CUTOFF = 1L << 16;
+    /** Default seed of the Gaussian sketch. */
+    public static final long DEFAULT_SEED = 42L;
+    /** Tile edge of the dense products. */
+    private static final int TILE = BlockedMultiply.DEFAULT_TILE_SIZE;
+
+    /** Pool used to run row-range tasks. */
+    private volatile ForkJoinPool pool;
+    /** Number of element updates below which work stays on one thread. */
+    private final long sequentialCutoff;
+    /** Number of singular triplets returned. */
+    private final int rank;
+    /** Number of extra sketch columns. */
+    private final int oversampling;
+    /** Number of power iterations. */
+    private final int powerIterations;
+    /** Seed of the Gaussian sketch. */
+    private final long seed;
+
+    /**
+     * Create the algorithm for the given rank with default settings.
+     *
+     * @param rank number of singular triplets to compute (must be positive)
+     * @throws IllegalArgumentException when {@code rank} is not positive
+     */
+    public RandomizedSvd(int rank) {
+        this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_CUTOFF, rank,
+             DEFAULT_OVERSAMPLING, DEFAULT_POWER_ITERATIONS, DEFAULT_SEED);
+    }
+
+    /**
+     * Create the algorithm with explicit configuration.
+     *
+     * @param pool pool used to run the tasks
+     * @param sequentialCutoff number of element updates below which no task is forked
+     * @param rank number of singular triplets to compute (must be positive)
+     * @param oversampling number of extra sketch columns (non-negative)
+     * @param powerIterations number of power iterations (non-negative)
+     * @param seed seed of the Gaussian sketch
+     * @throws IllegalArgumentException when an argument is invalid
+     */
+    public RandomizedSvd(ForkJoinPool pool, long sequentialCutoff, int rank,
+                         int oversampling, int powerIterations, long seed) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (sequentialCutoff <= 0) {
+            throw new IllegalArgumentException("Cutoff must be positive");
+        }
+        if (rank <= 0 || oversampling < 0 || powerIterations < 0) {
+            throw new IllegalArgumentException("Rank must be positive, oversampling and iterations non-negative");
+        }
+        this.pool = pool;
+        this.sequentialCutoff = sequentialCutoff;
+        this.rank = rank;
+        this.oversampling = oversampling;
+        this.powerIterations = powerIterations;
+        this.seed = seed;
+    }
+
+    @Override
+    public void setPool(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Compute the leading singular triplets.
+     *
+     * @param a matrix to decompose
+     * @return {@code rank} singular values in descending order; U (m x rank)
+     *         and V (n x rank) of the same concrete type as {@code a} (dense
+     *         for a sparse input)
+     * @throws MatrixException when the matrix is empty or the rank exceeds {@code min(m, n)}
+     */
+    @Override
+    public SvdResult execute(IMatrix a) throws MatrixException {
+        if (a == null || a.getRows() < 1 || a.getCols() < 1) {
+            throw new MatrixException("Matrices cannot be empty");
+        }
+        int m = a.getRows();
+        int n = a.getCols();
+        if (rank > Math.min(m, n)) {
+            throw new MatrixException("Rank cannot exceed the smaller matrix dimension");
+        }
+        int l = Math.min(rank + oversampling, Math.min(m, n));
+
+        Operand op = a instanceof CsrMatrix csr ? new SparseOperand(csr) : new DenseOperand(a);
+
+        Random random = new Random(seed);
+        double[] omega = new double[n * l];
+        for (int i = 0; i < omega.length; ++i) {
+            omega[i] = random.nextGaussian();
+        }
+
+        double[] q = orthonormalize(op.times(omega, l), m, l);
+        for (int it = 0; it < powerIterations; ++it) {
+            double[] z = orthonormalize(op.transposeTimes(q, l), n, l);
+            q = orthonormalize(op.times(z, l), m, l);
+        }
+
+        // Bᵀ = Aᵀ Q = Ub S Vbᵀ, hence A ≈ Q B = (Q Vb) S Ubᵀ
+        double[] bt = op.transposeTimes(q, l);
+        SvdResult small = new GolubKahanSvd().execute(MatrixArrays.fromRowMajor(new DenseMatrix(), n, l, bt));
+        double[] ub = MatrixArrays.copyOf(small.u());
+        double[] vb = MatrixArrays.copyOf(small.v());
+
+        double[] basis = q;
+        double[] left = new double[m * rank];
+        double[] vbk = truncate(vb, l, l, rank);
+        forRows(0, m, (long) l * rank, (lo, hi) ->
+                BlockedMultiply.multiplyRange(basis, vbk, left, l, rank, lo, hi, 0, rank, TILE));
+        double[] right = truncate(ub, n, l, rank);
+        double[] s = java.util.Arrays.copyOf(small.singularValues(), rank);
+
+        IMatrix prototype = a instanceof CsrMatrix ? new DenseMatrix() : a;
+        return new SvdResult(MatrixArrays.fromRowMajor(prototype, m, rank, left), s,
+                             MatrixArrays.fromRowMajor(prototype, n, rank, right));
+    }
+
+    /** Return an orthonormal basis (rows x cols, row-major) of the columns of {@code y}. */
+    private static double[] orthonormalize(double[] y, int rows, int cols) throws MatrixException {
+        IMatrix prototype = new DenseMatrix();
+        QRDecomposition qr = new QRDecomposition(MatrixArrays.fromRowMajor(prototype, rows, cols, y));
+        return MatrixArrays.rowMajorStorage(qr.getQ(prototype));
+    }
+
+    /** Keep the first {@code k} columns of a row-major (rows x cols) array. */
+    private static double[] truncate(double[] x, int rows, int cols, int k) {
+        if (k == cols) {
+            return x;
+        }
+        double[] out = new double[rows * k];
+        for (int i = 0; i < rows; ++i) {
+            System.arraycopy(x, i * cols, out, i * k, k);
+        }
+        return out;
+    }
+
+    /** Products of A with row-major blocks of l columns. */
+    private interface Operand {
+        /** Return {@code A x} for an (n x l) block {@code x}. */
+        double[] times(double[] x, int l);
+
+        /** Return {@code Aᵀ y} for an (m x l) block {@code y}. */
+        double[] transposeTimes(double[] y, int l);
+    }
+
+    /** Dense operand read from flat row-major values. */
+    private final class DenseOperand implements Operand {
+        private final double[] a;
+        private final int m;
+        private final int n;
+
+        DenseOperand(IMatrix matrix) throws MatrixException {
+            this.a = BlockedMultiply.operand(matrix);
+            this.m = matrix.getRows();
+            this.n = matrix.getCols();
+        }
+
+        @Override
+        public double[] times(double[] x, int l) {
+            double[] out = new double[m * l];
+            forRows(0, m, (long) n * l, (lo, hi) ->
+                    BlockedMultiply.multiplyRange(a, x, out, n, l, lo, hi, 0, l, TILE));
+            return out;
+        }
+
+        @Override
+        public double[] transposeTimes(double[] y, int l) {
+            // row p of the result only reads column p of A, so output rows split cleanly;
+            // rows of A are streamed in tiles to keep the output slice in cache
+            double[] out = new double[n * l];
+            forRows(0, n, (long) m * l, (lo, hi) -> {
+                for (int ii = 0; ii < m; ii += TILE) {
+                    int iEnd = Math.min(ii + TILE, m);
+                    for (int i = ii; i < iEnd; ++i) {
+                        int ai = i * n;
+                        int yi = i * l;
+                        for (int p = lo; p < hi; ++p) {
+                            double aip = a[ai + p];
+                            int op = p * l;
+                            for (int j = 0; j < l; ++j) {
+                                out[op + j] += aip * y[yi + j];
+                            }
+                        }
+                    }
+                }
+            });
+            return out;
+        }
+    }
+
+    /** Sparse operand; the transpose is built once in CSR form. */
+    private final class SparseOperand implements Operand {
+        private final CsrMatrix a;
+        private final CsrMatrix at;
+
+        SparseOperand(CsrMatrix a) throws MatrixException {
+            this.a = a;
+            this.at = (CsrMatrix) new SparseTranspose().execute(a);
+        }
+
+        @Override
+        public double[] times(double[] x, int l) {
+            return sparseTimes(a, x, l);
+        }
+
+        @Override
+        public double[] transposeTimes(double[] y, int l) {
+            return sparseTimes(at, y, l);
+        }
+
+        private double[] sparseTimes(CsrMatrix s, double[] x, int l) {
+            int rows = s.getRows();
+            double[] out = new double[rows * l];
+            long rowWork = Math.max(1L, (long) s.nnz() / Math.max(1, rows)) * l;
+            forRows(0, rows, rowWork, (lo, hi) -> SparseDenseMultiply.multiplyRange(s, x, out, l, lo, hi));
+            return out;
+        }
+    }
+
+    /** Body of a row-range loop. */
+    @FunctionalInterface
+    private interface RowRange {
+        void run(int from, int to);
+    }
+
+    /**
+     * Run {@code body} over rows {@code [from, to)}, splitting the range on
+     * the pool when the total work exceeds the sequential cutoff.
+     *
+     * @param rowWork number of element updates per row
+     */
+    private void forRows(int from, int to, long rowWork, RowRange body) {
+        long grain = Math.max(1, sequentialCutoff / Math.max(1, rowWork));
+        if (to - from <= grain) {
+            body.run(from, to);
+        } else {
+            pool.invoke(new RowTask(body, from, to, grain));
+        }
+    }
+
+    /** Recursive task splitting a row range in halves. */
+    private static final class RowTask extends RecursiveAction {
+        private final RowRange body;
+        private final int from;
+        private final int to;
+        private final long grain;
+
+        RowTask(RowRange body, int from, int to, long grain) {
+            this.body = body;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                body.run(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RowTask(body, from, mid, grain), new RowTask(body, mid, to, grain));
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package pl.polsl.maj.model.operations.fastoperations;
+
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.MatrixArrays;
+import pl.polsl.maj.model.operations.IMultiplyAlgorithm;
+
+/**
+ * Strassen-Winograd implementation of matrix multiplication (a × b) for
+ * large square matrices.
+ * <p>
+ * Each recursion level splits the operands into quadrants and forms the
+ * product from seven half-sized products and fifteen additions (Winograd's
+ * variant). Recursion stops once the blocks are not larger than the
+ * crossover size, below which the classic cache-blocked kernel is faster.
+ * </p>
+ * <p>
+ * The operands are zero-padded once, up front, to a size that stays even on
+ * every recursion level. Quadrants are addressed in place through an offset
+ * and a row stride, and all temporaries for the sub-products are allocated
+ * before the recursion starts (five half-sized buffers per level), so the
+ * recursion itself does not allocate. Non-square operands and matrices not
+ * larger than the crossover are delegated to {@link BlockedMultiply}.
+ * </p>
+ *
+ * <strong>Complexity:</strong> O(n^2.81) for an (n x n) × (n x n) multiplication.
+ *
+ * @author piotr.maj
+ * @version 1.0.1
+ */
+public class StrassenMultiply implements IMultiplyAlgorithm {
+    /** Default block size below which the classic kernel is used. */
+    public static final int DEFAULT_CROSSOVER = 512;
+
+    /** Block size below which the classic kernel is used. */
+    private final int crossover;
+    /** Tile edge of the classic kernel. */
+    private final int tileSize;
+    /** Classic kernel used for inputs outside the Strassen range. */
+    private final BlockedMultiply classic;
+
+    /**
+     * Create the algorithm with the default crossover and tile size.
+     */
+    public StrassenMultiply() {
+        this(DEFAULT_CROSSOVER, BlockedMultiply.DEFAULT_TILE_SIZE);
+    }
+
+    /**
+     * Create the algorithm with a custom crossover size.
+     *
+     * @param crossover block size at or below which the classic kernel is used
+     * @param tileSize tile edge of the classic kernel
+     * @throws IllegalArgumentException when an argument is not positive
+     */
+    public StrassenMultiply(int crossover, int tileSize) {
+        if (crossover <= 0 || tileSize <= 0) {
+            throw new IllegalArgumentException("Crossover and tile size must be positive");
+        }
+        this.crossover = crossover;
+        this.tileSize = tileSize;
+        this.classic = new BlockedMultiply(tileSize);
+    }
+
+    /**
+     * Execute matrix multiplication.
+     *
+     * @param a left matrix with dimensions (n x m)
+     * @param b right matrix with dimensions (m x k)
+     * @return new matrix of dimensions (n x k) containing the product
+     * @throws MatrixException when matrices are not compatible for multiplication
+     */
+    @Override
+    public IMatrix execute(IMatrix a, IMatrix b) throws MatrixException {
+        if (a.getCols() != b.getRows()) {
+            throw new MatrixException("Cannot multiply not compatible matrices");
+        }
+
+        int n = a.getRows();
+        if (!a.isSquare() || !b.isSquare() || n <= crossover) {
+            return classic.execute(a, b);
+        }
+
+        // smallest depth for which the leaf blocks fit under the crossover
+        int depth = 0;
+        while (ceilDiv(n, 1 << depth) > crossover) {
+            ++depth;
+        }
+        int size = ceilDiv(n, 1 << depth) << depth;
+
+        double[] left = pad(MatrixArrays.copyOf(a), n, size);
+        double[] right = pad(MatrixArrays.copyOf(b), n, size);
+        double[] out = new double[size * size];
+
+        double[][][] work = new double[depth][][];
+        for (int level = 0; level < depth; ++level) {
+            int h = size >> (level + 1);
+            work[level] = new double[5][h * h];
+        }
+
+        multiply(left, 0, size, right, 0, size, out, 0, size, size, 0, depth, work);
+
+        if (size != n) {
+            double[] trimmed = new double[n * n];
+            for (int i = 0; i < n; ++i) {
+                System.arraycopy(out, i * size, trimmed, i * n, n);
+            }
+            out = trimmed;
+        }
+
+        return MatrixArrays.fromRowMajor(a, n, n, out);
+    }
+
+    /**
+     * Recursive step: {@code c = a × b} for (n x n) blocks given by offset
+     * and row stride.
+     */
+    private void multiply(double[] a, int ao, int as, double[] b, int bo, int bs,
+                          double[] c, int co, int cs, int n, int level, int depth,
+                          double[][][] work) {
+        if (level == depth) {
+            leaf(a, ao, as, b, bo, bs, c, co, cs, n);
+            return;
+        }
+
+        int h = n / 2;
+        double[] s = work[level][0];
+        double[] t = work[level][1];
+        double[] p = work[level][2];
+        double[] q = work[level][3];
+        double[] r = work[level][4];
+
+        int a11 = ao, a12 = ao + h, a21 = ao + h * as, a22 = a21 + h;
+        int b11 = bo, b12 = bo + h, b21 = bo + h * bs, b22 = b21 + h;
+        int c11 = co, c12 = co + h, c21 = co + h * cs, c22 = c21 + h;
+        int next = level + 1;
+
+        // p = M1 = A11 B11 ; C11 = M2 + M1 = A12 B21 + M1
+        multiply(a, a11, as, b, b11, bs, p, 0, h, h, next, depth, work);
+        multiply(a, a12, as, b, b21, bs, c, c11, cs, h, next, depth, work);
+        combine(c, c11, cs, p, 0, h, c, c11, cs, h, 1.0);
+
+        // s = S1 = A21 + A22 ; t = T1 = B12 - B11 ; q = M5 = S1 T1
+        combine(a, a21, as, a, a22, as, s, 0, h, h, 1.0);
+        combine(b, b12, bs, b, b11, bs, t, 0, h, h, -1.0);
+        multiply(s, 0, h, t, 0, h, q, 0, h, h, next, depth, work);
+
+        // s = S2 = S1 - A11 ; t = T2 = B22 - T1 ; r = M6 = S2 T2 ; p = U2 = M1 + M6
+        combine(s, 0, h, a, a11, as, s, 0, h, h, -1.0);
+        combine(b, b22, bs, t, 0, h, t, 0, h, h, -1.0);
+        multiply(s, 0, h, t, 0, h, r, 0, h, h, next, depth, work);
+        combine(p, 0, h, r, 0, h, p, 0, h, h, 1.0);
+
+        // s = S4 = A12 - S2 ; C12 = M3 + U2 + M5 = S4 B22 + U2 + M5
+        combine(a, a12, as, s, 0, h, s, 0, h, h, -1.0);
+        multiply(s, 0, h, b, b22, bs, c, c12, cs, h, next, depth, work);
+        combine(c, c12, cs, p, 0, h, c, c12, cs, h, 1.0);
+        combine(c, c12, cs, q, 0, h, c, c12, cs, h, 1.0);
+
+        // t = T4 = T2 - B21 ; r = M4 = A22 T4
+        combine(t, 0, h, b, b21, bs, t, 0, h, h, -1.0);
+        multiply(a, a22, as, t, 0, h, r, 0, h, h, next, depth, work);
+
+        // s = S3 = A11 - A21 ; t = T3 = B22 - B12 ; C21 = U3 = M7 + U2
+        combine(a, a11, as, a, a21, as, s, 0, h, h, -1.0);
+        combine(b, b22, bs, b, b12, bs, t, 0, h, h, -1.0);
+        multiply(s, 0, h, t, 0, h, c, c21, cs, h, next, depth, work);
+        combine(c, c21, cs, p, 0, h, c, c21, cs, h, 1.0);
+
+        // C22 = U3 + M5 ; C21 = U3 - M4
+        combine(c, c21, cs, q, 0, h, c, c22, cs, h, 1.0);
+        combine(c, c21, cs, r, 0, h, c, c21, cs, h, -1.0);
+    }
+
+    /** Element-wise {@code z = x + sign * y} over (n x n) strided blocks. */
+    private static void combine(double[] x, int xo, int xs, double[] y, int yo, int ys,
+                                double[] z, int zo, int zs, int n, double sign) {
+        for (int i = 0; i < n; ++i) {
+            int xi = xo + i * xs;
+            int yi = yo + i * ys;
+            int zi = zo + i * zs;
+            for (int j = 0; j < n; ++j) {
+                z[zi + j] = x[xi + j] + sign * y[yi + j];
+            }
+        }
+    }
+
+    /** Classic tiled i-k-j kernel: {@code c = a × b} over (n x n) strided blocks. */
+    private void leaf(double[] a, int ao, int as, double[] b, int bo, int bs,
+                      double[] c, int co, int cs, int n) {
+        for (int i = 0; i < n; ++i) {
+            java.util.Arrays.fill(c, co + i * cs, co + i * cs + n, 0.0);
+        }
+
+        for (int ii = 0; ii < n; ii += tileSize) {
+            int iEnd = Math.min(ii + tileSize, n);
+            for (int pp = 0; pp < n; pp += tileSize) {
+                int pEnd = Math.min(pp + tileSize, n);
+                for (int jj = 0; jj < n; jj += tileSize) {
+                    int jEnd = Math.min(jj + tileSize, n);
+
+                    for (int i = ii; i < iEnd; ++i) {
+                        int ai = ao + i * as;
+                        int ci = co + i * cs;
+                        for (int p = pp; p < pEnd; ++p) {
+                            double aip = a[ai + p];
+                            int bp = bo + p * bs;
+                            for (int j = jj; j < jEnd; ++j) {
+                                c[ci + j] += aip * b[bp + j];
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /** Copy an (n x n) row-major array into a zero-padded (size x size) one. */
+    private static double[] pad(double[] src, int n, int size) {
+        if (n == size) {
+            return src;
+        }
+        double[] out = new double[size * size];
+        for (int i = 0; i < n; ++i) {
+            System.arraycopy(src, i * n, out, i * size, n);
+        }
+        return out;
+    }
+
+    /** Integer division rounding up. */
+    private static int ceilDiv(int x, int y) {
+        return (x + y - 1) / y;
+    }
+}
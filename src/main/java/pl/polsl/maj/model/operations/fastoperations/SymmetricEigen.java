@@ -0,0 +1,435 @@
+package pl.polsl.maj.model.operations.fastoperations;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.MatrixArrays;
+import pl.polsl.maj.model.operations.EigenResult;
+import pl.polsl.maj.model.operations.IEigenAlgorithm;
+import pl.polsl.maj.model.operations.IParallelAlgorithm;
+
+/**
+ * Symmetric eigenvalue solver: Householder tridiagonalization followed by
+ * the implicit-shift QL algorithm.
+ * <p>
+ * The matrix is first reduced to tridiagonal form {@code T = Qᵀ A Q} with
+ * n - 2 Householder reflections, each applied as a symmetric rank-two
+ * update. The eigenvalues of T are then found with implicitly shifted QL
+ * sweeps, which converge cubically. For eigenvectors the reflectors are
+ * accumulated into Q and every Givens rotation of a sweep is applied to it;
+ * since a rotation only mixes two columns, each row of Q can apply a whole
+ * sweep on its own. The eigenvalues-only mode skips both accumulations,
+ * which removes about three quarters of the work.
+ * </p>
+ * <p>
+ * The O(n^3) parts (matrix-vector products and rank-two updates of the
+ * reduction, accumulation of Q and the rotation sweeps) are split into row
+ * ranges on a fork/join pool. Small matrices run on the caller thread.
+ * </p>
+ *
+ * <strong>Complexity:</strong> about 4/3 n^3 operations for eigenvalues only,
+ * about 9 n^3 with eigenvectors.
+ *
+ * @author piotr.maj
+ * @version 1.0.1
+ */
+public class SymmetricEigen implements IEigenAlgorithm, IParallelAlgorithm {
+    /** Default number of element updates below which work is not split. */
+    public static final long DEFAULT_SEQUENTIAL_CUTOFF = 1L << 15;
+    /** Symmetry tolerance relative to the largest absolute entry. */
+    private static final double SYMMETRY_EPS = 1e-12;
+    /** Machine epsilon used by the QL convergence test. */
+    private static final double EPS = Math.ulp(1.0);
+
+    /** Pool used to run row-range tasks. */
+    private volatile ForkJoinPool pool;
+    /** Number of element updates below which work stays on one thread. */
+    private final long sequentialCutoff;
+
+    /**
+     * Create the algorithm using the common pool and default cutoff.
+     */
+    public SymmetricEigen() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_CUTOFF);
+    }
+
+    /**
+     * Create the algorithm with explicit configuration.
+     *
+     * @param pool pool used to run the tasks
+     * @param sequentialCutoff number of element updates below which no task is forked
+     * @throws IllegalArgumentException when an argument is invalid
+     */
+    public SymmetricEigen(ForkJoinPool pool, long sequentialCutoff) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (sequentialCutoff <= 0) {
+            throw new IllegalArgumentException("Cutoff must be positive");
+        }
+        this.pool = pool;
+        this.sequentialCutoff = sequentialCutoff;
+    }
+
+    @Override
+    public void setPool(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Compute all eigenvalues and eigenvectors.
+     *
+     * @param a square symmetric matrix
+     * @return eigenvalues in ascending order; eigenvectors as columns of a
+     *         matrix of the same concrete type as {@code a}
+     * @throws MatrixException when the matrix is not square or not symmetric
+     */
+    @Override
+    public EigenResult execute(IMatrix a) throws MatrixException {
+        int n = checkSymmetric(a);
+        double[] work = MatrixArrays.copyOf(a);
+        double[] d = new double[n];
+        double[] e = new double[n];
+        double[] tau = new double[n];
+
+        tridiagonalize(work, n, d, e, tau);
+        double[] q = accumulate(work, n, tau);
+        ql(d, e, q, n);
+
+        // sort ascending, permuting eigenvector columns
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; ++i) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (x, y) -> Double.compare(d[x], d[y]));
+        double[] values = new double[n];
+        double[] vectors = new double[n * n];
+        for (int j = 0; j < n; ++j) {
+            int src = order[j];
+            values[j] = d[src];
+            for (int i = 0; i < n; ++i) {
+                vectors[i * n + j] = q[i * n + src];
+            }
+        }
+
+        return new EigenResult(values, MatrixArrays.fromRowMajor(a, n, n, vectors));
+    }
+
+    /**
+     * Compute eigenvalues only, without accumulating any transformations.
+     *
+     * @param a square symmetric matrix
+     * @return eigenvalues in ascending order
+     * @throws MatrixException when the matrix is not square or not symmetric
+     */
+    @Override
+    public double[] eigenvalues(IMatrix a) throws MatrixException {
+        int n = checkSymmetric(a);
+        double[] work = MatrixArrays.copyOf(a);
+        double[] d = new double[n];
+        double[] e = new double[n];
+
+        tridiagonalize(work, n, d, e, new double[n]);
+        ql(d, e, null, n);
+        Arrays.sort(d);
+        return d;
+    }
+
+    /** Validate the input and return its dimension. */
+    private static int checkSymmetric(IMatrix a) throws MatrixException {
+        if (a == null || !a.isSquare() || a.getRows() < 1) {
+            throw new MatrixException("Matrix must be squared and not empty");
+        }
+        int n = a.getRows();
+        double[] v = MatrixArrays.rowMajorStorage(a);
+        if (v == null) {
+            v = MatrixArrays.copyOf(a);
+        }
+        // tolerance relative to the scale of the whole matrix, so tiny entries may differ in sign
+        double max = 0.0;
+        for (double x : v) {
+            max = Math.max(max, Math.abs(x));
+        }
+        double tol = SYMMETRY_EPS * max;
+        for (int i = 0; i < n; ++i) {
+            for (int j = i + 1; j < n; ++j) {
+                if (Math.abs(v[i * n + j] - v[j * n + i]) > tol) {
+                    throw new MatrixException("Matrix must be symmetric");
+                }
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Reduce {@code a} to tridiagonal form. On return {@code d} holds the
+     * diagonal, {@code e[i]} the entry {@code T[i][i+1]} ({@code e[n-1] = 0}),
+     * and row {@code k} of {@code a} holds reflector {@code v_k} in columns
+     * {@code k+1..n-1} (leading entry one) with factor {@code tau[k]}.
+     */
+    private void tridiagonalize(double[] a, int n, double[] d, double[] e, double[] tau) {
+        double[] p = new double[n];
+
+        for (int k = 0; k < n - 2; ++k) {
+            int rk = k * n;
+            d[k] = a[rk + k];
+
+            // reflector for x = A(k+1.., k), read from row k (symmetry)
+            double x0 = a[rk + k + 1];
+            double sigma = 0.0;
+            for (int j = k + 2; j < n; ++j) {
+                sigma += a[rk + j] * a[rk + j];
+            }
+            if (sigma == 0.0) {
+                e[k] = x0;
+                tau[k] = 0.0;
+                continue;
+            }
+            double norm = Math.sqrt(x0 * x0 + sigma);
+            double beta = x0 <= 0.0 ? norm : -norm;
+            double t = (beta - x0) / beta;
+            double scale = 1.0 / (x0 - beta);
+            a[rk + k + 1] = 1.0;
+            for (int j = k + 2; j < n; ++j) {
+                a[rk + j] *= scale;
+            }
+            e[k] = beta;
+            tau[k] = t;
+
+            final int from = k + 1;
+            final int vOff = rk;
+
+            // p = tau * A22 v
+            forRows(from, n, n - from, (lo, hi) -> {
+                for (int i = lo; i < hi; ++i) {
+                    int ri = i * n;
+                    double s = 0.0;
+                    for (int j = from; j < n; ++j) {
+                        s += a[ri + j] * a[vOff + j];
+                    }
+                    p[i] = t * s;
+                }
+            });
+
+            // w = p - (tau / 2) (pᵀ v) v, stored in p
+            double pv = 0.0;
+            for (int j = from; j < n; ++j) {
+                pv += p[j] * a[vOff + j];
+            }
+            double kk = 0.5 * t * pv;
+            for (int j = from; j < n; ++j) {
+                p[j] -= kk * a[vOff + j];
+            }
+
+            // A22 -= v wᵀ + w vᵀ
+            forRows(from, n, n - from, (lo, hi) -> {
+                for (int i = lo; i < hi; ++i) {
+                    int ri = i * n;
+                    double vi = a[vOff + i];
+                    double wi = p[i];
+                    for (int j = from; j < n; ++j) {
+                        a[ri + j] -= vi * p[j] + wi * a[vOff + j];
+                    }
+                }
+            });
+        }
+
+        if (n >= 2) {
+            d[n - 2] = a[(n - 2) * n + n - 2];
+            e[n - 2] = a[(n - 2) * n + n - 1];
+        }
+        d[n - 1] = a[(n - 1) * n + n - 1];
+        e[n - 1] = 0.0;
+    }
+
+    /**
+     * Form {@code Q = H_0 H_1 ... H_(n-3)} from the stored reflectors,
+     * applying them right to left so each one touches a shrinking block.
+     */
+    private double[] accumulate(double[] a, int n, double[] tau) {
+        double[] q = new double[n * n];
+        for (int i = 0; i < n; ++i) {
+            q[i * n + i] = 1.0;
+        }
+        double[] s = new double[n];
+
+        for (int k = n - 3; k >= 0; --k) {
+            double t = tau[k];
+            if (t == 0.0) continue;
+            final int from = k + 1;
+            final int vOff = k * n;
+
+            // s = vᵀ Q(from.., from..), accumulated row by row
+            Arrays.fill(s, from, n, 0.0);
+            for (int i = from; i < n; ++i) {
+                double vi = a[vOff + i];
+                if (vi == 0.0) continue;
+                int ri = i * n;
+                for (int j = from; j < n; ++j) {
+                    s[j] += vi * q[ri + j];
+                }
+            }
+
+            // Q(from.., from..) -= tau v sᵀ
+            forRows(from, n, n - from, (lo, hi) -> {
+                for (int i = lo; i < hi; ++i) {
+                    double f = t * a[vOff + i];
+                    if (f == 0.0) continue;
+                    int ri = i * n;
+                    for (int j = from; j < n; ++j) {
+                        q[ri + j] -= f * s[j];
+                    }
+                }
+            });
+        }
+        return q;
+    }
+
+    /**
+     * Implicitly shifted QL iteration on the tridiagonal matrix
+     * ({@code d}, {@code e}). Overwrites {@code d} with the eigenvalues and,
+     * when {@code z} is not null, applies every rotation to its columns.
+     */
+    private void ql(double[] d, double[] e, double[] z, int n) throws MatrixException {
+        double[] rc = new double[n];
+        double[] rs = new double[n];
+        double f = 0.0;
+        double tst1 = 0.0;
+
+        for (int l = 0; l < n; ++l) {
+            tst1 = Math.max(tst1, Math.abs(d[l]) + Math.abs(e[l]));
+            int m = l;
+            while (m < n - 1 && Math.abs(e[m]) > EPS * tst1) {
+                ++m;
+            }
+
+            if (m > l) {
+                int iter = 0;
+                do {
+                    if (++iter > 60) {
+                        throw new MatrixException("Eigenvalue iteration did not converge");
+                    }
+
+                    // Wilkinson-like shift from the leading 2x2 block
+                    double g = d[l];
+                    double p = (d[l + 1] - g) / (2.0 * e[l]);
+                    double r = Math.hypot(p, 1.0);
+                    if (p < 0) {
+                        r = -r;
+                    }
+                    d[l] = e[l] / (p + r);
+                    d[l + 1] = e[l] * (p + r);
+                    double dl1 = d[l + 1];
+                    double h = g - d[l];
+                    for (int i = l + 2; i < n; ++i) {
+                        d[i] -= h;
+                    }
+                    f += h;
+
+                    // chase the bulge from m up to l
+                    p = d[m];
+                    double c = 1.0;
+                    double c2 = c;
+                    double c3 = c;
+                    double el1 = e[l + 1];
+                    double s = 0.0;
+                    double s2 = 0.0;
+                    for (int i = m - 1; i >= l; --i) {
+                        c3 = c2;
+                        c2 = c;
+                        s2 = s;
+                        g = c * e[i];
+                        h = c * p;
+                        r = Math.hypot(p, e[i]);
+                        e[i + 1] = s * r;
+                        s = e[i] / r;
+                        c = p / r;
+                        p = c * d[i] - s * g;
+                        d[i + 1] = h + s * (c * g + s * d[i]);
+                        rc[i] = c;
+                        rs[i] = s;
+                    }
+                    p = -s * s2 * c3 * el1 * e[l] / dl1;
+                    e[l] = s * p;
+                    d[l] = c * p;
+
+                    if (z != null) {
+                        rotate(z, n, l, m, rc, rs);
+                    }
+                } while (Math.abs(e[l]) > EPS * tst1);
+            }
+            d[l] += f;
+            e[l] = 0.0;
+        }
+    }
+
+    /**
+     * Apply the rotations of one sweep (indices {@code m-1} down to
+     * {@code l}) to the columns of {@code z}. Every row is independent.
+     */
+    private void rotate(double[] z, int n, int l, int m, double[] rc, double[] rs) {
+        forRows(0, n, 2L * (m - l), (lo, hi) -> {
+            for (int k = lo; k < hi; ++k) {
+                int rk = k * n;
+                for (int i = m - 1; i >= l; --i) {
+                    double c = rc[i];
+                    double s = rs[i];
+                    double h = z[rk + i + 1];
+                    z[rk + i + 1] = s * z[rk + i] + c * h;
+                    z[rk + i] = c * z[rk + i] - s * h;
+                }
+            }
+        });
+    }
+
+    /** Body of a row-range loop. */
+    @FunctionalInterface
+    private interface RowRange {
+        void run(int from, int to);
+    }
+
+    /**
+     * Run {@code body} over rows {@code [from, to)}, splitting the range on
+     * the pool when the total work exceeds the sequential cutoff.
+     *
+     * @param rowWork number of element updates per row
+     */
+    private void forRows(int from, int to, long rowWork, RowRange body) {
+        long grain = Math.max(1, sequentialCutoff / Math.max(1, rowWork));
+        if (to - from <= grain) {
+            body.run(from, to);
+        } else {
+            pool.invoke(new RowTask(body, from, to, grain));
+        }
+    }
+
+    /** Recursive task splitting a row range in halves. */
+    private static final class RowTask extends RecursiveAction {
+        private final RowRange body;
+        private final int from;
+        private final int to;
+        private final long grain;
+
+        RowTask(RowRange body, int from, int to, long grain) {
+            this.body = body;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                body.run(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RowTask(body, from, mid, grain), new RowTask(body, mid, to, grain));
+        }
+    }
+}
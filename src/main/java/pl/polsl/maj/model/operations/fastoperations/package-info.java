@@ -0,0 +1,29 @@
+/**
+ * Performance-oriented implementations of matrix operation algorithms.
+ * <p>
+ * Classes in this package implement the same strategy interfaces as the
+ * reference implementations in
+ * {@link pl.polsl.maj.model.operations.simpleoperations}, but work on flat
+ * row-major arrays and use asymptotically or practically faster algorithms.
+ * They can be plugged into the
+ * {@link pl.polsl.maj.model.operations.MatrixOperations} facade in place of
+ * the simple strategies.
+ * </p>
+ *
+ * <p>Important classes:</p>
+ * <ul>
+ *   <li>{@link pl.polsl.maj.model.operations.fastoperations.LUDeterminant}</li>
+ *   <li>{@link pl.polsl.maj.model.operations.fastoperations.LUInverse}</li>
+ *   <li>{@link pl.polsl.maj.model.operations.fastoperations.LUSolve}</li>
+ *   <li>{@link pl.polsl.maj.model.operations.fastoperations.BlockedMultiply}</li>
+ *   <li>{@link pl.polsl.maj.model.operations.fastoperations.ParallelMultiply}</li>
+ *   <li>{@link pl.polsl.maj.model.operations.fastoperations.StrassenMultiply}</li>
+ *   <li>{@link pl.polsl.maj.model.operations.fastoperations.SymmetricEigen}</li>
+ *   <li>{@link pl.polsl.maj.model.operations.fastoperations.GolubKahanSvd}</li>
+ *   <li>{@link pl.polsl.maj.model.operations.fastoperations.RandomizedSvd}</li>
+ * </ul>
+ *
+ * @author piotr.maj
+ * @version 1.0.3
+ */
+package pl.polsl.maj.model.operations.fastoperations;
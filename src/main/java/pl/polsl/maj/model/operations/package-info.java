@@ -16,9 +16,30 @@
  *   <li>{@link pl.polsl.maj.model.operations.ITransposeAlgorithm}</li>
  *   <li>{@link pl.polsl.maj.model.operations.IMultiplyByScalarAlgorithm}</li>
  *   <li>{@link pl.polsl.maj.model.operations.ITraceAlgorithm}</li>
+ *   <li>{@link pl.polsl.maj.model.operations.ISolveAlgorithm}</li>
+ *   <li>{@link pl.polsl.maj.model.operations.IEigenAlgorithm}</li>
+ *   <li>{@link pl.polsl.maj.model.operations.ISvdAlgorithm}</li>
+ *   <li>{@link pl.polsl.maj.model.operations.IParallelAlgorithm}</li>
  * </ul>
  *
+ * <p>{@link pl.polsl.maj.model.operations.LUDecomposition} holds a reusable
+ * factorization shared by determinant, inverse and linear-system solving;
+ * {@link pl.polsl.maj.model.operations.CholeskyDecomposition} is its
+ * cheaper counterpart for symmetric positive-definite matrices and
+ * {@link pl.polsl.maj.model.operations.QRDecomposition} handles tall
+ * least-squares problems. {@link pl.polsl.maj.model.operations.FixedSizeKernels}
+ * holds closed-form kernels for 2x2, 3x3 and 4x4 matrices.</p>
+ *
+ * <p>{@link pl.polsl.maj.model.operations.MatrixExpr} builds lazy expressions
+ * whose element-wise operations and transposes are fused into one tiled
+ * pass on evaluation; {@link pl.polsl.maj.model.operations.MatrixChain}
+ * plans the cheapest parenthesisation of a chain of products.</p>
+ *
+ * <p>{@link pl.polsl.maj.model.operations.OperationCache} wraps the facade
+ * and returns repeated determinants, inverses and products from a
+ * content-addressed LRU cache with a byte budget.</p>
+ *
  * @author piotr.maj
- * @version 1.0.0
+ * @version 1.0.9
  */
 package pl.polsl.maj.model.operations;
\ No newline at end of file
@@ -15,7 +15,7 @@ import pl.polsl.maj.model.operations.IAddAlgorithm;
  * </p>
  *
  * @author piotr.maj
- * @version 1.0.1
+ * @version 1.0.2
  */
 @NoArgsConstructor
 public class SimpleAdd implements IAddAlgorithm {
@@ -44,10 +44,15 @@ public class SimpleAdd implements IAddAlgorithm {
         // use a lambda-based binary operation for addition
         pl.polsl.maj.model.operations.DoubleBinaryOp addOp = (x, y) -> x + y;
 
+        double[] rowA = new double[a.getCols()];
+        double[] rowB = new double[a.getCols()];
         for (int i = 0; i < a.getRows(); ++i) {
+            a.getRow(i, rowA);
+            b.getRow(i, rowB);
             for (int j = 0; j < a.getCols(); ++j) {
-                newMatrix.set(i, j, addOp.apply(a.get(i, j), b.get(i, j)));
+                rowA[j] = addOp.apply(rowA[j], rowB[j]);
             }
+            newMatrix.setRow(i, rowA);
         }
 
         return newMatrix;
@@ -10,7 +10,9 @@ import pl.polsl.maj.model.operations.IDeterminantAlgorithm;
  * <p>
  * This implementation is straightforward and easy to understand but has
  * exponential complexity and is therefore suitable only for small matrices.
- * It validates that the matrix is square and non-empty.
+ * It validates that the matrix is square and non-empty. Larger inputs should
+ * use {@link pl.polsl.maj.model.operations.fastoperations.LUDeterminant},
+ * which falls back to this class for matrices up to 3x3.
  * </p>
  *
  * @author piotr.maj
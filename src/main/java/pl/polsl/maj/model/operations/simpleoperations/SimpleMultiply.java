@@ -17,7 +17,7 @@ import pl.polsl.maj.model.operations.IMultiplyAlgorithm;
  * <strong>Complexity:</strong> O(n * m * k) for an (n x m) × (m x k) multiplication.
  *
  * @author piotr.maj
- * @version 1.0.1
+ * @version 1.0.2
  */
 @NoArgsConstructor
 public class SimpleMultiply implements IMultiplyAlgorithm {
@@ -38,14 +38,26 @@ public class SimpleMultiply implements IMultiplyAlgorithm {
 
         IMatrix newMatrix = a.createSameType(a.getRows(), b.getCols());
 
+        double[] row = new double[a.getCols()];
+        double[] column = new double[b.getRows()];
+        double[][] columnsB = new double[b.getCols()][];
+        for (int j = 0; j < b.getCols(); ++j) {
+            b.getColumn(j, column);
+            columnsB[j] = column.clone();
+        }
+
+        double[] result = new double[b.getCols()];
         for (int i = 0; i < a.getRows(); ++i) {
+            a.getRow(i, row);
             for (int j = 0; j < b.getCols(); ++j) {
+                double[] col = columnsB[j];
                 double sum = 0;
                 for (int k = 0; k < a.getCols(); ++k) {
-                    sum += a.get(i, k) * b.get(k, j);
+                    sum += row[k] * col[k];
                 }
-                newMatrix.set(i, j, sum);
+                result[j] = sum;
             }
+            newMatrix.setRow(i, result);
         }
 
         return newMatrix;
@@ -13,7 +13,7 @@ import pl.polsl.maj.model.operations.IMultiplyByScalarAlgorithm;
  * </p>
  *
  * @author piotr.maj
- * @version 1.0.1
+ * @version 1.0.2
  */
 @NoArgsConstructor
 public class SimpleMultiplyByScalar implements IMultiplyByScalarAlgorithm {
@@ -30,10 +30,13 @@ public class SimpleMultiplyByScalar implements IMultiplyByScalarAlgorithm {
     public IMatrix execute(IMatrix a, double scalar) throws MatrixException {
         IMatrix newMatrix = a.createSameType(a.getRows(), a.getCols());
 
+        double[] row = new double[a.getCols()];
         for(int i = 0; i < a.getRows(); ++i) {
+            a.getRow(i, row);
             for(int j = 0; j < a.getCols(); ++j) {
-                newMatrix.set(i, j, a.get(i, j) * scalar);
+                row[j] *= scalar;
             }
+            newMatrix.setRow(i, row);
         }
 
         return newMatrix;
@@ -13,7 +13,7 @@ import pl.polsl.maj.model.operations.ISubstractAlgorithm;
  * </p>
  *
  * @author piotr.maj
- * @version 1.0.1
+ * @version 1.0.2
  */
 @NoArgsConstructor
 public class SimpleSubstract implements ISubstractAlgorithm {
@@ -34,10 +34,15 @@ public class SimpleSubstract implements ISubstractAlgorithm {
 
         IMatrix newMatrix = a.createSameType(a.getRows(), a.getCols());
 
+        double[] rowA = new double[a.getCols()];
+        double[] rowB = new double[a.getCols()];
         for (int i = 0; i < a.getRows(); ++i) {
+            a.getRow(i, rowA);
+            b.getRow(i, rowB);
             for(int j = 0; j < a.getCols(); ++j) {
-                newMatrix.set(i, j, a.get(i, j) - b.get(i, j));
+                rowA[j] -= rowB[j];
             }
+            newMatrix.setRow(i, rowA);
         }
 
         return newMatrix;
@@ -12,7 +12,7 @@ import pl.polsl.maj.model.operations.ITransposeAlgorithm;
  * </p>
  *
  * @author piotr.maj
- * @version 1.0.1
+ * @version 1.0.2
  */
 @NoArgsConstructor
 public class SimpleTranspose implements ITransposeAlgorithm {
@@ -28,10 +28,10 @@ public class SimpleTranspose implements ITransposeAlgorithm {
     public IMatrix execute(IMatrix a) throws MatrixException {
         IMatrix newMatrix = a.createSameType(a.getCols(), a.getRows());
 
-        for(int i = 0; i < a.getRows(); ++i) {
-            for(int j = 0; j < a.getCols(); ++j) {
-                newMatrix.set(j, i, a.get(i, j));
-            }
+        double[] column = new double[a.getRows()];
+        for(int j = 0; j < a.getCols(); ++j) {
+            a.getColumn(j, column);
+            newMatrix.setRow(j, column);
         }
 
         return newMatrix;
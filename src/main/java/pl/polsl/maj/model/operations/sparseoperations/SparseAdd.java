@@ -0,0 +1,120 @@
+package pl.polsl.maj.model.operations.sparseoperations;
+
+import java.util.Arrays;
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.CsrMatrix;
+import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.operations.IAddAlgorithm;
+import pl.polsl.maj.model.operations.simpleoperations.SimpleAdd;
+
+/**
+ * Sparse implementation of matrix addition.
+ * <p>
+ * When both operands are {@link CsrMatrix} instances the sorted rows are
+ * merged like two sorted lists and the result is again a {@link CsrMatrix}.
+ * Entries which cancel out are not stored. Other operands are passed to the
+ * fallback strategy.
+ * </p>
+ *
+ * <strong>Complexity:</strong> O(rows + nnz(a) + nnz(b)) for sparse operands.
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public class SparseAdd implements IAddAlgorithm {
+    /** Strategy used when an operand is not sparse. */
+    private final IAddAlgorithm fallback;
+
+    /**
+     * Create the algorithm with {@link SimpleAdd} as fallback.
+     */
+    public SparseAdd() {
+        this(new SimpleAdd());
+    }
+
+    /**
+     * Create the algorithm with a custom fallback.
+     *
+     * @param fallback strategy used when an operand is not a {@link CsrMatrix}
+     */
+    public SparseAdd(IAddAlgorithm fallback) {
+        this.fallback = fallback;
+    }
+
+    /**
+     * Execute matrix addition.
+     *
+     * @param a left operand matrix (must not be null)
+     * @param b right operand matrix (must not be null)
+     * @return new matrix containing element-wise sums
+     * @throws MatrixException when either matrix is null or dimensions differ
+     */
+    @Override
+    public IMatrix execute(IMatrix a, IMatrix b) throws MatrixException {
+        if (a == null || b == null) {
+            throw new MatrixException("Matrices cannot be empty");
+        }
+        if (!a.isEqualSize(b)) {
+            throw new MatrixException("Matrices must be equal in size");
+        }
+        if (a instanceof CsrMatrix sa && b instanceof CsrMatrix sb) {
+            return merge(sa, sb, 1.0);
+        }
+        return fallback.execute(a, b);
+    }
+
+    /**
+     * Compute {@code a + factor * b} for two sparse matrices of equal size.
+     *
+     * @param a left operand
+     * @param b right operand
+     * @param factor multiplier applied to {@code b}
+     * @return new sparse matrix
+     * @throws MatrixException when the result cannot be created
+     */
+    static CsrMatrix merge(CsrMatrix a, CsrMatrix b, double factor) throws MatrixException {
+        int rows = a.getRows();
+        int[] ap = a.rowPointers();
+        int[] ac = a.columnIndices();
+        double[] av = a.values();
+        int[] bp = b.rowPointers();
+        int[] bc = b.columnIndices();
+        double[] bv = b.values();
+
+        int capacity = a.nnz() + b.nnz();
+        int[] ptr = new int[rows + 1];
+        int[] cols = new int[capacity];
+        double[] vals = new double[capacity];
+        int out = 0;
+
+        for (int r = 0; r < rows; ++r) {
+            int i = ap[r];
+            int iEnd = ap[r + 1];
+            int j = bp[r];
+            int jEnd = bp[r + 1];
+            while (i < iEnd || j < jEnd) {
+                int c;
+                double v;
+                if (j >= jEnd || (i < iEnd && ac[i] < bc[j])) {
+                    c = ac[i];
+                    v = av[i++];
+                } else if (i >= iEnd || bc[j] < ac[i]) {
+                    c = bc[j];
+                    v = factor * bv[j++];
+                } else {
+                    c = ac[i];
+                    v = av[i++] + factor * bv[j++];
+                }
+                if (v != 0.0) {
+                    cols[out] = c;
+                    vals[out] = v;
+                    ++out;
+                }
+            }
+            ptr[r + 1] = out;
+        }
+
+        return CsrMatrix.fromArrays(rows, a.getCols(), ptr,
+                Arrays.copyOf(cols, out), Arrays.copyOf(vals, out));
+    }
+}
@@ -0,0 +1,151 @@
+package pl.polsl.maj.model.operations.sparseoperations;
+
+import java.util.Arrays;
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.CsrMatrix;
+import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.MatrixArrays;
+import pl.polsl.maj.model.operations.IMultiplyAlgorithm;
+import pl.polsl.maj.model.operations.fastoperations.BlockedMultiply;
+
+/**
+ * Sparse × dense matrix multiplication (a × b).
+ * <p>
+ * When the left operand is a {@link CsrMatrix}, every result row is built
+ * as a linear combination of the rows of {@code b} selected by the stored
+ * values of the corresponding row of {@code a}: {@code c[i,:] += a[i,p] *
+ * b[p,:]}. Zero entries of {@code a} cost nothing and {@code b} and the
+ * result are walked along contiguous rows. The result is dense and has the
+ * concrete type of {@code b}. Other operands are passed to the fallback
+ * strategy.
+ * </p>
+ *
+ * <strong>Complexity:</strong> O(nnz(a) * k) for an (n x m) × (m x k) multiplication.
+ *
+ * @author piotr.maj
+ * @version 1.0.2
+ */
+public class SparseDenseMultiply implements IMultiplyAlgorithm {
+    /** Strategy used when the left operand is not sparse. */
+    private final IMultiplyAlgorithm fallback;
+
+    /**
+     * Create the algorithm with {@link BlockedMultiply} as fallback.
+     */
+    public SparseDenseMultiply() {
+        this(new BlockedMultiply());
+    }
+
+    /**
+     * Create the algorithm with a custom fallback.
+     *
+     * @param fallback strategy used when the left operand is not a {@link CsrMatrix}
+     */
+    public SparseDenseMultiply(IMultiplyAlgorithm fallback) {
+        this.fallback = fallback;
+    }
+
+    /**
+     * Execute matrix multiplication.
+     *
+     * @param a left matrix with dimensions (n x m)
+     * @param b right matrix with dimensions (m x k)
+     * @return new matrix of dimensions (n x k) containing the product
+     * @throws MatrixException when matrices are not compatible for multiplication
+     */
+    @Override
+    public IMatrix execute(IMatrix a, IMatrix b) throws MatrixException {
+        if (a == null || b == null) {
+            throw new MatrixException("Matrices cannot be empty");
+        }
+        if (a.getCols() != b.getRows()) {
+            throw new MatrixException("Cannot multiply not compatible matrices");
+        }
+        if (!(a instanceof CsrMatrix s)) {
+            return fallback.execute(a, b);
+        }
+
+        int n = s.getRows();
+        int k = b.getCols();
+        double[] out = new double[n * k];
+        multiplyRange(s, operand(b), out, k, 0, n);
+
+        return MatrixArrays.fromRowMajor(b, n, k, out);
+    }
+
+    /**
+     * Execute matrix multiplication into an existing matrix. A destination
+     * stored as a flat row-major array is written without allocating.
+     *
+     * @param a left matrix with dimensions (n x m)
+     * @param b right matrix with dimensions (m x k)
+     * @param dst matrix with dimensions (n x k) receiving the product
+     * @throws MatrixException when dimensions do not match or {@code dst} shares storage with an operand
+     */
+    @Override
+    public void executeInto(IMatrix a, IMatrix b, IMatrix dst) throws MatrixException {
+        if (!(a instanceof CsrMatrix s)) {
+            fallback.executeInto(a, b, dst);
+            return;
+        }
+        if (b == null || dst == null) {
+            throw new MatrixException("Matrices cannot be empty");
+        }
+        if (s.getCols() != b.getRows()) {
+            throw new MatrixException("Cannot multiply not compatible matrices");
+        }
+        if (dst.getRows() != s.getRows() || dst.getCols() != b.getCols()) {
+            throw new MatrixException("Destination matrix has wrong dimensions");
+        }
+        if (MatrixArrays.sharesStorage(dst, a) || MatrixArrays.sharesStorage(dst, b)) {
+            throw new MatrixException("Destination matrix must not be an operand");
+        }
+
+        int n = s.getRows();
+        int k = b.getCols();
+        double[] out = MatrixArrays.rowMajorStorage(dst);
+        if (out != null) {
+            Arrays.fill(out, 0.0);
+            multiplyRange(s, operand(b), out, k, 0, n);
+            return;
+        }
+
+        out = new double[n * k];
+        multiplyRange(s, operand(b), out, k, 0, n);
+        MatrixArrays.copyInto(out, dst);
+    }
+
+    /**
+     * Accumulate rows {@code [rowFrom, rowTo)} of {@code a × b} into
+     * {@code c}. Both {@code b} (m x k) and {@code c} (n x k) are row-major.
+     *
+     * @param a sparse left operand
+     * @param b right operand values
+     * @param c result values, updated in place ({@code c += a × b})
+     * @param k number of columns of {@code b} and {@code c}
+     * @param rowFrom first result row (inclusive)
+     * @param rowTo last result row (exclusive)
+     */
+    public static void multiplyRange(CsrMatrix a, double[] b, double[] c, int k, int rowFrom, int rowTo) {
+        int[] ptr = a.rowPointers();
+        int[] cols = a.columnIndices();
+        double[] vals = a.values();
+
+        for (int i = rowFrom; i < rowTo; ++i) {
+            int ci = i * k;
+            for (int p = ptr[i]; p < ptr[i + 1]; ++p) {
+                double aip = vals[p];
+                int bp = cols[p] * k;
+                for (int j = 0; j < k; ++j) {
+                    c[ci + j] += aip * b[bp + j];
+                }
+            }
+        }
+    }
+
+    /** Row-major values of the dense operand, shared when possible. */
+    private static double[] operand(IMatrix m) throws MatrixException {
+        double[] shared = MatrixArrays.rowMajorStorage(m);
+        return shared != null ? shared : MatrixArrays.copyOf(m);
+    }
+}
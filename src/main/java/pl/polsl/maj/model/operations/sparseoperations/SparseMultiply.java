@@ -0,0 +1,387 @@
+package pl.polsl.maj.model.operations.sparseoperations;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.CsrMatrix;
+import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.MatrixArrays;
+import pl.polsl.maj.model.operations.IMultiplyAlgorithm;
+import pl.polsl.maj.model.operations.IParallelAlgorithm;
+
+/**
+ * Parallel sparse × sparse matrix multiplication (SpGEMM) using Gustavson's
+ * row-wise algorithm.
+ * <p>
+ * Row {@code i} of the result is the sum of the rows of {@code b} selected by
+ * the stored entries of row {@code i} of {@code a}. The work runs in two
+ * passes over the same row ranges:
+ * </p>
+ * <ol>
+ *   <li>a symbolic pass counts the distinct columns of every result row, and
+ *       a prefix sum of the counts sizes the output arrays exactly;</li>
+ *   <li>a numeric pass accumulates every row in a dense accumulator of length
+ *       {@code k} and writes its entries, sorted by column, into the slot
+ *       reserved by the symbolic pass.</li>
+ * </ol>
+ * <p>
+ * Both passes fork over row ranges split so that every half carries about
+ * the same number of multiply-adds. Each worker thread keeps its own
+ * accumulator and marker array, so no per-row allocation and no
+ * synchronization is needed, and nothing of size {@code n * k} is ever
+ * allocated. Entries which cancel to zero stay stored as explicit zeros.
+ * When either operand is not a {@link CsrMatrix} the fallback strategy is
+ * used.
+ * </p>
+ *
+ * <strong>Complexity:</strong> O(flops + n + nnz(c) log(nnz per row)) work, where
+ * {@code flops} is the number of multiply-adds of the product.
+ *
+ * @author piotr.maj
+ * @version 1.0.2
+ */
+public class SparseMultiply implements IMultiplyAlgorithm, IParallelAlgorithm {
+    /** Default number of multiply-adds below which work is not split. */
+    public static final long DEFAULT_SEQUENTIAL_CUTOFF = 1L << 16;
+
+    /** Pool used to run the row-range tasks. */
+    private volatile ForkJoinPool pool;
+    /** Number of multiply-adds below which work stays on one thread. */
+    private final long sequentialCutoff;
+    /** Strategy used when an operand is not sparse. */
+    private final IMultiplyAlgorithm fallback;
+    /** Per-thread dense accumulator and marker array. */
+    private final ThreadLocal<Workspace> workspaces = ThreadLocal.withInitial(Workspace::new);
+
+    /**
+     * Create the algorithm using the common pool, the default cutoff and
+     * {@link SparseDenseMultiply} as fallback.
+     */
+    public SparseMultiply() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_CUTOFF, new SparseDenseMultiply());
+    }
+
+    /**
+     * Create the algorithm with explicit configuration.
+     *
+     * @param pool pool used to run the tasks
+     * @param sequentialCutoff number of multiply-adds below which no task is forked
+     * @param fallback strategy used when an operand is not a {@link CsrMatrix}
+     * @throws IllegalArgumentException when an argument is invalid
+     */
+    public SparseMultiply(ForkJoinPool pool, long sequentialCutoff, IMultiplyAlgorithm fallback) {
+        if (pool == null || fallback == null) {
+            throw new IllegalArgumentException("Pool and fallback cannot be null");
+        }
+        if (sequentialCutoff <= 0) {
+            throw new IllegalArgumentException("Cutoff must be positive");
+        }
+        this.pool = pool;
+        this.sequentialCutoff = sequentialCutoff;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void setPool(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        this.pool = pool;
+        if (fallback instanceof IParallelAlgorithm parallel) {
+            parallel.setPool(pool);
+        }
+    }
+
+    /**
+     * Execute matrix multiplication.
+     *
+     * @param a left matrix with dimensions (n x m)
+     * @param b right matrix with dimensions (m x k)
+     * @return new matrix of dimensions (n x k) containing the product; sparse
+     *         when both operands are sparse
+     * @throws MatrixException when matrices are not compatible for multiplication
+     */
+    @Override
+    public IMatrix execute(IMatrix a, IMatrix b) throws MatrixException {
+        if (a == null || b == null) {
+            throw new MatrixException("Matrices cannot be empty");
+        }
+        if (a.getCols() != b.getRows()) {
+            throw new MatrixException("Cannot multiply not compatible matrices");
+        }
+        if (a instanceof CsrMatrix sa && b instanceof CsrMatrix sb) {
+            return multiply(sa, sb);
+        }
+        return fallback.execute(a, b);
+    }
+
+    /**
+     * Execute matrix multiplication into an existing matrix. Two sparse
+     * operands are multiplied with the sparse kernel and the stored entries
+     * of the product are scattered into {@code dst}, so no dense row of
+     * {@code b} is ever formed. Operands which are not both sparse are
+     * handed to the fallback strategy.
+     *
+     * @param a left matrix with dimensions (n x m)
+     * @param b right matrix with dimensions (m x k)
+     * @param dst matrix with dimensions (n x k) receiving the product
+     * @throws MatrixException when dimensions do not match or {@code dst} shares storage with an operand
+     */
+    @Override
+    public void executeInto(IMatrix a, IMatrix b, IMatrix dst) throws MatrixException {
+        if (!(a instanceof CsrMatrix sa && b instanceof CsrMatrix sb)) {
+            fallback.executeInto(a, b, dst);
+            return;
+        }
+        if (dst == null) {
+            throw new MatrixException("Matrices cannot be empty");
+        }
+        if (sa.getCols() != sb.getRows()) {
+            throw new MatrixException("Cannot multiply not compatible matrices");
+        }
+        if (dst.getRows() != sa.getRows() || dst.getCols() != sb.getCols()) {
+            throw new MatrixException("Destination matrix has wrong dimensions");
+        }
+        if (MatrixArrays.sharesStorage(dst, a) || MatrixArrays.sharesStorage(dst, b)) {
+            throw new MatrixException("Destination matrix must not be an operand");
+        }
+
+        CsrMatrix c = multiply(sa, sb);
+        if (dst instanceof CsrMatrix sparse) {
+            sparse.assign(c);
+            return;
+        }
+        scatter(c, dst);
+    }
+
+    /**
+     * Write the stored entries of a sparse product into a matrix of the same
+     * size, directly into its storage when it is a flat row-major array and
+     * row by row otherwise.
+     */
+    private static void scatter(CsrMatrix c, IMatrix dst) throws MatrixException {
+        int n = c.getRows();
+        int k = c.getCols();
+        int[] cp = c.rowPointers();
+        int[] cc = c.columnIndices();
+        double[] cv = c.values();
+
+        double[] out = MatrixArrays.rowMajorStorage(dst);
+        if (out != null) {
+            Arrays.fill(out, 0.0);
+            for (int i = 0; i < n; ++i) {
+                int ri = i * k;
+                for (int p = cp[i]; p < cp[i + 1]; ++p) {
+                    out[ri + cc[p]] = cv[p];
+                }
+            }
+            return;
+        }
+
+        double[] row = new double[k];
+        for (int i = 0; i < n; ++i) {
+            for (int p = cp[i]; p < cp[i + 1]; ++p) {
+                row[cc[p]] = cv[p];
+            }
+            dst.setRow(i, row);
+            for (int p = cp[i]; p < cp[i + 1]; ++p) {
+                row[cc[p]] = 0.0;
+            }
+        }
+    }
+
+    /**
+     * Multiply two sparse matrices.
+     *
+     * @param a left operand (n x m)
+     * @param b right operand (m x k)
+     * @return sparse product (n x k)
+     * @throws MatrixException when the result cannot be created
+     */
+    private CsrMatrix multiply(CsrMatrix a, CsrMatrix b) throws MatrixException {
+        int n = a.getRows();
+        int k = b.getCols();
+        int[] ap = a.rowPointers();
+        int[] ac = a.columnIndices();
+        int[] bp = b.rowPointers();
+
+        // multiply-adds per row, as a prefix sum used to balance the split
+        long[] work = new long[n + 1];
+        for (int i = 0; i < n; ++i) {
+            long flops = 0;
+            for (int p = ap[i]; p < ap[i + 1]; ++p) {
+                int row = ac[p];
+                flops += bp[row + 1] - bp[row];
+            }
+            work[i + 1] = work[i] + flops;
+        }
+
+        int[] rowPointers = new int[n + 1];
+        run(new RowTask(a, b, work, rowPointers, null, null, 0, n));
+
+        for (int i = 0; i < n; ++i) {
+            rowPointers[i + 1] += rowPointers[i];
+        }
+        int nnz = rowPointers[n];
+        int[] columns = new int[nnz];
+        double[] values = new double[nnz];
+        run(new RowTask(a, b, work, rowPointers, columns, values, 0, n));
+
+        return CsrMatrix.fromArrays(n, k, rowPointers, columns, values);
+    }
+
+    /** Run a root task, forking only above the sequential cutoff. */
+    private void run(RowTask root) {
+        if (root.flops() <= sequentialCutoff) {
+            root.compute();
+        } else {
+            pool.invoke(root);
+        }
+    }
+
+    /** Dense accumulator, marker array and row stamp reused by one thread. */
+    private static final class Workspace {
+        private double[] accumulator = new double[0];
+        private int[] marker = new int[0];
+        private int stamp;
+
+        /** Make room for {@code k} columns. */
+        void ensure(int k) {
+            if (marker.length < k) {
+                accumulator = new double[k];
+                marker = new int[k];
+                stamp = 0;
+            }
+        }
+
+        /** Start a new row; columns with {@code marker[j] == stamp} are occupied. */
+        int nextStamp() {
+            if (++stamp == Integer.MAX_VALUE) {
+                Arrays.fill(marker, 0);
+                stamp = 1;
+            }
+            return stamp;
+        }
+    }
+
+    /**
+     * Recursive task processing a range of result rows. With {@code columns}
+     * set to {@code null} it runs the symbolic pass and stores the row sizes
+     * at {@code rowPointers[i + 1]}; otherwise it runs the numeric pass into
+     * the slots given by the (already summed) {@code rowPointers}.
+     */
+    private final class RowTask extends RecursiveAction {
+        private final CsrMatrix a;
+        private final CsrMatrix b;
+        private final long[] work;
+        private final int[] rowPointers;
+        private final int[] columns;
+        private final double[] values;
+        private final int rowFrom;
+        private final int rowTo;
+
+        RowTask(CsrMatrix a, CsrMatrix b, long[] work, int[] rowPointers, int[] columns,
+                double[] values, int rowFrom, int rowTo) {
+            this.a = a;
+            this.b = b;
+            this.work = work;
+            this.rowPointers = rowPointers;
+            this.columns = columns;
+            this.values = values;
+            this.rowFrom = rowFrom;
+            this.rowTo = rowTo;
+        }
+
+        /** Multiply-adds in this row range. */
+        long flops() {
+            return work[rowTo] - work[rowFrom];
+        }
+
+        @Override
+        protected void compute() {
+            if (flops() <= sequentialCutoff || rowTo - rowFrom <= 1) {
+                if (columns == null) {
+                    symbolic();
+                } else {
+                    numeric();
+                }
+                return;
+            }
+
+            // split where the cumulative work reaches the middle of the range
+            long half = work[rowFrom] + flops() / 2;
+            int mid = Arrays.binarySearch(work, rowFrom + 1, rowTo, half);
+            mid = mid >= 0 ? mid : -mid - 1;
+            mid = Math.max(rowFrom + 1, Math.min(mid, rowTo - 1));
+            invokeAll(new RowTask(a, b, work, rowPointers, columns, values, rowFrom, mid),
+                      new RowTask(a, b, work, rowPointers, columns, values, mid, rowTo));
+        }
+
+        /** Count distinct result columns of every row in the range. */
+        private void symbolic() {
+            int[] ap = a.rowPointers();
+            int[] ac = a.columnIndices();
+            int[] bp = b.rowPointers();
+            int[] bc = b.columnIndices();
+            Workspace ws = workspaces.get();
+            ws.ensure(b.getCols());
+            int[] marker = ws.marker;
+
+            for (int i = rowFrom; i < rowTo; ++i) {
+                int stamp = ws.nextStamp();
+                int count = 0;
+                for (int p = ap[i]; p < ap[i + 1]; ++p) {
+                    int row = ac[p];
+                    for (int q = bp[row]; q < bp[row + 1]; ++q) {
+                        int j = bc[q];
+                        if (marker[j] != stamp) {
+                            marker[j] = stamp;
+                            ++count;
+                        }
+                    }
+                }
+                rowPointers[i + 1] = count;
+            }
+        }
+
+        /** Accumulate every row of the range and write it sorted by column. */
+        private void numeric() {
+            int[] ap = a.rowPointers();
+            int[] ac = a.columnIndices();
+            double[] av = a.values();
+            int[] bp = b.rowPointers();
+            int[] bc = b.columnIndices();
+            double[] bv = b.values();
+            Workspace ws = workspaces.get();
+            ws.ensure(b.getCols());
+            int[] marker = ws.marker;
+            double[] acc = ws.accumulator;
+
+            for (int i = rowFrom; i < rowTo; ++i) {
+                int stamp = ws.nextStamp();
+                int start = rowPointers[i];
+                int end = start;
+                for (int p = ap[i]; p < ap[i + 1]; ++p) {
+                    double aip = av[p];
+                    int row = ac[p];
+                    for (int q = bp[row]; q < bp[row + 1]; ++q) {
+                        int j = bc[q];
+                        if (marker[j] != stamp) {
+                            marker[j] = stamp;
+                            acc[j] = aip * bv[q];
+                            columns[end++] = j;
+                        } else {
+                            acc[j] += aip * bv[q];
+                        }
+                    }
+                }
+
+                Arrays.sort(columns, start, end);
+                for (int pos = start; pos < end; ++pos) {
+                    values[pos] = acc[columns[pos]];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package pl.polsl.maj.model.operations.sparseoperations;
+
+import java.util.Arrays;
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.CsrMatrix;
+import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.operations.IMultiplyByScalarAlgorithm;
+import pl.polsl.maj.model.operations.simpleoperations.SimpleMultiplyByScalar;
+
+/**
+ * Sparse implementation of scalar multiplication.
+ * <p>
+ * For a {@link CsrMatrix} only the stored values are scaled; the sparsity
+ * pattern is shared with the result unchanged, except for a zero scalar,
+ * which yields an empty matrix. Other matrices are passed to the fallback
+ * strategy.
+ * </p>
+ *
+ * <strong>Complexity:</strong> O(rows + nnz) for sparse input.
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public class SparseMultiplyByScalar implements IMultiplyByScalarAlgorithm {
+    /** Strategy used when the matrix is not sparse. */
+    private final IMultiplyByScalarAlgorithm fallback;
+
+    /**
+     * Create the algorithm with {@link SimpleMultiplyByScalar} as fallback.
+     */
+    public SparseMultiplyByScalar() {
+        this(new SimpleMultiplyByScalar());
+    }
+
+    /**
+     * Create the algorithm with a custom fallback.
+     *
+     * @param fallback strategy used when the matrix is not a {@link CsrMatrix}
+     */
+    public SparseMultiplyByScalar(IMultiplyByScalarAlgorithm fallback) {
+        this.fallback = fallback;
+    }
+
+    /**
+     * Perform scalar multiplication.
+     *
+     * @param a matrix to scale
+     * @param scalar scaling factor
+     * @return result matrix (cA)
+     * @throws MatrixException when operation fails
+     */
+    @Override
+    public IMatrix execute(IMatrix a, double scalar) throws MatrixException {
+        if (a == null) {
+            throw new MatrixException("Matrices cannot be empty");
+        }
+        if (!(a instanceof CsrMatrix s)) {
+            return fallback.execute(a, scalar);
+        }
+        if (scalar == 0.0) {
+            return new CsrMatrix(s.getRows(), s.getCols());
+        }
+
+        int nnz = s.nnz();
+        double[] values = Arrays.copyOf(s.values(), nnz);
+        for (int p = 0; p < nnz; ++p) {
+            values[p] *= scalar;
+        }
+        return CsrMatrix.fromArrays(s.getRows(), s.getCols(), s.rowPointers().clone(),
+                Arrays.copyOf(s.columnIndices(), nnz), values);
+    }
+
+    /**
+     * Multiply every element of {@code a} by {@code scalar} in place. Stored
+     * values of a {@link CsrMatrix} are scaled directly.
+     *
+     * @param a matrix to scale (modified)
+     * @param scalar scaling factor
+     * @throws MatrixException when operation fails
+     */
+    @Override
+    public void executeInPlace(IMatrix a, double scalar) throws MatrixException {
+        if (!(a instanceof CsrMatrix s)) {
+            fallback.executeInPlace(a, scalar);
+            return;
+        }
+        if (scalar == 0.0) {
+            s.fill(0.0);
+            return;
+        }
+
+        double[] values = s.values();
+        for (int p = 0; p < s.nnz(); ++p) {
+            values[p] *= scalar;
+        }
+    }
+}
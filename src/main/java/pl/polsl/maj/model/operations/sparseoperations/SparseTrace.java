@@ -0,0 +1,79 @@
+package pl.polsl.maj.model.operations.sparseoperations;
+
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.CsrMatrix;
+import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.operations.ITraceAlgorithm;
+import pl.polsl.maj.model.operations.simpleoperations.SimpleTrace;
+
+/**
+ * Sparse implementation of trace computation.
+ * <p>
+ * For a {@link CsrMatrix} the diagonal entry of every row is located with a
+ * binary search over the sorted column indices of that row. Other matrices
+ * are passed to the fallback strategy.
+ * </p>
+ *
+ * <strong>Complexity:</strong> O(rows * log(nnz per row)) for sparse input.
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public class SparseTrace implements ITraceAlgorithm {
+    /** Strategy used when the matrix is not sparse. */
+    private final ITraceAlgorithm fallback;
+
+    /**
+     * Create the algorithm with {@link SimpleTrace} as fallback.
+     */
+    public SparseTrace() {
+        this(new SimpleTrace());
+    }
+
+    /**
+     * Create the algorithm with a custom fallback.
+     *
+     * @param fallback strategy used when the matrix is not a {@link CsrMatrix}
+     */
+    public SparseTrace(ITraceAlgorithm fallback) {
+        this.fallback = fallback;
+    }
+
+    /**
+     * Compute the trace (sum of diagonal) of the provided matrix.
+     *
+     * @param a square matrix
+     * @return trace value
+     * @throws MatrixException when matrix is not square
+     */
+    @Override
+    public double execute(IMatrix a) throws MatrixException {
+        if (!(a instanceof CsrMatrix s)) {
+            return fallback.execute(a);
+        }
+        if (!s.isSquare()) {
+            throw new MatrixException("Matrix must be squared");
+        }
+
+        int[] ptr = s.rowPointers();
+        int[] cols = s.columnIndices();
+        double[] vals = s.values();
+        double sum = 0.0;
+        for (int r = 0; r < s.getRows(); ++r) {
+            int lo = ptr[r];
+            int hi = ptr[r + 1] - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if (cols[mid] < r) {
+                    lo = mid + 1;
+                } else if (cols[mid] > r) {
+                    hi = mid - 1;
+                } else {
+                    sum += vals[mid];
+                    break;
+                }
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,26 @@
+/**
+ * Sparse-aware implementations of matrix operation algorithms.
+ * <p>
+ * Classes in this package implement the usual strategy interfaces and take a
+ * fast path when their operands are {@link pl.polsl.maj.model.CsrMatrix}
+ * instances: work and memory then scale with the number of stored non-zeros
+ * instead of {@code rows * cols}. Any other operand is handed to a fallback
+ * strategy (the simple or fast implementation by default), so the classes can
+ * be plugged into the {@link pl.polsl.maj.model.operations.MatrixOperations}
+ * facade regardless of the matrix types in use.
+ * </p>
+ *
+ * <p>Important classes:</p>
+ * <ul>
+ *   <li>{@link pl.polsl.maj.model.operations.sparseoperations.SparseAdd}</li>
+ *   <li>{@link pl.polsl.maj.model.operations.sparseoperations.SparseMultiplyByScalar}</li>
+ *   <li>{@link pl.polsl.maj.model.operations.sparseoperations.SparseTranspose}</li>
+ *   <li>{@link pl.polsl.maj.model.operations.sparseoperations.SparseTrace}</li>
+ *   <li>{@link pl.polsl.maj.model.operations.sparseoperations.SparseDenseMultiply}</li>
+ *   <li>{@link pl.polsl.maj.model.operations.sparseoperations.SparseMultiply}</li>
+ * </ul>
+ *
+ * @author piotr.maj
+ * @version 1.0.1
+ */
+package pl.polsl.maj.model.operations.sparseoperations;
@@ -0,0 +1,133 @@
+package pl.polsl.maj.model.operations.vectoroperations;
+
+import java.util.function.Supplier;
+import pl.polsl.maj.model.operations.IAddAlgorithm;
+import pl.polsl.maj.model.operations.IMultiplyAlgorithm;
+import pl.polsl.maj.model.operations.IMultiplyByScalarAlgorithm;
+import pl.polsl.maj.model.operations.ISubstractAlgorithm;
+import pl.polsl.maj.model.operations.ITraceAlgorithm;
+import pl.polsl.maj.model.operations.ITransposeAlgorithm;
+import pl.polsl.maj.model.operations.simpleoperations.SimpleAdd;
+import pl.polsl.maj.model.operations.simpleoperations.SimpleMultiply;
+import pl.polsl.maj.model.operations.simpleoperations.SimpleMultiplyByScalar;
+import pl.polsl.maj.model.operations.simpleoperations.SimpleSubstract;
+import pl.polsl.maj.model.operations.simpleoperations.SimpleTrace;
+import pl.polsl.maj.model.operations.simpleoperations.SimpleTranspose;
+
+/**
+ * Factory for the SIMD algorithms with automatic fallback.
+ * <p>
+ * The Vector API implementations are compiled only with the {@code vector}
+ * Maven profile and can run only when the JVM was started with
+ * {@code --add-modules jdk.incubator.vector}. This class checks both
+ * conditions once and otherwise returns the scalar {@code Simple*}
+ * strategies, so callers never have to reference the incubator module.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public final class VectorSupport {
+    /** Name of the incubator module providing the Vector API. */
+    private static final String MODULE = "jdk.incubator.vector";
+    /** Package holding the SIMD implementations. */
+    private static final String PACKAGE = VectorSupport.class.getPackageName();
+    /** Cached result of the availability check. */
+    private static final boolean AVAILABLE = detect();
+
+    /**
+     * Utility class - prevent instantiation.
+     */
+    private VectorSupport() {
+        // prevent instantiation
+    }
+
+    /**
+     * Check whether the SIMD algorithms can be used in this JVM.
+     *
+     * @return {@code true} when the module is loaded and the classes were compiled
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * Create an addition algorithm.
+     *
+     * @return {@code VectorAdd} when available, otherwise {@link SimpleAdd}
+     */
+    public static IAddAlgorithm add() {
+        return create("VectorAdd", IAddAlgorithm.class, SimpleAdd::new);
+    }
+
+    /**
+     * Create a subtraction algorithm.
+     *
+     * @return {@code VectorSubstract} when available, otherwise {@link SimpleSubstract}
+     */
+    public static ISubstractAlgorithm substract() {
+        return create("VectorSubstract", ISubstractAlgorithm.class, SimpleSubstract::new);
+    }
+
+    /**
+     * Create a scalar multiplication algorithm.
+     *
+     * @return {@code VectorMultiplyByScalar} when available, otherwise {@link SimpleMultiplyByScalar}
+     */
+    public static IMultiplyByScalarAlgorithm multiplyByScalar() {
+        return create("VectorMultiplyByScalar", IMultiplyByScalarAlgorithm.class, SimpleMultiplyByScalar::new);
+    }
+
+    /**
+     * Create a matrix multiplication algorithm.
+     *
+     * @return {@code VectorMultiply} when available, otherwise {@link SimpleMultiply}
+     */
+    public static IMultiplyAlgorithm multiply() {
+        return create("VectorMultiply", IMultiplyAlgorithm.class, SimpleMultiply::new);
+    }
+
+    /**
+     * Create a trace algorithm.
+     *
+     * @return {@code VectorTrace} when available, otherwise {@link SimpleTrace}
+     */
+    public static ITraceAlgorithm trace() {
+        return create("VectorTrace", ITraceAlgorithm.class, SimpleTrace::new);
+    }
+
+    /**
+     * Create a transpose algorithm.
+     *
+     * @return {@code VectorTranspose} when available, otherwise {@link SimpleTranspose}
+     */
+    public static ITransposeAlgorithm transpose() {
+        return create("VectorTranspose", ITransposeAlgorithm.class, SimpleTranspose::new);
+    }
+
+    /** Instantiate a SIMD class by name or fall back to the scalar one. */
+    private static <T> T create(String simpleName, Class<T> type, Supplier<T> fallback) {
+        if (!AVAILABLE) {
+            return fallback.get();
+        }
+        try {
+            Class<?> cls = Class.forName(PACKAGE + "." + simpleName);
+            return type.cast(cls.getDeclaredConstructor().newInstance());
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return fallback.get();
+        }
+    }
+
+    /** Check for the incubator module and the compiled SIMD classes. */
+    private static boolean detect() {
+        if (ModuleLayer.boot().findModule(MODULE).isEmpty()) {
+            return false;
+        }
+        try {
+            Class.forName(PACKAGE + ".VectorAdd");
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
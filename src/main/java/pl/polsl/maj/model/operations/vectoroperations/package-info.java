@@ -0,0 +1,22 @@
+/**
+ * SIMD implementations of matrix operation algorithms based on the
+ * incubating Java Vector API ({@code jdk.incubator.vector}).
+ * <p>
+ * The SIMD classes live in the separate {@code src/main/vector} source root
+ * and are compiled only with the {@code vector} Maven profile
+ * ({@code mvn -Pvector package}); the application must then be started with
+ * {@code --add-modules jdk.incubator.vector}. Use
+ * {@link pl.polsl.maj.model.operations.vectoroperations.VectorSupport} to
+ * obtain the algorithms: it falls back to the scalar
+ * {@link pl.polsl.maj.model.operations.simpleoperations} strategies when the
+ * module or the classes are not present.
+ * </p>
+ *
+ * <p>SIMD classes: {@code VectorAdd}, {@code VectorSubstract},
+ * {@code VectorMultiplyByScalar}, {@code VectorMultiply}, {@code VectorTrace}
+ * and {@code VectorTranspose}.</p>
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+package pl.polsl.maj.model.operations.vectoroperations;
@@ -3,11 +3,23 @@
  * <p>
  * It contains the {@link pl.polsl.maj.model.IMatrix} contract and a default
  * implementation {@link pl.polsl.maj.model.BaseMatrix} which stores values in
- * a two-dimensional {@code double[][]} array. The package is the place where
- * domain-level matrix concepts and basic storage are defined.
+ * a two-dimensional {@code double[][]} array, as well as
+ * {@link pl.polsl.maj.model.DenseMatrix} which keeps all values in a single
+ * contiguous row-major {@code double[]} and is preferred for large inputs.
+ * {@link pl.polsl.maj.model.CsrMatrix} stores only the non-zero values of
+ * sparse matrices in compressed sparse row format and
+ * {@link pl.polsl.maj.model.SmallMatrix} is a compact type for matrices of
+ * at most 4x4 elements. {@link pl.polsl.maj.model.MatrixBatch} keeps many
+ * equally shaped matrices in struct-of-arrays layout for batched kernels.
+ * Zero-copy views ({@link pl.polsl.maj.model.TransposedView},
+ * {@link pl.polsl.maj.model.SubMatrixView} and
+ * {@link pl.polsl.maj.model.PermutedRowsView}) remap indices onto an existing
+ * matrix without copying its values.
+ * The package is the place where domain-level matrix concepts and basic
+ * storage are defined.
  * </p>
  *
  * @author piotr.maj
- * @version 1.0.3
+ * @version 1.0.6
  */
 package pl.polsl.maj.model;
@@ -0,0 +1,122 @@
+package pl.polsl.maj.model.solvers;
+
+import java.util.Arrays;
+import pl.polsl.maj.exceptions.MatrixException;
+
+/**
+ * Preconditioned conjugate gradient method for symmetric positive-definite
+ * systems.
+ * <p>
+ * Every iteration costs one operator application, one preconditioner
+ * application and a few vector updates, and only four work vectors are
+ * kept, so memory is O(n) on top of the operator. In exact arithmetic the
+ * method converges in at most n iterations; in practice the iteration count
+ * depends on the condition number of {@code M⁻¹A}. The preconditioner must
+ * be symmetric positive-definite as well (Jacobi is; ILU(0) is for
+ * symmetric M-matrices).
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public class ConjugateGradient implements ILinearSolver {
+    /** Default relative residual at which iteration stops. */
+    public static final double DEFAULT_TOLERANCE = 1e-10;
+    /** Default iteration limit. */
+    public static final int DEFAULT_MAX_ITERATIONS = 1000;
+
+    /** Relative residual {@code ||b - A x|| / ||b||} at which iteration stops. */
+    private final double tolerance;
+    /** Maximum number of iterations. */
+    private final int maxIterations;
+    /** Preconditioner applied to every residual. */
+    private final IPreconditioner preconditioner;
+
+    /**
+     * Create an unpreconditioned solver with default settings.
+     */
+    public ConjugateGradient() {
+        this(DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS, IPreconditioner.NONE);
+    }
+
+    /**
+     * Create a solver with explicit settings.
+     *
+     * @param tolerance relative residual at which iteration stops (must be positive)
+     * @param maxIterations iteration limit (must be positive)
+     * @param preconditioner preconditioner, or {@link IPreconditioner#NONE}
+     * @throws IllegalArgumentException when an argument is invalid
+     */
+    public ConjugateGradient(double tolerance, int maxIterations, IPreconditioner preconditioner) {
+        if (!(tolerance > 0.0) || maxIterations <= 0) {
+            throw new IllegalArgumentException("Tolerance and iteration limit must be positive");
+        }
+        if (preconditioner == null) {
+            throw new IllegalArgumentException("Preconditioner cannot be null");
+        }
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+        this.preconditioner = preconditioner;
+    }
+
+    /**
+     * Solve {@code A x = b} for a symmetric positive-definite operator.
+     *
+     * @param a system operator
+     * @param b right-hand side of length n
+     * @param x0 initial guess of length n, or {@code null} for zeros (not modified)
+     * @return solution together with convergence information
+     * @throws MatrixException when lengths do not match or the operator is
+     *         found not to be positive definite
+     */
+    @Override
+    public SolverResult solve(ILinearOperator a, double[] b, double[] x0) throws MatrixException {
+        double[] x = Vectors.start(a, b, x0);
+        int n = x.length;
+        double[] history = new double[maxIterations + 1];
+
+        double bNorm = Vectors.norm(b);
+        if (bNorm == 0.0) {
+            return new SolverResult(new double[n], true, 0, 0.0, new double[] {0.0});
+        }
+
+        double[] r = new double[n];
+        double[] z = new double[n];
+        double[] ap = new double[n];
+        Vectors.residual(a, b, x, r);
+        double rel = Vectors.norm(r) / bNorm;
+        history[0] = rel;
+
+        preconditioner.apply(r, z);
+        double[] p = z.clone();
+        double rz = Vectors.dot(r, z);
+
+        int it = 0;
+        while (rel > tolerance && it < maxIterations) {
+            a.apply(p, ap);
+            double pap = Vectors.dot(p, ap);
+            if (!(pap > 0.0)) {
+                throw new MatrixException("Matrix is not positive definite");
+            }
+
+            double alpha = rz / pap;
+            Vectors.axpy(alpha, p, x);
+            Vectors.axpy(-alpha, ap, r);
+            rel = Vectors.norm(r) / bNorm;
+            history[++it] = rel;
+            if (rel <= tolerance) {
+                break;
+            }
+
+            preconditioner.apply(r, z);
+            double rzNext = Vectors.dot(r, z);
+            double beta = rzNext / rz;
+            rz = rzNext;
+            for (int i = 0; i < n; ++i) {
+                p[i] = z[i] + beta * p[i];
+            }
+        }
+
+        return new SolverResult(x, rel <= tolerance, it, rel, Arrays.copyOf(history, it + 1));
+    }
+}
@@ -0,0 +1,22 @@
+package pl.polsl.maj.model.solvers;
+
+/**
+ * Outcome of an iterative eigensolver.
+ * <p>
+ * {@code eigenvectors[i]} is the unit eigenvector belonging to
+ * {@code eigenvalues[i]} and {@code residualNorms[i]} is the estimate of
+ * {@code ||A x - λ x||} for that pair.
+ * </p>
+ *
+ * @param eigenvalues computed eigenvalues, ordered by the requested target
+ * @param eigenvectors matching eigenvectors of length n
+ * @param residualNorms residual estimate of every pair
+ * @param converged whether every pair reached the requested tolerance
+ * @param iterations number of restarts (Lanczos) or iterations (power method)
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public record EigenpairsResult(double[] eigenvalues, double[][] eigenvectors, double[] residualNorms,
+                               boolean converged, int iterations) {
+}
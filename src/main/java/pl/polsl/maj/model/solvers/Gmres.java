@@ -0,0 +1,183 @@
+package pl.polsl.maj.model.solvers;
+
+import java.util.Arrays;
+import pl.polsl.maj.exceptions.MatrixException;
+
+/**
+ * Restarted generalised minimal residual method, GMRES(m), for general
+ * (non-symmetric) systems.
+ * <p>
+ * Each cycle builds an orthonormal Krylov basis of up to {@code m} vectors
+ * with modified Gram-Schmidt (Arnoldi) and keeps the small Hessenberg least
+ * squares problem triangular with Givens rotations, which yields the
+ * residual norm of every iteration for free. After {@code m} iterations the
+ * solution is updated and the method restarts from the new residual, which
+ * caps memory at (m + 1) vectors of length n. Preconditioning is applied
+ * from the right, so the monitored residual is the residual of the original
+ * system.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public class Gmres implements ILinearSolver {
+    /** Default relative residual at which iteration stops. */
+    public static final double DEFAULT_TOLERANCE = 1e-10;
+    /** Default iteration limit (counted over all cycles). */
+    public static final int DEFAULT_MAX_ITERATIONS = 1000;
+    /** Default Krylov basis size per cycle. */
+    public static final int DEFAULT_RESTART = 30;
+
+    /** Relative residual {@code ||b - A x|| / ||b||} at which iteration stops. */
+    private final double tolerance;
+    /** Maximum number of iterations over all cycles. */
+    private final int maxIterations;
+    /** Krylov basis size after which the method restarts. */
+    private final int restart;
+    /** Right preconditioner. */
+    private final IPreconditioner preconditioner;
+
+    /**
+     * Create an unpreconditioned solver with default settings.
+     */
+    public Gmres() {
+        this(DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS, DEFAULT_RESTART, IPreconditioner.NONE);
+    }
+
+    /**
+     * Create a solver with explicit settings.
+     *
+     * @param tolerance relative residual at which iteration stops (must be positive)
+     * @param maxIterations iteration limit over all cycles (must be positive)
+     * @param restart Krylov basis size per cycle (must be positive)
+     * @param preconditioner right preconditioner, or {@link IPreconditioner#NONE}
+     * @throws IllegalArgumentException when an argument is invalid
+     */
+    public Gmres(double tolerance, int maxIterations, int restart, IPreconditioner preconditioner) {
+        if (!(tolerance > 0.0) || maxIterations <= 0 || restart <= 0) {
+            throw new IllegalArgumentException("Tolerance, iteration limit and restart must be positive");
+        }
+        if (preconditioner == null) {
+            throw new IllegalArgumentException("Preconditioner cannot be null");
+        }
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+        this.restart = restart;
+        this.preconditioner = preconditioner;
+    }
+
+    /**
+     * Solve {@code A x = b}. Within a cycle the recorded residuals are the
+     * values given by the Givens rotations; at every restart the true
+     * residual is recomputed.
+     *
+     * @param a system operator
+     * @param b right-hand side of length n
+     * @param x0 initial guess of length n, or {@code null} for zeros (not modified)
+     * @return solution together with convergence information
+     * @throws MatrixException when lengths do not match the operator
+     */
+    @Override
+    public SolverResult solve(ILinearOperator a, double[] b, double[] x0) throws MatrixException {
+        double[] x = Vectors.start(a, b, x0);
+        int n = x.length;
+        double[] history = new double[maxIterations + 1];
+
+        double bNorm = Vectors.norm(b);
+        if (bNorm == 0.0) {
+            return new SolverResult(new double[n], true, 0, 0.0, new double[] {0.0});
+        }
+
+        int m = Math.min(restart, n);
+        double[][] v = new double[m + 1][n];
+        double[][] h = new double[m + 1][m];
+        double[] cs = new double[m];
+        double[] sn = new double[m];
+        double[] g = new double[m + 1];
+        double[] y = new double[m];
+        double[] z = new double[n];
+        double[] w = new double[n];
+
+        int it = 0;
+        double rel;
+        while (true) {
+            Vectors.residual(a, b, x, v[0]);
+            double beta = Vectors.norm(v[0]);
+            rel = beta / bNorm;
+            history[it] = rel;
+            if (rel <= tolerance || it >= maxIterations) {
+                break;
+            }
+
+            for (int i = 0; i < n; ++i) {
+                v[0][i] /= beta;
+            }
+            Arrays.fill(g, 0.0);
+            g[0] = beta;
+
+            int j = 0;
+            while (j < m && it < maxIterations) {
+                // w = A M⁻¹ v_j, orthogonalised against the basis
+                preconditioner.apply(v[j], z);
+                a.apply(z, w);
+                for (int i = 0; i <= j; ++i) {
+                    h[i][j] = Vectors.dot(w, v[i]);
+                    Vectors.axpy(-h[i][j], v[i], w);
+                }
+                double hNext = Vectors.norm(w);
+                h[j + 1][j] = hNext;
+
+                for (int i = 0; i < j; ++i) {
+                    double t = cs[i] * h[i][j] + sn[i] * h[i + 1][j];
+                    h[i + 1][j] = -sn[i] * h[i][j] + cs[i] * h[i + 1][j];
+                    h[i][j] = t;
+                }
+                double r = Math.hypot(h[j][j], h[j + 1][j]);
+                cs[j] = r == 0.0 ? 1.0 : h[j][j] / r;
+                sn[j] = r == 0.0 ? 0.0 : h[j + 1][j] / r;
+                h[j][j] = r;
+                h[j + 1][j] = 0.0;
+                g[j + 1] = -sn[j] * g[j];
+                g[j] = cs[j] * g[j];
+
+                ++j;
+                ++it;
+                rel = Math.abs(g[j]) / bNorm;
+                history[it] = rel;
+                if (rel <= tolerance || hNext == 0.0) {
+                    break;
+                }
+                for (int i = 0; i < n; ++i) {
+                    v[j][i] = w[i] / hNext;
+                }
+            }
+
+            // y = H⁻¹ g, x += M⁻¹ (V y)
+            for (int i = j - 1; i >= 0; --i) {
+                double sum = g[i];
+                for (int k = i + 1; k < j; ++k) {
+                    sum -= h[i][k] * y[k];
+                }
+                y[i] = h[i][i] == 0.0 ? 0.0 : sum / h[i][i];
+            }
+            Arrays.fill(w, 0.0);
+            for (int i = 0; i < j; ++i) {
+                Vectors.axpy(y[i], v[i], w);
+            }
+            preconditioner.apply(w, z);
+            Vectors.axpy(1.0, z, x);
+
+            if (rel <= tolerance) {
+                // confirm with the true residual
+                Vectors.residual(a, b, x, w);
+                rel = Vectors.norm(w) / bNorm;
+                history[it] = rel;
+                if (rel <= tolerance) {
+                    break;
+                }
+            }
+        }
+
+        return new SolverResult(x, rel <= tolerance, it, rel, Arrays.copyOf(history, it + 1));
+    }
+}
@@ -0,0 +1,36 @@
+package pl.polsl.maj.model.solvers;
+
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.IMatrix;
+
+/**
+ * Strategy for computing a few eigenpairs of a large operator without a
+ * full decomposition.
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public interface IEigenpairSolver {
+    /**
+     * Compute {@code k} eigenpairs of an operator.
+     *
+     * @param a linear operator
+     * @param k number of eigenpairs wanted
+     * @return eigenpairs together with convergence information
+     * @throws MatrixException when {@code k} is out of range or the method fails
+     */
+    public EigenpairsResult solve(ILinearOperator a, int k) throws MatrixException;
+
+    /**
+     * Compute {@code k} eigenpairs of a square matrix.
+     *
+     * @param a square matrix
+     * @param k number of eigenpairs wanted
+     * @return eigenpairs together with convergence information
+     * @throws MatrixException when the matrix is not square, {@code k} is out of
+     *         range or the method fails
+     */
+    default EigenpairsResult solve(IMatrix a, int k) throws MatrixException {
+        return solve(MatrixOperator.of(a), k);
+    }
+}
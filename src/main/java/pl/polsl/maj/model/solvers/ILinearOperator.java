@@ -0,0 +1,29 @@
+package pl.polsl.maj.model.solvers;
+
+/**
+ * Square linear operator given only by its action on a vector.
+ * <p>
+ * Iterative solvers never read individual matrix elements, so a system may
+ * be described without storing its matrix at all (matrix-free), e.g. as a
+ * stencil or a composition of other operators.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public interface ILinearOperator {
+    /**
+     * Return the dimension n of the operator (it maps R^n to R^n).
+     *
+     * @return number of rows and columns
+     */
+    public int getSize();
+
+    /**
+     * Compute {@code y = A x}.
+     *
+     * @param x input vector of length n (not modified)
+     * @param y output vector of length n (overwritten)
+     */
+    public void apply(double[] x, double[] y);
+}
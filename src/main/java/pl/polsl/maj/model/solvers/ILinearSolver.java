@@ -0,0 +1,47 @@
+package pl.polsl.maj.model.solvers;
+
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.IMatrix;
+
+/**
+ * Strategy for iteratively solving a linear system {@code A x = b}.
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public interface ILinearSolver {
+    /**
+     * Solve {@code A x = b} starting from the given guess.
+     *
+     * @param a system operator
+     * @param b right-hand side of length n
+     * @param x0 initial guess of length n, or {@code null} for zeros (not modified)
+     * @return solution together with convergence information
+     * @throws MatrixException when the input is invalid or the method breaks down
+     */
+    public SolverResult solve(ILinearOperator a, double[] b, double[] x0) throws MatrixException;
+
+    /**
+     * Solve {@code A x = b} starting from zero.
+     *
+     * @param a system operator
+     * @param b right-hand side of length n
+     * @return solution together with convergence information
+     * @throws MatrixException when the input is invalid or the method breaks down
+     */
+    default SolverResult solve(ILinearOperator a, double[] b) throws MatrixException {
+        return solve(a, b, null);
+    }
+
+    /**
+     * Solve {@code A x = b} for a square matrix, starting from zero.
+     *
+     * @param a square system matrix
+     * @param b right-hand side of length n
+     * @return solution together with convergence information
+     * @throws MatrixException when the input is invalid or the method breaks down
+     */
+    default SolverResult solve(IMatrix a, double[] b) throws MatrixException {
+        return solve(MatrixOperator.of(a), b, null);
+    }
+}
@@ -0,0 +1,24 @@
+package pl.polsl.maj.model.solvers;
+
+/**
+ * Preconditioner M approximating the system matrix A.
+ * <p>
+ * Solvers call {@link #apply(double[], double[])} to compute
+ * {@code z = M⁻¹ r}; the closer M is to A, the fewer iterations are needed.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public interface IPreconditioner {
+    /** Preconditioner which leaves the vector unchanged (M = I). */
+    public static final IPreconditioner NONE = (r, z) -> System.arraycopy(r, 0, z, 0, r.length);
+
+    /**
+     * Compute {@code z = M⁻¹ r}.
+     *
+     * @param r input vector (not modified)
+     * @param z output vector (overwritten)
+     */
+    public void apply(double[] r, double[] z);
+}
@@ -0,0 +1,108 @@
+package pl.polsl.maj.model.solvers;
+
+import java.util.Arrays;
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.CsrMatrix;
+import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.MatrixArrays;
+import pl.polsl.maj.model.PrimitiveMatrixData;
+
+/**
+ * Incomplete LU preconditioner with zero fill-in, ILU(0).
+ * <p>
+ * Gaussian elimination is carried out only on the positions which are
+ * non-zero in A, so the factors {@code L} (unit lower) and {@code U} share
+ * the sparsity pattern of A and are stored together in one CSR array.
+ * Applying the preconditioner is one forward and one backward substitution,
+ * O(nnz). A dense input matrix is first converted to CSR by dropping zeros.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public class Ilu0Preconditioner implements IPreconditioner {
+    /** Row pointers of the pattern. */
+    private final int[] rowPointers;
+    /** Column indices of the pattern (sorted within rows). */
+    private final int[] columnIndices;
+    /** Combined factors: strictly lower part is L, the rest is U. */
+    private final double[] lu;
+    /** Position of the diagonal entry of every row. */
+    private final int[] diagonal;
+
+    /**
+     * Factorise a square matrix.
+     *
+     * @param a square system matrix; its diagonal must be fully stored
+     * @throws MatrixException when the matrix is not square or a zero pivot occurs
+     */
+    public Ilu0Preconditioner(IMatrix a) throws MatrixException {
+        if (a == null || !a.isSquare()) {
+            throw new MatrixException("Matrix must be squared");
+        }
+        CsrMatrix s = a instanceof CsrMatrix csr ? csr
+                : (CsrMatrix) new CsrMatrix().createSameType(
+                        PrimitiveMatrixData.wrap(a.getRows(), a.getCols(), MatrixArrays.copyOf(a)));
+
+        int n = s.getRows();
+        this.rowPointers = s.rowPointers().clone();
+        this.columnIndices = Arrays.copyOf(s.columnIndices(), s.nnz());
+        this.lu = Arrays.copyOf(s.values(), s.nnz());
+        this.diagonal = new int[n];
+
+        for (int i = 0; i < n; ++i) {
+            int pos = Arrays.binarySearch(columnIndices, rowPointers[i], rowPointers[i + 1], i);
+            if (pos < 0) {
+                throw new MatrixException("Zero pivot in incomplete factorisation");
+            }
+            diagonal[i] = pos;
+        }
+
+        // position of every column of the current row, -1 when outside the pattern
+        int[] where = new int[n];
+        Arrays.fill(where, -1);
+        for (int i = 0; i < n; ++i) {
+            for (int p = rowPointers[i]; p < rowPointers[i + 1]; ++p) {
+                where[columnIndices[p]] = p;
+            }
+            for (int p = rowPointers[i]; p < diagonal[i]; ++p) {
+                int k = columnIndices[p];
+                lu[p] /= lu[diagonal[k]];
+                double lik = lu[p];
+                for (int q = diagonal[k] + 1; q < rowPointers[k + 1]; ++q) {
+                    int pos = where[columnIndices[q]];
+                    if (pos >= 0) {
+                        lu[pos] -= lik * lu[q];
+                    }
+                }
+            }
+            if (lu[diagonal[i]] == 0.0) {
+                throw new MatrixException("Zero pivot in incomplete factorisation");
+            }
+            for (int p = rowPointers[i]; p < rowPointers[i + 1]; ++p) {
+                where[columnIndices[p]] = -1;
+            }
+        }
+    }
+
+    @Override
+    public void apply(double[] r, double[] z) {
+        int n = diagonal.length;
+        // L y = r (unit diagonal)
+        for (int i = 0; i < n; ++i) {
+            double sum = r[i];
+            for (int p = rowPointers[i]; p < diagonal[i]; ++p) {
+                sum -= lu[p] * z[columnIndices[p]];
+            }
+            z[i] = sum;
+        }
+        // U z = y
+        for (int i = n - 1; i >= 0; --i) {
+            double sum = z[i];
+            for (int p = diagonal[i] + 1; p < rowPointers[i + 1]; ++p) {
+                sum -= lu[p] * z[columnIndices[p]];
+            }
+            z[i] = sum / lu[diagonal[i]];
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package pl.polsl.maj.model.solvers;
+
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.IMatrix;
+
+/**
+ * Jacobi (diagonal) preconditioner, {@code M = diag(A)}.
+ * <p>
+ * Cheap to build and apply (O(n)) and effective for diagonally dominant
+ * systems whose rows are badly scaled relative to each other.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public class JacobiPreconditioner implements IPreconditioner {
+    /** Reciprocals of the diagonal entries. */
+    private final double[] inverseDiagonal;
+
+    /**
+     * Build the preconditioner from the diagonal of a square matrix.
+     *
+     * @param a square system matrix
+     * @throws MatrixException when the matrix is not square or has a zero on the diagonal
+     */
+    public JacobiPreconditioner(IMatrix a) throws MatrixException {
+        if (a == null || !a.isSquare()) {
+            throw new MatrixException("Matrix must be squared");
+        }
+        int n = a.getRows();
+        double[] diagonal = new double[n];
+        for (int i = 0; i < n; ++i) {
+            diagonal[i] = a.get(i, i);
+        }
+        this.inverseDiagonal = invert(diagonal);
+    }
+
+    /**
+     * Build the preconditioner from explicit diagonal values, e.g. for a
+     * matrix-free operator.
+     *
+     * @param diagonal diagonal of the system matrix (not modified)
+     * @throws MatrixException when a diagonal entry is zero
+     */
+    public JacobiPreconditioner(double[] diagonal) throws MatrixException {
+        if (diagonal == null) {
+            throw new MatrixException("Matrices cannot be empty");
+        }
+        this.inverseDiagonal = invert(diagonal);
+    }
+
+    private static double[] invert(double[] diagonal) throws MatrixException {
+        double[] inv = new double[diagonal.length];
+        for (int i = 0; i < diagonal.length; ++i) {
+            if (diagonal[i] == 0.0) {
+                throw new MatrixException("Zero on the diagonal, Jacobi preconditioner undefined");
+            }
+            inv[i] = 1.0 / diagonal[i];
+        }
+        return inv;
+    }
+
+    @Override
+    public void apply(double[] r, double[] z) {
+        for (int i = 0; i < inverseDiagonal.length; ++i) {
+            z[i] = r[i] * inverseDiagonal[i];
+        }
+    }
+}
@@ -0,0 +1,395 @@
+package pl.polsl.maj.model.solvers;
+
+import java.util.Arrays;
+import java.util.Random;
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.DenseMatrix;
+import pl.polsl.maj.model.MatrixArrays;
+import pl.polsl.maj.model.operations.EigenResult;
+import pl.polsl.maj.model.operations.fastoperations.SymmetricEigen;
+
+/**
+ * Implicitly restarted Lanczos method for a few eigenpairs of a large
+ * symmetric operator.
+ * <p>
+ * A Lanczos factorization {@code A V = V T + f eₘᵀ} of size m (a small
+ * multiple of k) is built with one operator application per step and full
+ * reorthogonalization against the stored basis. The Ritz values of the
+ * tridiagonal T approximate the extreme eigenvalues; the m - k unwanted ones
+ * are used as shifts of implicit QR steps on T, which compresses the
+ * factorization to size k while filtering the unwanted directions out of
+ * the starting vector. The factorization is then extended to size m again.
+ * Only m basis vectors of length n are stored, so memory is O(nnz + k n)
+ * when the operator is sparse or matrix-free.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public class Lanczos implements IEigenpairSolver {
+    /** Default relative residual at which a Ritz pair is accepted. */
+    public static final double DEFAULT_TOLERANCE = 1e-10;
+    /** Default restart limit. */
+    public static final int DEFAULT_MAX_RESTARTS = 300;
+    /** Seed of the random starting vector, fixed for reproducible results. */
+    private static final long SEED = 42L;
+    /** Machine epsilon used by the breakdown and convergence tests. */
+    private static final double EPS = Math.ulp(1.0);
+
+    /**
+     * Part of the spectrum to compute.
+     */
+    public enum Target {
+        /** Eigenvalues of largest absolute value. */
+        LARGEST_MAGNITUDE,
+        /** Algebraically largest eigenvalues. */
+        LARGEST_ALGEBRAIC,
+        /** Algebraically smallest eigenvalues. */
+        SMALLEST_ALGEBRAIC
+    }
+
+    /** Part of the spectrum to compute. */
+    private final Target target;
+    /** Relative residual {@code ||A x - λ x|| / |λ|} at which a pair is accepted. */
+    private final double tolerance;
+    /** Maximum number of implicit restarts. */
+    private final int maxRestarts;
+    /** Size of the Lanczos basis, {@code 0} to derive it from k. */
+    private final int basisSize;
+
+    /**
+     * Create a solver for the eigenvalues of largest magnitude with default
+     * settings.
+     */
+    public Lanczos() {
+        this(Target.LARGEST_MAGNITUDE, DEFAULT_TOLERANCE, DEFAULT_MAX_RESTARTS, 0);
+    }
+
+    /**
+     * Create a solver for the given part of the spectrum with default
+     * settings.
+     *
+     * @param target part of the spectrum to compute
+     */
+    public Lanczos(Target target) {
+        this(target, DEFAULT_TOLERANCE, DEFAULT_MAX_RESTARTS, 0);
+    }
+
+    /**
+     * Create a solver with explicit settings.
+     *
+     * @param target part of the spectrum to compute
+     * @param tolerance relative residual at which a pair is accepted (must be positive)
+     * @param maxRestarts restart limit (must be positive)
+     * @param basisSize Lanczos basis size, or {@code 0} for {@code max(2k + 1, k + 20)}
+     * @throws IllegalArgumentException when an argument is invalid
+     */
+    public Lanczos(Target target, double tolerance, int maxRestarts, int basisSize) {
+        if (target == null) {
+            throw new IllegalArgumentException("Target cannot be null");
+        }
+        if (!(tolerance > 0.0) || maxRestarts <= 0) {
+            throw new IllegalArgumentException("Tolerance and iteration limit must be positive");
+        }
+        if (basisSize < 0) {
+            throw new IllegalArgumentException("Basis size cannot be negative");
+        }
+        this.target = target;
+        this.tolerance = tolerance;
+        this.maxRestarts = maxRestarts;
+        this.basisSize = basisSize;
+    }
+
+    /**
+     * Compute {@code k} eigenpairs of a symmetric operator.
+     *
+     * @param a symmetric linear operator
+     * @param k number of eigenpairs wanted
+     * @return eigenpairs ordered by the target (e.g. largest first), with
+     *         convergence information
+     * @throws MatrixException when {@code k} is out of range
+     */
+    @Override
+    public EigenpairsResult solve(ILinearOperator a, int k) throws MatrixException {
+        if (a == null) {
+            throw new MatrixException("Matrices cannot be empty");
+        }
+        int n = a.getSize();
+        if (k < 1 || k > n) {
+            throw new MatrixException("Number of eigenpairs must be between 1 and the matrix size");
+        }
+
+        int m = basisSize > 0 ? Math.max(basisSize, k + 1) : Math.max(2 * k + 1, k + 20);
+        m = Math.min(m, n);
+
+        Factorization fact = new Factorization(a, m);
+        fact.extend(0);
+
+        int restart = 0;
+        while (true) {
+            double[][] t = fact.tridiagonal();
+            EigenResult ritz = new SymmetricEigen().execute(new DenseMatrix(t));
+            double[] theta = ritz.eigenvalues();
+            double[] s = MatrixArrays.copyOf(ritz.eigenvectors());
+            int[] order = order(theta);
+
+            double thetaMax = Math.max(Math.abs(theta[0]), Math.abs(theta[m - 1]));
+            double betaLast = fact.beta[m - 1];
+            double[] residuals = new double[k];
+            boolean converged = true;
+            for (int i = 0; i < k; ++i) {
+                int w = order[i];
+                residuals[i] = Math.abs(betaLast * s[(m - 1) * m + w]);
+                double scale = Math.max(Math.abs(theta[w]), EPS * thetaMax);
+                if (residuals[i] > tolerance * scale) {
+                    converged = false;
+                }
+            }
+
+            if (converged || restart == maxRestarts || m == k) {
+                return result(fact, theta, s, order, residuals, converged, restart);
+            }
+
+            double[] shifts = new double[m - k];
+            for (int i = k; i < m; ++i) {
+                shifts[i - k] = theta[order[i]];
+            }
+            fact.compress(t, shifts, k);
+            fact.extend(k);
+            ++restart;
+        }
+    }
+
+    /** Indices of Ritz values, wanted ones first in target order. */
+    private int[] order(double[] theta) {
+        Integer[] idx = new Integer[theta.length];
+        for (int i = 0; i < idx.length; ++i) {
+            idx[i] = i;
+        }
+        switch (target) {
+            case LARGEST_MAGNITUDE -> Arrays.sort(idx, (x, y) -> Double.compare(Math.abs(theta[y]), Math.abs(theta[x])));
+            case LARGEST_ALGEBRAIC -> Arrays.sort(idx, (x, y) -> Double.compare(theta[y], theta[x]));
+            case SMALLEST_ALGEBRAIC -> Arrays.sort(idx, (x, y) -> Double.compare(theta[x], theta[y]));
+        }
+        int[] out = new int[idx.length];
+        for (int i = 0; i < out.length; ++i) {
+            out[i] = idx[i];
+        }
+        return out;
+    }
+
+    /** Form the wanted Ritz vectors {@code V s} and package the result. */
+    private static EigenpairsResult result(Factorization fact, double[] theta, double[] s, int[] order,
+                                           double[] residuals, boolean converged, int restarts) {
+        int k = residuals.length;
+        int m = fact.m;
+        double[] values = new double[k];
+        double[][] vectors = new double[k][];
+        for (int i = 0; i < k; ++i) {
+            int w = order[i];
+            values[i] = theta[w];
+            double[] x = new double[fact.n];
+            for (int j = 0; j < m; ++j) {
+                Vectors.axpy(s[j * m + w], fact.v[j], x);
+            }
+            double norm = Vectors.norm(x);
+            for (int p = 0; p < x.length; ++p) {
+                x[p] /= norm;
+            }
+            vectors[i] = x;
+        }
+        return new EigenpairsResult(values, vectors, residuals, converged, restarts);
+    }
+
+    /**
+     * Lanczos factorization {@code A V = V T + f eₘᵀ} with T stored as its
+     * diagonal {@code alpha} and off-diagonal {@code beta}; {@code beta[j]}
+     * couples basis vectors j and j + 1 and {@code beta[m - 1] = ||f||}.
+     */
+    private static final class Factorization {
+        /** Operator being factorized. */
+        private final ILinearOperator a;
+        /** Operator size. */
+        private final int n;
+        /** Basis size. */
+        private final int m;
+        /** Orthonormal basis vectors. */
+        private final double[][] v;
+        /** Diagonal of T. */
+        private final double[] alpha;
+        /** Off-diagonal of T, last entry is the residual norm. */
+        private final double[] beta;
+        /** Source of starting and replacement vectors. */
+        private final Random random = new Random(SEED);
+        /** Unnormalized residual vector. */
+        private double[] f;
+        /** Running estimate of ||T||, used for the breakdown test. */
+        private double norm;
+
+        Factorization(ILinearOperator a, int m) {
+            this.a = a;
+            this.n = a.getSize();
+            this.m = m;
+            this.v = new double[m][];
+            this.alpha = new double[m];
+            this.beta = new double[m];
+            this.f = new double[n];
+        }
+
+        /**
+         * Extend the factorization from size {@code from} to m. For
+         * {@code from > 0} the next basis vector is {@code f / beta[from - 1]}.
+         */
+        void extend(int from) {
+            for (int j = from; j < m; ++j) {
+                double[] vj = v[j] != null ? v[j] : new double[n];
+                if (j == 0) {
+                    randomOrthogonal(vj, 0);
+                } else if (beta[j - 1] > EPS * norm * Math.sqrt(n)) {
+                    double inv = 1.0 / beta[j - 1];
+                    for (int i = 0; i < n; ++i) {
+                        vj[i] = f[i] * inv;
+                    }
+                } else {
+                    // invariant subspace found: continue with a fresh direction
+                    beta[j - 1] = 0.0;
+                    randomOrthogonal(vj, j);
+                }
+                v[j] = vj;
+
+                a.apply(vj, f);
+                alpha[j] = Vectors.dot(vj, f);
+                Vectors.axpy(-alpha[j], vj, f);
+                if (j > 0) {
+                    Vectors.axpy(-beta[j - 1], v[j - 1], f);
+                }
+                orthogonalize(f, j + 1);
+                beta[j] = Vectors.norm(f);
+                norm = Math.max(norm, Math.abs(alpha[j]) + beta[j] + (j > 0 ? beta[j - 1] : 0.0));
+            }
+        }
+
+        /** Gram-Schmidt against {@code v[0..count)}, applied twice for stability. */
+        private void orthogonalize(double[] x, int count) {
+            for (int pass = 0; pass < 2; ++pass) {
+                for (int i = 0; i < count; ++i) {
+                    Vectors.axpy(-Vectors.dot(v[i], x), v[i], x);
+                }
+            }
+        }
+
+        /** Fill {@code x} with a random unit vector orthogonal to {@code v[0..count)}. */
+        private void randomOrthogonal(double[] x, int count) {
+            for (int i = 0; i < n; ++i) {
+                x[i] = random.nextGaussian();
+            }
+            orthogonalize(x, count);
+            double inv = 1.0 / Vectors.norm(x);
+            for (int i = 0; i < n; ++i) {
+                x[i] *= inv;
+            }
+        }
+
+        /** Return T as a dense (m x m) array. */
+        double[][] tridiagonal() {
+            double[][] t = new double[m][m];
+            for (int i = 0; i < m; ++i) {
+                t[i][i] = alpha[i];
+                if (i + 1 < m) {
+                    t[i][i + 1] = beta[i];
+                    t[i + 1][i] = beta[i];
+                }
+            }
+            return t;
+        }
+
+        /**
+         * Apply one shifted QR step {@code T - μI = QR, T = RQ + μI} per
+         * shift and compress the factorization to its first k columns:
+         * {@code V = V Q(:, 0..k)} and {@code f = V Q(:, k) T(k, k - 1) + f Q(m - 1, k - 1)}.
+         */
+        void compress(double[][] t, double[] shifts, int k) {
+            double[][] q = new double[m][m];
+            for (int i = 0; i < m; ++i) {
+                q[i][i] = 1.0;
+            }
+            double[] c = new double[m - 1];
+            double[] s = new double[m - 1];
+
+            for (double mu : shifts) {
+                for (int i = 0; i < m; ++i) {
+                    t[i][i] -= mu;
+                }
+                // Givens rotations G_i on rows (i, i + 1) reduce T - μI to R
+                for (int i = 0; i < m - 1; ++i) {
+                    double x = t[i][i];
+                    double y = t[i + 1][i];
+                    double r = Math.hypot(x, y);
+                    c[i] = r == 0.0 ? 1.0 : x / r;
+                    s[i] = r == 0.0 ? 0.0 : y / r;
+                    for (int j = i; j < Math.min(i + 3, m); ++j) {
+                        double ti = t[i][j];
+                        double tj = t[i + 1][j];
+                        t[i][j] = c[i] * ti + s[i] * tj;
+                        t[i + 1][j] = -s[i] * ti + c[i] * tj;
+                    }
+                }
+                // R Gᵀ, and accumulate Q = Q Gᵀ
+                for (int i = 0; i < m - 1; ++i) {
+                    for (int j = 0; j < Math.min(i + 2, m); ++j) {
+                        double ti = t[j][i];
+                        double tj = t[j][i + 1];
+                        t[j][i] = c[i] * ti + s[i] * tj;
+                        t[j][i + 1] = -s[i] * ti + c[i] * tj;
+                    }
+                    for (int j = 0; j < m; ++j) {
+                        double qi = q[j][i];
+                        double qj = q[j][i + 1];
+                        q[j][i] = c[i] * qi + s[i] * qj;
+                        q[j][i + 1] = -s[i] * qi + c[i] * qj;
+                    }
+                }
+                // restore exact symmetric tridiagonal structure
+                for (int i = 0; i < m; ++i) {
+                    t[i][i] += mu;
+                    for (int j = i + 2; j < m; ++j) {
+                        t[i][j] = 0.0;
+                        t[j][i] = 0.0;
+                    }
+                    if (i + 1 < m) {
+                        double e = 0.5 * (t[i][i + 1] + t[i + 1][i]);
+                        t[i][i + 1] = e;
+                        t[i + 1][i] = e;
+                    }
+                }
+            }
+
+            double[][] compressed = new double[k + 1][];
+            for (int col = 0; col <= k; ++col) {
+                double[] x = new double[n];
+                for (int j = 0; j < m; ++j) {
+                    double qj = q[j][col];
+                    if (qj != 0.0) {
+                        Vectors.axpy(qj, v[j], x);
+                    }
+                }
+                compressed[col] = x;
+            }
+
+            double[] residual = compressed[k];
+            double sigma = q[m - 1][k - 1];
+            double betaK = t[k][k - 1];
+            for (int i = 0; i < n; ++i) {
+                residual[i] = residual[i] * betaK + f[i] * sigma;
+            }
+
+            System.arraycopy(compressed, 0, v, 0, k);
+            f = residual;
+            for (int i = 0; i < k; ++i) {
+                alpha[i] = t[i][i];
+                beta[i] = i + 1 < k ? t[i + 1][i] : 0.0;
+            }
+            beta[k - 1] = Vectors.norm(f);
+        }
+    }
+}
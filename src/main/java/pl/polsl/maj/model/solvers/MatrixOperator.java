@@ -0,0 +1,85 @@
+package pl.polsl.maj.model.solvers;
+
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.CsrMatrix;
+import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.MatrixArrays;
+
+/**
+ * Adapter presenting a square {@link IMatrix} as an {@link ILinearOperator}.
+ * <p>
+ * A {@link CsrMatrix} is used directly, so every product costs O(nnz). Any
+ * other matrix is copied once into a row-major array (shared, not copied,
+ * for a {@link pl.polsl.maj.model.DenseMatrix}), so products do not go
+ * through the checked per-element accessors. Later changes to the matrix are
+ * therefore not guaranteed to be visible to the operator.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public final class MatrixOperator implements ILinearOperator {
+    /** Sparse storage, or {@code null} for dense input. */
+    private final CsrMatrix sparse;
+    /** Row-major values, or {@code null} for sparse input. */
+    private final double[] dense;
+    /** Operator dimension. */
+    private final int n;
+
+    private MatrixOperator(CsrMatrix sparse, double[] dense, int n) {
+        this.sparse = sparse;
+        this.dense = dense;
+        this.n = n;
+    }
+
+    /**
+     * Create an operator for a square matrix.
+     *
+     * @param a square matrix
+     * @return operator computing {@code A x}
+     * @throws MatrixException when the matrix is null or not square
+     */
+    public static MatrixOperator of(IMatrix a) throws MatrixException {
+        if (a == null) {
+            throw new MatrixException("Matrices cannot be empty");
+        }
+        if (!a.isSquare()) {
+            throw new MatrixException("Matrix must be squared");
+        }
+        if (a instanceof CsrMatrix s) {
+            return new MatrixOperator(s, null, s.getRows());
+        }
+        double[] shared = MatrixArrays.rowMajorStorage(a);
+        return new MatrixOperator(null, shared != null ? shared : MatrixArrays.copyOf(a), a.getRows());
+    }
+
+    @Override
+    public int getSize() {
+        return n;
+    }
+
+    @Override
+    public void apply(double[] x, double[] y) {
+        if (sparse != null) {
+            int[] ptr = sparse.rowPointers();
+            int[] cols = sparse.columnIndices();
+            double[] vals = sparse.values();
+            for (int i = 0; i < n; ++i) {
+                double sum = 0.0;
+                for (int p = ptr[i]; p < ptr[i + 1]; ++p) {
+                    sum += vals[p] * x[cols[p]];
+                }
+                y[i] = sum;
+            }
+            return;
+        }
+
+        for (int i = 0, row = 0; i < n; ++i, row += n) {
+            double sum = 0.0;
+            for (int j = 0; j < n; ++j) {
+                sum += dense[row + j] * x[j];
+            }
+            y[i] = sum;
+        }
+    }
+}
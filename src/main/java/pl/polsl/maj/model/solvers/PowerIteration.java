@@ -0,0 +1,121 @@
+package pl.polsl.maj.model.solvers;
+
+import java.util.Random;
+import pl.polsl.maj.exceptions.MatrixException;
+
+/**
+ * Power iteration for the dominant eigenpair (largest |λ|).
+ * <p>
+ * Repeatedly applies the operator to a vector and normalizes it; the
+ * eigenvalue estimate is the Rayleigh quotient {@code xᵀ A x}. Only two
+ * vectors of length n are kept, so memory is O(n) on top of the operator,
+ * and the operator does not need to be symmetric (e.g. a column-stochastic
+ * PageRank matrix). Convergence is linear with rate {@code |λ2 / λ1|}.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.1
+ */
+public class PowerIteration implements IEigenpairSolver {
+    /** Default relative residual at which iteration stops. */
+    public static final double DEFAULT_TOLERANCE = 1e-10;
+    /** Default iteration limit. */
+    public static final int DEFAULT_MAX_ITERATIONS = 10000;
+    /** Seed of the random starting vector, fixed for reproducible results. */
+    private static final long SEED = 42L;
+
+    /** Relative residual {@code ||A x - λ x|| / |λ|} at which iteration stops. */
+    private final double tolerance;
+    /** Maximum number of iterations. */
+    private final int maxIterations;
+
+    /**
+     * Create the solver with default settings.
+     */
+    public PowerIteration() {
+        this(DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS);
+    }
+
+    /**
+     * Create the solver with explicit settings.
+     *
+     * @param tolerance relative residual at which iteration stops (must be positive)
+     * @param maxIterations iteration limit (must be positive)
+     * @throws IllegalArgumentException when an argument is invalid
+     */
+    public PowerIteration(double tolerance, int maxIterations) {
+        if (!(tolerance > 0.0) || maxIterations <= 0) {
+            throw new IllegalArgumentException("Tolerance and iteration limit must be positive");
+        }
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Compute the dominant eigenpair.
+     *
+     * @param a linear operator
+     * @param k number of eigenpairs, must be 1
+     * @return dominant eigenpair together with convergence information
+     * @throws MatrixException when {@code k} is not 1
+     */
+    @Override
+    public EigenpairsResult solve(ILinearOperator a, int k) throws MatrixException {
+        if (a == null) {
+            throw new MatrixException("Matrices cannot be empty");
+        }
+        if (k != 1) {
+            throw new MatrixException("Power iteration computes only the dominant eigenpair");
+        }
+
+        int n = a.getSize();
+        double[] x = new double[n];
+        double[] y = new double[n];
+        Random random = new Random(SEED);
+        for (int i = 0; i < n; ++i) {
+            x[i] = random.nextDouble() + 0.5;
+        }
+        scale(x, 1.0 / Vectors.norm(x));
+
+        double lambda = 0.0;
+        double residual = Double.POSITIVE_INFINITY;
+        int it = 0;
+        while (it < maxIterations) {
+            ++it;
+            a.apply(x, y);
+            lambda = Vectors.dot(x, y);
+
+            double r = 0.0;
+            for (int i = 0; i < n; ++i) {
+                double d = y[i] - lambda * x[i];
+                r += d * d;
+            }
+            residual = Math.sqrt(r);
+
+            double norm = Vectors.norm(y);
+            if (norm == 0.0) {
+                // x lies in the null space: λ = 0 is exact
+                residual = 0.0;
+                break;
+            }
+            if (residual <= tolerance * Math.abs(lambda) || it == maxIterations) {
+                // return the x that lambda and residual were computed for
+                break;
+            }
+            double[] t = x;
+            x = y;
+            y = t;
+            scale(x, 1.0 / norm);
+        }
+
+        boolean converged = residual <= tolerance * Math.abs(lambda) || residual == 0.0;
+        return new EigenpairsResult(new double[] {lambda}, new double[][] {x},
+                                    new double[] {residual}, converged, it);
+    }
+
+    private static void scale(double[] x, double factor) {
+        for (int i = 0; i < x.length; ++i) {
+            x[i] *= factor;
+        }
+    }
+}
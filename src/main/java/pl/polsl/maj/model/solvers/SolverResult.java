@@ -0,0 +1,23 @@
+package pl.polsl.maj.model.solvers;
+
+/**
+ * Outcome of an iterative solve.
+ * <p>
+ * {@code residualHistory[0]} is the relative residual of the initial guess
+ * and every further entry is the relative residual
+ * {@code ||b - A x|| / ||b||} after one iteration, so the history has
+ * {@code iterations + 1} entries.
+ * </p>
+ *
+ * @param solution computed solution vector
+ * @param converged whether the requested tolerance was reached
+ * @param iterations number of iterations performed
+ * @param residualNorm final relative residual
+ * @param residualHistory relative residual after every iteration
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+public record SolverResult(double[] solution, boolean converged, int iterations,
+                           double residualNorm, double[] residualHistory) {
+}
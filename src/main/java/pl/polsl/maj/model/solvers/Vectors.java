@@ -0,0 +1,68 @@
+package pl.polsl.maj.model.solvers;
+
+import pl.polsl.maj.exceptions.MatrixException;
+
+/**
+ * Dense vector kernels shared by the iterative solvers.
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+final class Vectors {
+
+    /**
+     * Utility class - prevent instantiation.
+     */
+    private Vectors() {
+        // prevent instantiation
+    }
+
+    /** Dot product of two vectors of equal length. */
+    static double dot(double[] x, double[] y) {
+        double sum = 0.0;
+        for (int i = 0; i < x.length; ++i) {
+            sum += x[i] * y[i];
+        }
+        return sum;
+    }
+
+    /** Euclidean norm. */
+    static double norm(double[] x) {
+        return Math.sqrt(dot(x, x));
+    }
+
+    /** {@code y += alpha * x}. */
+    static void axpy(double alpha, double[] x, double[] y) {
+        for (int i = 0; i < x.length; ++i) {
+            y[i] += alpha * x[i];
+        }
+    }
+
+    /** {@code r = b - A x}. */
+    static void residual(ILinearOperator a, double[] b, double[] x, double[] r) {
+        a.apply(x, r);
+        for (int i = 0; i < r.length; ++i) {
+            r[i] = b[i] - r[i];
+        }
+    }
+
+    /**
+     * Validate the system and return a starting vector.
+     *
+     * @param a system operator
+     * @param b right-hand side
+     * @param x0 initial guess or {@code null}
+     * @return fresh copy of {@code x0}, or zeros
+     * @throws MatrixException when lengths do not match the operator
+     */
+    static double[] start(ILinearOperator a, double[] b, double[] x0) throws MatrixException {
+        if (a == null || b == null) {
+            throw new MatrixException("Matrices cannot be empty");
+        }
+        int n = a.getSize();
+        if (b.length != n || (x0 != null && x0.length != n)) {
+            throw new MatrixException("Vector length does not match the operator size");
+        }
+        return x0 == null ? new double[n] : x0.clone();
+    }
+}
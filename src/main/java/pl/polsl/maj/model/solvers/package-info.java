@@ -0,0 +1,31 @@
+/**
+ * Iterative solvers for large, typically sparse, linear systems {@code A x = b}
+ * and for a few eigenpairs of large operators.
+ * <p>
+ * Instead of forming an inverse these solvers only need the product of the
+ * system matrix with a vector, described by
+ * {@link pl.polsl.maj.model.solvers.ILinearOperator}. Any
+ * {@link pl.polsl.maj.model.IMatrix} can be adapted with
+ * {@link pl.polsl.maj.model.solvers.MatrixOperator}; a matrix-free operator
+ * can be supplied directly. Convergence can be accelerated with a
+ * {@link pl.polsl.maj.model.solvers.IPreconditioner}. The eigensolvers
+ * ({@link pl.polsl.maj.model.solvers.IEigenpairSolver}) use the same
+ * operator abstraction.
+ * </p>
+ *
+ * <p>Important classes:</p>
+ * <ul>
+ *   <li>{@link pl.polsl.maj.model.solvers.ConjugateGradient}</li>
+ *   <li>{@link pl.polsl.maj.model.solvers.Gmres}</li>
+ *   <li>{@link pl.polsl.maj.model.solvers.JacobiPreconditioner}</li>
+ *   <li>{@link pl.polsl.maj.model.solvers.Ilu0Preconditioner}</li>
+ *   <li>{@link pl.polsl.maj.model.solvers.SolverResult}</li>
+ *   <li>{@link pl.polsl.maj.model.solvers.Lanczos}</li>
+ *   <li>{@link pl.polsl.maj.model.solvers.PowerIteration}</li>
+ *   <li>{@link pl.polsl.maj.model.solvers.EigenpairsResult}</li>
+ * </ul>
+ *
+ * @author piotr.maj
+ * @version 1.0.1
+ */
+package pl.polsl.maj.model.solvers;
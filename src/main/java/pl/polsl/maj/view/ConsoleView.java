@@ -11,7 +11,7 @@ import pl.polsl.maj.model.IMatrix;
  * reading user choices, parsing matrix input lines and displaying results.
  * 
  * @author piotr.maj
- * @version 1.0.2
+ * @version 1.0.3
  */
 public class ConsoleView implements IView {
     private final Scanner scanner;
@@ -37,6 +37,7 @@ public class ConsoleView implements IView {
         System.out.println("6) Transpose");
         System.out.println("7) Inverse");
         System.out.println("8) Trace");
+        System.out.println("9) Solve A * X = B");
         System.out.println("0) Exit");
     }
 
@@ -4,7 +4,7 @@ package pl.polsl.maj.view;
  * Enumeration mapping user-visible operations to the menu option codes
  * understood by the controller.
  * @author piotr.maj
- * @version 1.0.0
+ * @version 1.0.1
  */
 public enum OperationCode {
     /** Determinant computation operation. */
@@ -23,6 +23,8 @@ public enum OperationCode {
     INVERSE("7"),
     /** Matrix trace computation operation. */
     TRACE("8"),
+    /** Linear system solving operation. */
+    SOLVE("9"),
     /** Exit application operation. */
     EXIT("0");
 
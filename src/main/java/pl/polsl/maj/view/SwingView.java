@@ -29,7 +29,7 @@ import pl.polsl.maj.view.IView;
  * are communicated to the controller via internal blocking queues.</p>
  * 
  * @author piotr.maj
- * @version 1.0.1
+ * @version 1.0.2
  */
 public class SwingView implements IView {
     private final JFrame frame;
@@ -68,6 +68,7 @@ public class SwingView implements IView {
         JButton btnTranspose = new JButton("Transpose");
         JButton btnInverse = new JButton("Inverse");
         JButton btnTrace = new JButton("Trace");
+        JButton btnSolve = new JButton("Solve A * X = B");
 
         btnPanel.add(btnDeterminant);
         btnPanel.add(btnScalar);
@@ -77,6 +78,7 @@ public class SwingView implements IView {
         btnPanel.add(btnTranspose);
         btnPanel.add(btnInverse);
         btnPanel.add(btnTrace);
+        btnPanel.add(btnSolve);
 
         btnDeterminant.setToolTipText("Click this component to calculate determinant");
         btnDeterminant.getAccessibleContext().setAccessibleDescription("Click this component to calculate determinant");
@@ -110,6 +112,10 @@ public class SwingView implements IView {
         btnTrace.getAccessibleContext().setAccessibleDescription("Click this component to calculate trace of the matrix");
         btnTrace.setMnemonic(KeyEvent.VK_R);
 
+        btnSolve.setToolTipText("Click this component to solve linear system with other matrix as right-hand side");
+        btnSolve.getAccessibleContext().setAccessibleDescription("Click this component to solve linear system with other matrix as right-hand side");
+        btnSolve.setMnemonic(KeyEvent.VK_L);
+
         frame.add(btnPanel, BorderLayout.NORTH);
 
         btnDeterminant.addActionListener(e -> menuBuffer.offer(OperationCode.DETERMINANT.code()));
@@ -128,6 +134,8 @@ public class SwingView implements IView {
 
         btnTrace.addActionListener(e -> menuBuffer.offer(OperationCode.TRACE.code()));
 
+        btnSolve.addActionListener(e -> menuBuffer.offer(OperationCode.SOLVE.code()));
+
         frame.pack();
         frame.setVisible(true);
 
@@ -0,0 +1,107 @@
+package pl.polsl.maj.model.operations.vectoroperations;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.MatrixArrays;
+import pl.polsl.maj.model.operations.IMultiplyAlgorithm;
+import pl.polsl.maj.model.operations.fastoperations.BlockedMultiply;
+
+/**
+ * SIMD implementation of matrix multiplication (a × b) using the Java Vector
+ * API.
+ * <p>
+ * Uses the same tiling and i-k-j loop order as {@link BlockedMultiply}; the
+ * innermost loop over a row of {@code b} is replaced by fused multiply-add
+ * on whole hardware vectors.
+ * </p>
+ *
+ * <strong>Complexity:</strong> O(n * m * k) for an (n x m) × (m x k) multiplication.
+ *
+ * @author piotr.maj
+ * @version 1.0.1
+ */
+public class VectorMultiply implements IMultiplyAlgorithm {
+    /** Preferred vector shape on the current hardware. */
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /** Tile edge used for all three loop dimensions. */
+    private final int tileSize;
+
+    /**
+     * Create the algorithm with the default tile size.
+     */
+    public VectorMultiply() {
+        this(BlockedMultiply.DEFAULT_TILE_SIZE);
+    }
+
+    /**
+     * Create the algorithm with a custom tile size.
+     *
+     * @param tileSize tile edge in elements (must be positive)
+     * @throws IllegalArgumentException when {@code tileSize} is not positive
+     */
+    public VectorMultiply(int tileSize) {
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("Tile size must be positive");
+        }
+        this.tileSize = tileSize;
+    }
+
+    /**
+     * Execute matrix multiplication.
+     *
+     * @param a left matrix with dimensions (n x m)
+     * @param b right matrix with dimensions (m x k)
+     * @return new matrix of dimensions (n x k) containing the product
+     * @throws MatrixException when matrices are not compatible for multiplication
+     */
+    @Override
+    public IMatrix execute(IMatrix a, IMatrix b) throws MatrixException {
+        if (a.getCols() != b.getRows()) {
+            throw new MatrixException("Cannot multiply not compatible matrices");
+        }
+
+        int n = a.getRows();
+        int m = a.getCols();
+        int k = b.getCols();
+
+        double[] left = MatrixArrays.copyOf(a);
+        double[] right = MatrixArrays.copyOf(b);
+        double[] out = new double[n * k];
+        int lanes = SPECIES.length();
+
+        for (int ii = 0; ii < n; ii += tileSize) {
+            int iEnd = Math.min(ii + tileSize, n);
+            for (int pp = 0; pp < m; pp += tileSize) {
+                int pEnd = Math.min(pp + tileSize, m);
+                for (int jj = 0; jj < k; jj += tileSize) {
+                    int jEnd = Math.min(jj + tileSize, k);
+                    int jBound = jj + SPECIES.loopBound(jEnd - jj);
+
+                    for (int i = ii; i < iEnd; ++i) {
+                        int ai = i * m;
+                        int ci = i * k;
+                        for (int p = pp; p < pEnd; ++p) {
+                            double aip = left[ai + p];
+                            DoubleVector va = DoubleVector.broadcast(SPECIES, aip);
+                            int bp = p * k;
+                            int j = jj;
+                            for (; j < jBound; j += lanes) {
+                                DoubleVector vb = DoubleVector.fromArray(SPECIES, right, bp + j);
+                                DoubleVector vc = DoubleVector.fromArray(SPECIES, out, ci + j);
+                                va.fma(vb, vc).intoArray(out, ci + j);
+                            }
+                            for (; j < jEnd; ++j) {
+                                out[ci + j] += aip * right[bp + j];
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        return MatrixArrays.fromRowMajor(a, n, k, out);
+    }
+}
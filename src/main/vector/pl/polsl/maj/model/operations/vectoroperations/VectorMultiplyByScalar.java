@@ -0,0 +1,46 @@
+package pl.polsl.maj.model.operations.vectoroperations;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+import lombok.NoArgsConstructor;
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.MatrixArrays;
+import pl.polsl.maj.model.operations.IMultiplyByScalarAlgorithm;
+
+/**
+ * SIMD implementation of scalar multiplication using the Java Vector API.
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+@NoArgsConstructor
+public class VectorMultiplyByScalar implements IMultiplyByScalarAlgorithm {
+    /** Preferred vector shape on the current hardware. */
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Multiply all elements of matrix {@code a} by {@code scalar}.
+     *
+     * @param a matrix to multiply
+     * @param scalar scaling factor
+     * @return new matrix with scaled values
+     * @throws MatrixException when reading the matrix fails
+     */
+    @Override
+    public IMatrix execute(IMatrix a, double scalar) throws MatrixException {
+        double[] x = MatrixArrays.copyOf(a);
+
+        int len = x.length;
+        int bound = SPECIES.loopBound(len);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, x, i).mul(scalar).intoArray(x, i);
+        }
+        for (; i < len; ++i) {
+            x[i] *= scalar;
+        }
+
+        return MatrixArrays.fromRowMajor(a, a.getRows(), a.getCols(), x);
+    }
+}
@@ -0,0 +1,57 @@
+package pl.polsl.maj.model.operations.vectoroperations;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+import lombok.NoArgsConstructor;
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.MatrixArrays;
+import pl.polsl.maj.model.operations.ISubstractAlgorithm;
+
+/**
+ * SIMD implementation of matrix subtraction (a - b) using the Java Vector API.
+ * <p>
+ * Both operands are copied into flat row-major arrays and subtracted one
+ * hardware vector at a time; the remaining tail is handled by a scalar loop.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+@NoArgsConstructor
+public class VectorSubstract implements ISubstractAlgorithm {
+    /** Preferred vector shape on the current hardware. */
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Execute matrix subtraction.
+     *
+     * @param a minuend matrix
+     * @param b subtrahend matrix
+     * @return new matrix containing element-wise differences
+     * @throws MatrixException when dimensions differ
+     */
+    @Override
+    public IMatrix execute(IMatrix a, IMatrix b) throws MatrixException {
+        if (!a.isEqualSize(b)) {
+            throw new MatrixException("Matrices must be equal in size");
+        }
+
+        double[] x = MatrixArrays.copyOf(a);
+        double[] y = MatrixArrays.copyOf(b);
+
+        int len = x.length;
+        int bound = SPECIES.loopBound(len);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, x, i)
+                    .sub(DoubleVector.fromArray(SPECIES, y, i))
+                    .intoArray(x, i);
+        }
+        for (; i < len; ++i) {
+            x[i] -= y[i];
+        }
+
+        return MatrixArrays.fromRowMajor(a, a.getRows(), a.getCols(), x);
+    }
+}
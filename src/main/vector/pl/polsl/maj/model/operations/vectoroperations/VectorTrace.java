@@ -0,0 +1,58 @@
+package pl.polsl.maj.model.operations.vectoroperations;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import lombok.NoArgsConstructor;
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.operations.ITraceAlgorithm;
+
+/**
+ * SIMD implementation of trace computation using the Java Vector API.
+ * <p>
+ * Only the diagonal is read from the matrix (n accesses); the values are
+ * then summed with a vector reduction.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+@NoArgsConstructor
+public class VectorTrace implements ITraceAlgorithm {
+    /** Preferred vector shape on the current hardware. */
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Compute the trace (sum of diagonal) of the provided matrix.
+     *
+     * @param a square matrix
+     * @return trace value
+     * @throws MatrixException when matrix is not square
+     */
+    @Override
+    public double execute(IMatrix a) throws MatrixException {
+        if (!a.isSquare()) {
+            throw new MatrixException("Matrix must be squared");
+        }
+
+        int n = a.getRows();
+        double[] diag = new double[n];
+        for (int i = 0; i < n; ++i) {
+            diag[i] = a.get(i, i);
+        }
+
+        DoubleVector acc = DoubleVector.zero(SPECIES);
+        int bound = SPECIES.loopBound(n);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            acc = acc.add(DoubleVector.fromArray(SPECIES, diag, i));
+        }
+        double sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < n; ++i) {
+            sum += diag[i];
+        }
+
+        return sum;
+    }
+}
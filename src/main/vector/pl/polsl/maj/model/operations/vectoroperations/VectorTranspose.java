@@ -0,0 +1,60 @@
+package pl.polsl.maj.model.operations.vectoroperations;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+import lombok.NoArgsConstructor;
+import pl.polsl.maj.exceptions.MatrixException;
+import pl.polsl.maj.model.IMatrix;
+import pl.polsl.maj.model.MatrixArrays;
+import pl.polsl.maj.model.operations.ITransposeAlgorithm;
+
+/**
+ * SIMD implementation of matrix transpose using the Java Vector API.
+ * <p>
+ * Each row is loaded one vector at a time and scattered into the matching
+ * column of the result with a stride of {@code rows}.
+ * </p>
+ *
+ * @author piotr.maj
+ * @version 1.0.0
+ */
+@NoArgsConstructor
+public class VectorTranspose implements ITransposeAlgorithm {
+    /** Preferred vector shape on the current hardware. */
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Execute transpose of the provided matrix.
+     *
+     * @param a input matrix
+     * @return transposed matrix
+     * @throws MatrixException when reading the matrix fails
+     */
+    @Override
+    public IMatrix execute(IMatrix a) throws MatrixException {
+        int rows = a.getRows();
+        int cols = a.getCols();
+        double[] x = MatrixArrays.copyOf(a);
+        double[] out = new double[rows * cols];
+
+        int lanes = SPECIES.length();
+        int[] scatter = new int[lanes];
+        for (int l = 0; l < lanes; ++l) {
+            scatter[l] = l * rows;
+        }
+
+        int bound = SPECIES.loopBound(cols);
+        for (int i = 0; i < rows; ++i) {
+            int ri = i * cols;
+            int j = 0;
+            for (; j < bound; j += lanes) {
+                DoubleVector.fromArray(SPECIES, x, ri + j).intoArray(out, j * rows + i, scatter, 0);
+            }
+            for (; j < cols; ++j) {
+                out[j * rows + i] = x[ri + j];
+            }
+        }
+
+        return MatrixArrays.fromRowMajor(a, cols, rows, out);
+    }
+}